@@ -0,0 +1,67 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 목표가 알림 판정 벤치마크
+ * 한 종목에 규칙 n개를 두고, 기록된 시세 주변을 오르내리는 가격으로 AlertRuleIndex.evaluate를 호출합니다.
+ * 대부분의 틱은 교차한 규칙이 없고, 일부 틱에서 발송/재무장이 일어납니다.
+ */
+@State(Scope.Benchmark)
+public class AlertRuleIndexBenchmark {
+
+    private static final String SYMBOL = "KRW-BTC";
+    private static final long BASE_PRICE = 155_230_000L;
+    private static final int PRICES = 4096;
+
+    @Param({"10", "1000"})
+    private int rules;
+
+    private AlertRuleIndex index;
+    private long[] prices;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        // 현재가 ±5% 안에 목표가를 고르게 배치
+        List<AlertRule> alertRules = new ArrayList<>(rules);
+        for (int i = 0; i < rules; i++) {
+            AlertRule rule = new AlertRule();
+            rule.setId("rule-" + i);
+            rule.setSymbol(SYMBOL);
+            rule.setAssetType(AlertRule.AssetType.CRYPTO);
+            rule.setDirection(i % 2 == 0 ? AlertRule.Direction.UP : AlertRule.Direction.DOWN);
+            rule.setTargetPrice(FixedPoint.formatGrouped(BASE_PRICE + random.nextLong(-BASE_PRICE / 20, BASE_PRICE / 20), 0));
+            alertRules.add(rule);
+        }
+        index = new AlertRuleIndex(10);
+        index.load(alertRules);
+
+        // 틱마다 0.05% 안에서 움직이는 가격 경로
+        prices = new long[PRICES];
+        long price = BASE_PRICE;
+        for (int i = 0; i < PRICES; i++) {
+            price += random.nextLong(-BASE_PRICE / 2000, BASE_PRICE / 2000 + 1);
+            prices[i] = FixedPoint.rescale(price, 0, FixedPoint.PRICE_SCALE);
+        }
+    }
+
+    @Benchmark
+    public List<AlertRuleIndex.Transition> evaluate() {
+        long price = prices[next];
+        next = (next + 1) & (PRICES - 1);
+        return index.evaluate(SYMBOL, price);
+    }
+}
@@ -0,0 +1,74 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 암호화폐 조회 응답(ApiResponseDto&lt;List&lt;CryptoInfoDto&gt;&gt;) JSON 직렬화 벤치마크
+ */
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ApiResponseDto<List<CryptoInfoDto>> response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        writer = objectMapper.writer();
+
+        CryptoResponseDto[] tickers = objectMapper.readValue(BenchmarkFixtures.read(BenchmarkFixtures.UPBIT_TICKER), CryptoResponseDto[].class);
+        List<CryptoInfoDto> cryptoInfos = Arrays.stream(tickers)
+                .map(CryptoQuote::from)
+                .map(ApiResponseSerializationBenchmark::toCryptoInfo)
+                .toList();
+        response = ApiResponseDto.success(cryptoInfos, "암호화폐 정보 조회 성공");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    /**
+     * CryptoService와 같은 형식으로 응답 DTO를 채웁니다.
+     */
+    private static CryptoInfoDto toCryptoInfo(CryptoQuote quote) {
+        return CryptoInfoDto.builder()
+                .cryptoCode(quote.market())
+                .cryptoName(CryptoConstants.getCryptoName(quote.market()))
+                .tradePrice(FixedPoint.format(quote.tradePrice(), FixedPoint.PRICE_SCALE))
+                .changePrice(FixedPoint.format(quote.changePrice(), FixedPoint.PRICE_SCALE))
+                .changeRate(FixedPoint.formatFixed(FixedPoint.rescale(quote.changeRate(), FixedPoint.RATE_SCALE - 2, 2), 2))
+                .change(quote.change())
+                .openingPrice(FixedPoint.format(quote.openingPrice(), FixedPoint.PRICE_SCALE))
+                .highPrice(FixedPoint.format(quote.highPrice(), FixedPoint.PRICE_SCALE))
+                .lowPrice(FixedPoint.format(quote.lowPrice(), FixedPoint.PRICE_SCALE))
+                .tradeVolume(FixedPoint.format(quote.tradeVolume(), FixedPoint.VOLUME_SCALE))
+                .accTradePrice(FixedPoint.format(quote.accTradePrice(), FixedPoint.PRICE_SCALE))
+                .accTradePrice24h(quote.accTradePrice24h())
+                .accTradeVolume24h(quote.accTradeVolume24h())
+                .highest52WeekPrice(FixedPoint.format(quote.highest52WeekPrice(), FixedPoint.PRICE_SCALE))
+                .lowest52WeekPrice(FixedPoint.format(quote.lowest52WeekPrice(), FixedPoint.PRICE_SCALE))
+                .tradeTimeKst(quote.tradeTimeKst())
+                .targetPrice(CryptoConstants.getTargetPrice(quote.market()))
+                .targetPriceDirection(CryptoConstants.getTargetPriceDirection(quote.market()) != null ?
+                    CryptoConstants.getTargetPriceDirection(quote.market()).name() : null)
+                .build();
+    }
+}
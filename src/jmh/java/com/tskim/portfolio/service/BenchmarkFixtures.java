@@ -0,0 +1,41 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크용 기록된 업스트림 응답 (src/jmh/resources/fixtures)
+ * 네트워크 없이 실행되도록 업비트, 네이버, 기상청 응답 본문을 클래스패스에서 읽습니다.
+ */
+final class BenchmarkFixtures {
+
+    static final String UPBIT_TICKER = "upbit-ticker.json";
+    static final String NAVER_STOCK = "naver-stock.json";
+    // 기상청 예보 1000건 (발표 20261017 0500, 격자 60/127)
+    static final String KMA_FORECAST = "kma-forecast-1000.json";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 스프링 부트(WebClient 코덱, MVC 메시지 컨버터)와 같은 기본 설정의 ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static byte[] read(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 응답 파일이 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tskim.portfolio.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 기상청 예보 응답(1000건) 파싱 벤치마크
+ * 응답 앞쪽/뒤쪽 예보 시각을 찾는 경우를 비교합니다. (일치하지 않는 item은 문자열을 만들지 않음)
+ */
+@State(Scope.Benchmark)
+public class KmaForecastBenchmark {
+
+    @Param({"20261017 0600", "20261020 1700"})
+    private String fcst;
+
+    private byte[] body;
+    private String fcstDate;
+    private String fcstTime;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.read(BenchmarkFixtures.KMA_FORECAST);
+        String[] dateTime = fcst.split(" ");
+        fcstDate = dateTime[0];
+        fcstTime = dateTime[1];
+    }
+
+    @Benchmark
+    public KmaForecast parse() {
+        return KmaForecast.parse(body, fcstDate, fcstTime);
+    }
+}
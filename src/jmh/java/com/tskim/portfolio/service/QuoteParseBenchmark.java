@@ -0,0 +1,59 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import com.tskim.portfolio.dto.stock.StockResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+
+/**
+ * 시세 응답 파싱 벤치마크
+ * 업비트/네이버 응답 본문을 DTO로 읽고(WebClient 디코딩과 같은 ObjectMapper) 내부 고정소수점 시세로 변환하는 경로입니다.
+ */
+@State(Scope.Benchmark)
+public class QuoteParseBenchmark {
+
+    private ObjectReader upbitReader;
+    private ObjectReader naverReader;
+    private byte[] upbitTicker;
+    private byte[] naverStock;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        upbitReader = objectMapper.readerFor(CryptoResponseDto[].class);
+        naverReader = objectMapper.readerFor(StockResponseDto.class);
+        upbitTicker = BenchmarkFixtures.read(BenchmarkFixtures.UPBIT_TICKER);
+        naverStock = BenchmarkFixtures.read(BenchmarkFixtures.NAVER_STOCK);
+    }
+
+    /**
+     * 업비트 시세 응답 (5개 마켓) → CryptoQuote
+     */
+    @Benchmark
+    public void cryptoQuotes(Blackhole blackhole) throws IOException {
+        CryptoResponseDto[] responses = upbitReader.readValue(upbitTicker);
+        for (CryptoResponseDto response : responses) {
+            blackhole.consume(CryptoQuote.from(response));
+        }
+    }
+
+    /**
+     * 네이버 주식 응답 (3개 종목) → StockQuote
+     */
+    @Benchmark
+    public void stockQuotes(Blackhole blackhole) throws IOException {
+        StockResponseDto response = naverReader.readValue(naverStock);
+        for (StockResponseDto.StockData stockData : response.getDatas()) {
+            blackhole.consume(StockQuote.from(stockData));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tskim.portfolio.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 생성기
+ * 엔드포인트마다 1/rate 간격으로 예정된 시각에 응답을 기다리지 않고 요청을 보냅니다.
+ * 지연은 실제 발송 시각이 아니라 예정 발송 시각부터 측정하므로, 서버나 생성기가 밀려 늦게 보낸 요청의 대기 시간도 지연에 포함됩니다.
+ */
+@Slf4j
+final class ArrivalRateLoadGenerator {
+
+    private final HttpClient httpClient;
+    private final String targetUrl;
+    private final List<LoadTestConfig.Endpoint> endpoints;
+    private final Duration requestTimeout;
+
+    ArrivalRateLoadGenerator(HttpClient httpClient, String targetUrl, List<LoadTestConfig.Endpoint> endpoints, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.targetUrl = targetUrl;
+        this.endpoints = endpoints;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 주어진 시간 동안 부하를 주고, 보낸 요청이 모두 끝나면 엔드포인트별 결과를 반환합니다.
+     */
+    List<LatencyRecorder.Summary> run(Duration duration) throws InterruptedException {
+        int size = endpoints.size();
+        HttpRequest[] requests = new HttpRequest[size];
+        long[] intervals = new long[size];
+        long[] next = new long[size];
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        ConcurrentLinkedQueue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (int i = 0; i < size; i++) {
+            LoadTestConfig.Endpoint endpoint = endpoints.get(i);
+            requests[i] = HttpRequest.newBuilder(URI.create(targetUrl + endpoint.path()))
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+            intervals[i] = (long) (TimeUnit.SECONDS.toNanos(1) / endpoint.rate());
+            next[i] = start;
+            recorders.put(endpoint.name(), new LatencyRecorder(endpoint.name()));
+        }
+
+        while (true) {
+            int due = 0;
+            for (int i = 1; i < size; i++) {
+                if (next[i] < next[due]) {
+                    due = i;
+                }
+            }
+            long intendedAt = next[due];
+            if (intendedAt >= end) {
+                break;
+            }
+            long wait = intendedAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LatencyRecorder recorder = recorders.get(endpoints.get(due).name());
+            recorder.sent();
+            inFlight.add(httpClient.sendAsync(requests[due], HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> recorder.record(System.nanoTime() - intendedAt,
+                            error == null && response.statusCode() / 100 == 2)));
+            next[due] += intervals[due];
+        }
+
+        // 마지막으로 보낸 요청까지 응답(또는 제한 시간 초과)을 기다림
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .get(requestTimeout.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("응답을 받지 못한 요청이 남았습니다: {}", e.toString());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        recorders.values().forEach(recorder -> summaries.add(recorder.summarize(elapsed)));
+        return summaries;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tskim.portfolio.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기상청 초단기예보(getUltraSrtFcst) 스텁
+ * 발표 시각(base_date, base_time)부터 1시간 간격으로 예보 항목을 돌아가며 payload-items개를 응답합니다.
+ */
+class KmaStub extends UpstreamStub {
+
+    private static final List<String> CATEGORIES = List.of("T1H", "RN1", "SKY", "UUU", "VVV", "REH", "PTY", "LGT", "VEC", "WSD");
+    private static final DateTimeFormatter BASE = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmm");
+
+    KmaStub(LoadTestConfig.StubConfig config) {
+        super("kma", "/1360000/VilageFcstInfoService_2.0/getUltraSrtFcst", config);
+    }
+
+    @Override
+    protected byte[] body(String path, Map<String, String> query, int payloadItems) {
+        String baseDate = query.getOrDefault("base_date", "20260101");
+        String baseTime = query.getOrDefault("base_time", "0000");
+        String nx = query.getOrDefault("nx", "60");
+        String ny = query.getOrDefault("ny", "127");
+        LocalDateTime base = LocalDateTime.parse(baseDate + baseTime, BASE);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        StringBuilder json = new StringBuilder(160 * payloadItems)
+                .append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},")
+                .append("\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[");
+        for (int i = 0; i < payloadItems; i++) {
+            LocalDateTime fcst = base.plusHours(i / CATEGORIES.size());
+            String category = CATEGORIES.get(i % CATEGORIES.size());
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"baseDate\":\"").append(baseDate)
+                    .append("\",\"baseTime\":\"").append(baseTime)
+                    .append("\",\"category\":\"").append(category)
+                    .append("\",\"fcstDate\":\"").append(fcst.format(DATE))
+                    .append("\",\"fcstTime\":\"").append(fcst.format(TIME))
+                    .append("\",\"fcstValue\":\"").append(value(category, random))
+                    .append("\",\"nx\":").append(nx)
+                    .append(",\"ny\":").append(ny)
+                    .append('}');
+        }
+        return json.append("]},\"pageNo\":1,\"numOfRows\":").append(payloadItems)
+                .append(",\"totalCount\":").append(payloadItems).append("}}}")
+                .toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String value(String category, ThreadLocalRandom random) {
+        return switch (category) {
+            case "T1H" -> String.valueOf(random.nextInt(-5, 32));
+            case "RN1" -> random.nextInt(10) == 0 ? "1.0mm" : "강수없음";
+            case "SKY" -> String.valueOf(List.of(1, 3, 4).get(random.nextInt(3)));
+            case "PTY" -> random.nextInt(10) == 0 ? "1" : "0";
+            case "REH" -> String.valueOf(random.nextInt(30, 100));
+            case "VEC" -> String.valueOf(random.nextInt(360));
+            case "LGT" -> "0";
+            default -> String.format("%.1f", random.nextDouble(-5, 5));
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.tskim.portfolio.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 업스트림 응답 지연 분포 (로그정규분포)
+ * 중앙값과 p99로 모양을 정하며, 대부분의 응답은 중앙값 근처이고 일부가 긴 꼬리를 만듭니다.
+ */
+final class LatencyDistribution {
+
+    // 표준정규분포의 99번째 백분위수
+    private static final double Z_99 = 2.3263;
+
+    private final double medianNanos;
+    private final double sigma;
+
+    private LatencyDistribution(double medianNanos, double sigma) {
+        this.medianNanos = medianNanos;
+        this.sigma = sigma;
+    }
+
+    /**
+     * @param median 지연 중앙값
+     * @param p99 99번째 백분위 지연 (중앙값 이하이면 고정 지연)
+     */
+    static LatencyDistribution of(Duration median, Duration p99) {
+        double medianNanos = median.toNanos();
+        double sigma = medianNanos > 0 && p99.toNanos() > medianNanos
+                ? Math.log(p99.toNanos() / medianNanos) / Z_99
+                : 0;
+        return new LatencyDistribution(medianNanos, sigma);
+    }
+
+    long sampleNanos() {
+        if (sigma == 0) {
+            return (long) medianNanos;
+        }
+        return (long) (medianNanos * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("lognormal(median=%.1fms, p99=%.1fms)", medianNanos / 1e6, medianNanos * Math.exp(sigma * Z_99) / 1e6);
+    }
+}
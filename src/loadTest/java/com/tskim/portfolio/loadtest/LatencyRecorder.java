@@ -0,0 +1,71 @@
+package com.tskim.portfolio.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 엔드포인트별 응답 지연 기록
+ * 모든 지연을 그대로 보관했다가 끝난 뒤 정렬하여 정확한 백분위수를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private final String endpoint;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long sent;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void sent() {
+        sent++;
+    }
+
+    /**
+     * @param latencyNanos 예정 발송 시각부터 응답 완료까지의 시간
+     * @param success 2xx 응답 여부 (실패도 지연은 기록)
+     */
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * @param elapsedNanos 측정 구간 길이 (처리량 계산 기준)
+     */
+    synchronized Summary summarize(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint, sent, count, errors,
+                count * 1e9 / elapsedNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count > 0 ? sorted[count - 1] : 0);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 엔드포인트별 결과
+     *
+     * @param sent 보낸 요청 수
+     * @param completed 응답을 받은 (또는 실패가 확정된) 요청 수
+     * @param errors 2xx가 아닌 응답, 연결 오류, 제한 시간 초과
+     * @param throughput 초당 완료 수
+     */
+    record Summary(String endpoint, long sent, long completed, long errors, double throughput,
+                   long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.tskim.portfolio.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ * 클래스패스의 loadtest.properties를 기본값으로 읽고, 같은 이름의 시스템 프로퍼티로 덮어씁니다.
+ */
+record LoadTestConfig(
+        String targetUrl,
+        String mongodbUri,
+        Duration warmup,
+        Duration duration,
+        Duration requestTimeout,
+        List<Endpoint> endpoints,
+        int schedules,
+        int scheduleGrids,
+        StubConfig upbit,
+        StubConfig naver,
+        StubConfig kma) {
+
+    /**
+     * @param name 엔드포인트 이름 (리포트 행 이름)
+     * @param path 요청 경로 ({yearMonth}는 이번 달로 치환)
+     * @param rate 초당 요청 수
+     */
+    record Endpoint(String name, String path, double rate) {
+    }
+
+    /**
+     * @param errorRate HTTP 500으로 응답할 비율 (0~1)
+     * @param payloadItems 응답 크기 (업스트림별 item 수)
+     */
+    record StubConfig(LatencyDistribution latency, double errorRate, int payloadItems) {
+    }
+
+    static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest."))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String name : required(properties, "loadtest.endpoints").split(",")) {
+            String endpoint = name.trim();
+            endpoints.add(new Endpoint(endpoint,
+                    required(properties, "loadtest.endpoint." + endpoint + ".path"),
+                    Double.parseDouble(required(properties, "loadtest.endpoint." + endpoint + ".rate"))));
+        }
+
+        return new LoadTestConfig(
+                properties.getProperty("loadtest.target-url", "").trim(),
+                required(properties, "loadtest.mongodb-uri"),
+                duration(properties, "loadtest.warmup"),
+                duration(properties, "loadtest.duration"),
+                duration(properties, "loadtest.request-timeout"),
+                List.copyOf(endpoints),
+                Integer.parseInt(required(properties, "loadtest.schedules")),
+                Integer.parseInt(required(properties, "loadtest.schedule-grids")),
+                stub(properties, "upbit"),
+                stub(properties, "naver"),
+                stub(properties, "kma"));
+    }
+
+    private static StubConfig stub(Properties properties, String name) {
+        String prefix = "loadtest.stub." + name + ".";
+        return new StubConfig(
+                LatencyDistribution.of(duration(properties, prefix + "latency.median"), duration(properties, prefix + "latency.p99")),
+                Double.parseDouble(required(properties, prefix + "error-rate")),
+                Integer.parseInt(required(properties, prefix + "payload-items")));
+    }
+
+    private static Duration duration(Properties properties, String name) {
+        return DurationStyle.detectAndParse(required(properties, name));
+    }
+
+    private static String required(Properties properties, String name) {
+        String value = properties.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("부하 테스트 설정이 없습니다: " + name);
+        }
+        return value.trim();
+    }
+}
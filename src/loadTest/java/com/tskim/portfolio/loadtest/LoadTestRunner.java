@@ -0,0 +1,195 @@
+package com.tskim.portfolio.loadtest;
+
+import com.tskim.portfolio.StartApplication;
+import com.tskim.portfolio.entity.RunningSchedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 업스트림 스텁을 사용하는 종단 간 부하 테스트
+ * 업비트, 네이버, 기상청 스텁 서버를 띄우고 애플리케이션을 스텁에 연결해 기동한 뒤(또는 loadtest.target-url의 서버를 대상으로),
+ * 러닝 스케줄을 등록하고 엔드포인트별 고정 도착률로 부하를 주어 p50/p99/p999 지연과 처리량을 출력합니다.
+ *
+ * <pre>
+ * ./gradlew loadTest
+ * ./gradlew loadTest -Ploadtest.duration=2m -Ploadtest.endpoint.crypto.rate=500 -Ploadtest.stub.kma.error-rate=0.2
+ * </pre>
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        YearMonth yearMonth = YearMonth.now(KST);
+
+        try (UpbitStub upbit = new UpbitStub(config.upbit());
+             NaverStub naver = new NaverStub(config.naver());
+             KmaStub kma = new KmaStub(config.kma())) {
+            upbit.start();
+            naver.start();
+            kma.start();
+            Map<String, String> upstreamProperties = upstreamProperties(upbit, naver, kma);
+
+            ConfigurableApplicationContext application = null;
+            String targetUrl = config.targetUrl();
+            if (targetUrl.isEmpty()) {
+                application = startApplication(config, upstreamProperties);
+                targetUrl = "http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port");
+                clearSchedules(application, yearMonth);
+            } else {
+                log.info("외부 서버 대상 부하 테스트: {} (스텁을 사용하려면 서버를 다음 설정으로 기동: {})", targetUrl, upstreamProperties);
+            }
+
+            try {
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .connectTimeout(Duration.ofSeconds(2))
+                        .build();
+
+                seedSchedules(httpClient, targetUrl, config, yearMonth);
+
+                List<LoadTestConfig.Endpoint> endpoints = new ArrayList<>();
+                for (LoadTestConfig.Endpoint endpoint : config.endpoints()) {
+                    endpoints.add(new LoadTestConfig.Endpoint(endpoint.name(),
+                            endpoint.path().replace("{yearMonth}", yearMonth.format(DateTimeFormatter.ofPattern("yyyyMM"))),
+                            endpoint.rate()));
+                }
+                ArrivalRateLoadGenerator generator = new ArrivalRateLoadGenerator(httpClient, targetUrl, endpoints, config.requestTimeout());
+
+                log.info("워밍업 {} (결과 제외)", config.warmup());
+                generator.run(config.warmup());
+
+                log.info("부하 테스트 {}: {}", config.duration(), endpoints);
+                long upstreamRequestsBefore = upbit.requests() + naver.requests() + kma.requests();
+                List<LatencyRecorder.Summary> summaries = generator.run(config.duration());
+                long upstreamRequests = upbit.requests() + naver.requests() + kma.requests() - upstreamRequestsBefore;
+
+                printReport(config, summaries, List.of(upbit, naver, kma), upstreamRequests);
+            } finally {
+                if (application != null) {
+                    application.close();
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 업스트림 URL을 스텁으로 바꾸는 애플리케이션 설정
+     */
+    private static Map<String, String> upstreamProperties(UpbitStub upbit, NaverStub naver, KmaStub kma) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("crypto.api.ticker-url", upbit.baseUrl());
+        properties.put("stock.api.base-url", naver.baseUrl());
+        properties.put("weather.api.base-url", kma.baseUrl());
+        properties.put("weather.api.service-key", "loadtest");
+        // 웹소켓 시세 대신 REST 경로(업비트 스텁)를 사용
+        properties.put("crypto.websocket.enabled", "false");
+        return properties;
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, Map<String, String> upstreamProperties) {
+        Map<String, String> properties = new LinkedHashMap<>(upstreamProperties);
+        properties.put("spring.data.mongodb.uri", config.mongodbUri());
+        properties.put("server.port", "0");
+        // 이전 실행의 스냅샷으로 응답하지 않도록 워밍 스타트 비활성화
+        properties.put("snapshot.enabled", "false");
+        // 요청별 로그가 측정에 영향을 주지 않도록 경고 이상만 출력
+        properties.put("logging.level.com.tskim.portfolio", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.com.tskim.portfolio.loadtest", "INFO");
+
+        log.info("애플리케이션 기동: MongoDB={}", config.mongodbUri());
+        // application.yml보다 우선하도록 명령행 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(StartApplication.class).run(args);
+    }
+
+    /**
+     * 이전 실행에서 등록한 이번 달 스케줄을 지웁니다. (같은 JVM에서 기동한 경우에만, 부하 테스트 전용 DB 사용)
+     */
+    private static void clearSchedules(ConfigurableApplicationContext application, YearMonth yearMonth) {
+        String month = yearMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        try {
+            long removed = application.getBean(MongoTemplate.class)
+                    .remove(new Query(Criteria.where("yearMonth").is(month)), RunningSchedule.class)
+                    .getDeletedCount();
+            log.info("이전 부하 테스트 스케줄 삭제: {} {}건", month, removed);
+        } catch (Exception e) {
+            log.warn("이전 부하 테스트 스케줄 삭제 실패 (MongoDB 연결 확인 필요): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이번 달에 러닝 스케줄을 등록합니다. 격자 좌표와 시작 시각을 몇 가지로 나눠 날씨 조회가 묶이는 경우와 아닌 경우를 섞습니다.
+     */
+    private static void seedSchedules(HttpClient httpClient, String targetUrl, LoadTestConfig config, YearMonth yearMonth) throws Exception {
+        int created = 0;
+        for (int i = 0; i < config.schedules(); i++) {
+            int grid = i % config.scheduleGrids();
+            String date = yearMonth.atDay(i % yearMonth.lengthOfMonth() + 1).format(DateTimeFormatter.BASIC_ISO_DATE);
+            int hour = 6 + i % 3;
+            String body = String.format("""
+                    {"title":"부하 테스트 %d","date":"%s","startTime":"%02d00","endTime":"%02d00",\
+                    "x":%d,"y":%d,"placeName":"부하 테스트 장소 %d"}""",
+                    i, date, hour, hour + 1, 55 + grid, 120 + grid, grid);
+
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(targetUrl + "/api/schedules/running"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 == 2) {
+                created++;
+            } else if (created == i) {
+                // 처음 실패한 응답만 출력
+                log.warn("러닝 스케줄 등록 실패: status={}, body={}", response.statusCode(), response.body());
+            }
+        }
+        log.info("러닝 스케줄 등록: {} {}/{}건", yearMonth, created, config.schedules());
+    }
+
+    private static void printReport(LoadTestConfig config, List<LatencyRecorder.Summary> summaries,
+                                    List<UpstreamStub> stubs, long upstreamRequests) {
+        StringBuilder report = new StringBuilder("\n부하 테스트 결과 (").append(config.duration()).append(")\n");
+        report.append(String.format("%-12s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "sent", "done", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        for (LatencyRecorder.Summary summary : summaries) {
+            report.append(String.format("%-12s %8d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    summary.endpoint(), summary.sent(), summary.completed(), summary.errors(), summary.throughput(),
+                    summary.p50Nanos() / 1e6, summary.p99Nanos() / 1e6, summary.p999Nanos() / 1e6, summary.maxNanos() / 1e6));
+        }
+
+        report.append("\n업스트림 스텁 (워밍업 포함 누적)\n");
+        for (UpstreamStub stub : stubs) {
+            report.append(String.format("%-12s requests=%d, injected errors=%d%n", stub.name(), stub.requests(), stub.errors()));
+        }
+        report.append("측정 구간 업스트림 호출 수: ").append(upstreamRequests).append('\n');
+
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,81 @@
+package com.tskim.portfolio.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 네이버 주식 시세(GET /api/realtime/domestic/stock/{종목코드,...}) 스텁
+ * 요청한 종목마다 임의의 시세를 응답하고, payload-items만큼 다른 종목을 덧붙입니다.
+ */
+class NaverStub extends UpstreamStub {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    NaverStub(LoadTestConfig.StubConfig config) {
+        super("naver", "/api/realtime/domestic/stock", config);
+    }
+
+    @Override
+    protected byte[] body(String path, Map<String, String> query, int payloadItems) {
+        List<String> itemCodes = new ArrayList<>(List.of(path.replace("/", "").split(",")));
+        for (int i = 0; i < payloadItems; i++) {
+            itemCodes.add(String.format("9%05d", i));
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(KST);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        DecimalFormat grouped = new DecimalFormat("#,###");
+
+        StringBuilder json = new StringBuilder(1200 * itemCodes.size())
+                .append("{\"pollingInterval\":7000,\"datas\":[");
+        boolean first = true;
+        for (String itemCode : itemCodes) {
+            if (itemCode.isEmpty()) {
+                continue;
+            }
+            long prevClose = 10_000L + Math.floorMod(itemCode.hashCode(), 200_000) / 100 * 100;
+            long price = prevClose + random.nextLong(-prevClose / 100, prevClose / 100 + 1) / 100 * 100;
+            long change = price - prevClose;
+            String direction = change > 0 ? "RISING" : change < 0 ? "FALLING" : "UNCHANGED";
+            String directionCode = change > 0 ? "2" : change < 0 ? "5" : "3";
+
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"itemCode\":\"").append(itemCode).append('"')
+                    .append(",\"stockName\":\"스텁").append(itemCode).append('"')
+                    .append(",\"closePrice\":\"").append(grouped.format(price)).append('"')
+                    .append(",\"compareToPreviousClosePrice\":\"").append(grouped.format(change)).append('"')
+                    .append(",\"compareToPreviousPrice\":{\"code\":\"").append(directionCode).append("\",\"text\":\"\",\"name\":\"").append(direction).append("\"}")
+                    .append(",\"fluctuationsRatio\":\"").append(String.format("%.2f", change * 100.0 / prevClose)).append('"')
+                    .append(",\"openPrice\":\"").append(grouped.format(prevClose)).append('"')
+                    .append(",\"highPrice\":\"").append(grouped.format(Math.max(price, prevClose) + 100)).append('"')
+                    .append(",\"lowPrice\":\"").append(grouped.format(Math.min(price, prevClose) - 100)).append('"')
+                    .append(",\"accumulatedTradingVolume\":\"").append(grouped.format(random.nextLong(100_000, 20_000_000))).append('"')
+                    .append(",\"accumulatedTradingValue\":\"").append(grouped.format(random.nextLong(10_000, 1_000_000))).append("백만\"")
+                    .append(",\"marketStatus\":\"OPEN\"")
+                    .append(",\"localTradedAt\":\"").append(now.withNano(0)).append('"')
+                    .append(",\"currencyType\":{\"code\":\"KRW\",\"text\":\"한국 원\",\"name\":\"KRW\"}")
+                    .append(",\"stockExchangeType\":{\"code\":\"KS\",\"zoneId\":\"Asia/Seoul\",\"nationType\":\"KOR\",\"delayTime\":0,")
+                    .append("\"startTime\":\"0900\",\"endTime\":\"1530\",\"closePriceSendTime\":\"1630\",\"nameKor\":\"코스피\",")
+                    .append("\"nameEng\":\"KOSPI\",\"stockType\":\"domestic\",\"nationCode\":\"KOR\",\"nationName\":\"대한민국\",\"name\":\"KOSPI\"}")
+                    .append(",\"tradeStopType\":{\"code\":\"1\",\"text\":\"운영\",\"name\":\"TRADING\"}")
+                    .append(",\"overMarketPriceInfo\":null")
+                    .append(",\"isinCode\":\"KR7").append(itemCode).append("003\"")
+                    .append(",\"myDataCode\":null,\"stockEndUrl\":null")
+                    .append(",\"symbolCode\":\"").append(itemCode).append('"')
+                    .append('}');
+        }
+        return json.append("],\"time\":\"").append(now.format(TIME)).append("\"}")
+                .toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tskim.portfolio.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 업비트 시세(GET /v1/ticker?markets=) 스텁
+ * 요청한 마켓마다 임의의 시세를 응답하고, payload-items만큼 다른 마켓을 덧붙입니다.
+ */
+class UpbitStub extends UpstreamStub {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss");
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    UpbitStub(LoadTestConfig.StubConfig config) {
+        super("upbit", "/v1/ticker", config);
+    }
+
+    @Override
+    protected byte[] body(String path, Map<String, String> query, int payloadItems) {
+        List<String> markets = new ArrayList<>(List.of(query.getOrDefault("markets", "").split(",")));
+        for (int i = 0; i < payloadItems; i++) {
+            markets.add("KRW-STUB" + i);
+        }
+
+        Instant now = Instant.now();
+        ZonedDateTime utc = now.atZone(ZoneOffset.UTC);
+        ZonedDateTime kst = now.atZone(KST);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        StringBuilder json = new StringBuilder(400 * markets.size()).append('[');
+        for (String market : markets) {
+            if (market.isEmpty()) {
+                continue;
+            }
+            long prevClose = basePrice(market);
+            long price = prevClose + random.nextLong(-prevClose / 50, prevClose / 50 + 1);
+            long change = price - prevClose;
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"market\":\"").append(market).append('"')
+                    .append(",\"trade_date\":\"").append(utc.format(DATE)).append('"')
+                    .append(",\"trade_time\":\"").append(utc.format(TIME)).append('"')
+                    .append(",\"trade_date_kst\":\"").append(kst.format(DATE)).append('"')
+                    .append(",\"trade_time_kst\":\"").append(kst.format(TIME)).append('"')
+                    .append(",\"trade_timestamp\":").append(now.toEpochMilli())
+                    .append(",\"opening_price\":").append(prevClose)
+                    .append(",\"high_price\":").append(Math.max(price, prevClose) + prevClose / 200)
+                    .append(",\"low_price\":").append(Math.min(price, prevClose) - prevClose / 200)
+                    .append(",\"trade_price\":").append(price)
+                    .append(",\"prev_closing_price\":").append(prevClose)
+                    .append(",\"change\":\"").append(change > 0 ? "RISE" : change < 0 ? "FALL" : "EVEN").append('"')
+                    .append(",\"change_price\":").append(Math.abs(change))
+                    .append(",\"change_rate\":").append((double) Math.abs(change) / prevClose)
+                    .append(",\"signed_change_price\":").append(change)
+                    .append(",\"signed_change_rate\":").append((double) change / prevClose)
+                    .append(",\"trade_volume\":").append(random.nextDouble(0.0001, 2))
+                    .append(",\"acc_trade_price\":").append(random.nextDouble(1e10, 1e11))
+                    .append(",\"acc_trade_price_24h\":").append(random.nextDouble(1e11, 5e11))
+                    .append(",\"acc_trade_volume\":").append(random.nextDouble(100, 2000))
+                    .append(",\"acc_trade_volume_24h\":").append(random.nextDouble(1000, 5000))
+                    .append(",\"highest_52_week_price\":").append(prevClose * 6 / 5)
+                    .append(",\"highest_52_week_date\":\"2026-08-14\"")
+                    .append(",\"lowest_52_week_price\":").append(prevClose * 3 / 5)
+                    .append(",\"lowest_52_week_date\":\"2025-11-21\"")
+                    .append(",\"timestamp\":").append(now.toEpochMilli())
+                    .append('}');
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long basePrice(String market) {
+        return switch (market) {
+            case "KRW-BTC" -> 155_000_000L;
+            case "KRW-ETH" -> 5_400_000L;
+            case "KRW-XRP" -> 3_700L;
+            default -> 10_000L + Math.floorMod(market.hashCode(), 100_000);
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.tskim.portfolio.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 업스트림 스텁 서버
+ * 요청마다 설정한 분포로 지연한 뒤, 설정한 비율로 HTTP 500을 응답하고 나머지는 업스트림과 같은 형식의 본문을 응답합니다.
+ * 요청은 가상 스레드에서 처리하므로 지연 중인 요청 수에 제한이 없습니다.
+ */
+@Slf4j
+abstract class UpstreamStub implements AutoCloseable {
+
+    private final String name;
+    private final String contextPath;
+    private final LoadTestConfig.StubConfig config;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    protected UpstreamStub(String name, String contextPath, LoadTestConfig.StubConfig config) {
+        this.name = name;
+        this.contextPath = contextPath;
+        this.config = config;
+    }
+
+    /**
+     * 응답 본문을 만듭니다.
+     *
+     * @param path 요청 경로 (contextPath 이후)
+     * @param query 쿼리 파라미터
+     * @param payloadItems 설정한 응답 크기
+     */
+    protected abstract byte[] body(String path, Map<String, String> query, int payloadItems);
+
+    void start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext(contextPath, this::handle);
+        server.start();
+        log.info("업스트림 스텁 기동: {} {} {}, 오류율={}, 응답 크기={}", name, baseUrl(), config.latency(), config.errorRate(), config.payloadItems());
+    }
+
+    /**
+     * 스텁의 기본 URL (contextPath 포함)
+     */
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + contextPath;
+    }
+
+    String name() {
+        return name;
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+
+            long delayNanos = config.latency().sampleNanos();
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+
+            byte[] response;
+            int status;
+            if (ThreadLocalRandom.current().nextDouble() < config.errorRate()) {
+                errors.incrementAndGet();
+                status = 500;
+                response = "{\"error\":{\"name\":\"stub_error\",\"message\":\"injected failure\"}}".getBytes(StandardCharsets.UTF_8);
+            } else {
+                status = 200;
+                String path = exchange.getRequestURI().getPath().substring(contextPath.length());
+                response = body(path, parseQuery(exchange.getRequestURI().getRawQuery()), config.payloadItems());
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
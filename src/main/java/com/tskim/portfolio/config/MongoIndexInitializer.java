@@ -0,0 +1,85 @@
+package com.tskim.portfolio.config;
+
+import com.tskim.portfolio.entity.RunningSchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 기동 직후 엔티티에 선언된 인덱스(@CompoundIndex, @Indexed)를 생성하고 검증합니다.
+ * 이미 있는 인덱스는 그대로 두며(ensureIndex), 같은 키가 다른 이름·옵션으로 있어 생성하지 못한 인덱스는 경고로 남깁니다.
+ * MongoDB 연결이 느려도 기동을 막지 않도록 별도 가상 스레드에서 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    // 인덱스를 관리하는 엔티티
+    private static final List<Class<?>> MANAGED_ENTITIES = List.of(RunningSchedule.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @Value("${mongo.indexes.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.debug("MongoDB 인덱스 생성 비활성화");
+            return;
+        }
+        Thread.ofVirtual().name("mongo-index-init").start(this::ensureIndexes);
+    }
+
+    /**
+     * 관리 대상 엔티티의 인덱스를 생성하고, 생성 후 컬렉션에 없는 인덱스를 경고합니다.
+     */
+    void ensureIndexes() {
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        for (Class<?> entityClass : MANAGED_ENTITIES) {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+                List<String> declared = new ArrayList<>();
+                for (IndexDefinition index : indexResolver.resolveIndexFor(entityClass)) {
+                    declared.add(index.getIndexOptions().getString("name"));
+                    try {
+                        indexOps.ensureIndex(index);
+                    } catch (Exception e) {
+                        log.warn("MongoDB 인덱스 생성 실패: {} {}, 오류={}", entityClass.getSimpleName(), index.getIndexKeys(), e.getMessage());
+                    }
+                }
+
+                Set<String> existing = indexOps.getIndexInfo().stream()
+                        .map(IndexInfo::getName)
+                        .collect(Collectors.toSet());
+                List<String> missing = declared.stream().filter(name -> !existing.contains(name)).toList();
+                if (missing.isEmpty()) {
+                    log.info("MongoDB 인덱스 확인 완료: {} {}", entityClass.getSimpleName(), declared);
+                } else {
+                    log.warn("MongoDB 인덱스 누락: {} {}", entityClass.getSimpleName(), missing);
+                }
+
+            } catch (Exception e) {
+                log.warn("MongoDB 인덱스 확인 실패: {}, 오류={}", entityClass.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
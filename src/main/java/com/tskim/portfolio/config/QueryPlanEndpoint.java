@@ -0,0 +1,239 @@
+package com.tskim.portfolio.config;
+
+import com.mongodb.ExplainVerbosity;
+import com.tskim.portfolio.dto.mongo.QueryPlanDto;
+import com.tskim.portfolio.entity.RunningSchedule;
+import com.tskim.portfolio.repository.ReactiveRunningScheduleRepository;
+import com.tskim.portfolio.repository.RunningScheduleRepository;
+import com.tskim.portfolio.service.RunningScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoParametersParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
+import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.ReactivePartTreeMongoQuery;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ReactiveQueryMethodEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 리포지토리 조회별 MongoDB 실행 계획 확인 엔드포인트 (/actuator/queryplans, 기본 노출 목록에 없으므로 필요할 때
+ * management.endpoints.web.exposure.include에 queryplans를 추가)
+ * 러닝 스케줄 리포지토리의 조회 메서드는 Spring Data가 메서드 이름으로 만드는 쿼리를 그대로 만들어서,
+ * 페이지 조회(keyset)와 내보내기는 RunningScheduleService의 쿼리를 그대로 사용해서 explain(queryPlanner)하므로
+ * 조회 코드와 어긋나지 않습니다. 선택된 실행 계획의 단계와 사용 인덱스를 보여주고, 컬렉션 전체 스캔(COLLSCAN)으로 실행되는 조회를 표시합니다.
+ */
+@Component
+@Endpoint(id = "queryplans")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanEndpoint {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int PAGE_LIMIT = 20;
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+    private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+    private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoOperations reactiveMongoOperations;
+
+    @ReadOperation
+    public Map<String, Object> queryPlans() {
+        LocalDate today = LocalDate.now(KST);
+        String date = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String endDate = today.plusMonths(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+        String yearMonth = today.format(DateTimeFormatter.ofPattern("yyyyMM"));
+
+        // 조회 코드와 같은 쿼리 (값은 오늘 기준 예시)
+        List<QueryPlanDto> plans = List.of(
+                explainDerived(ReactiveRunningScheduleRepository.class, "findByDate", date),
+                explainDerived(ReactiveRunningScheduleRepository.class, "findByDateBetween", date, endDate),
+                explainDerived(ReactiveRunningScheduleRepository.class, "findByYearMonthOrderByDateAsc", yearMonth),
+                explainDerived(RunningScheduleRepository.class, "findByDate", date),
+                explain("RunningScheduleService.getSchedulePageByDateRange (첫 페이지)", RunningSchedule.class,
+                        () -> RunningScheduleService.pageQuery(date, endDate, null, null, PAGE_LIMIT + 1)),
+                explain("RunningScheduleService.getSchedulePageByDateRange (다음 페이지)", RunningSchedule.class,
+                        () -> RunningScheduleService.pageQuery(date, endDate, date, new ObjectId().toHexString(), PAGE_LIMIT + 1)),
+                explain("RunningScheduleService.streamSchedulesByDateRange", RunningSchedule.class,
+                        () -> RunningScheduleService.exportQuery(date, endDate)));
+
+        long collectionScans = plans.stream().filter(QueryPlanDto::isCollectionScan).count();
+        if (collectionScans > 0) {
+            log.warn("COLLSCAN으로 실행되는 조회: {}", plans.stream()
+                    .filter(QueryPlanDto::isCollectionScan)
+                    .map(QueryPlanDto::getQuery)
+                    .toList());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("collectionScans", collectionScans);
+        result.put("queries", plans);
+        return result;
+    }
+
+    /**
+     * 리포지토리 조회 메서드의 실행 계획을 조회합니다.
+     */
+    private QueryPlanDto explainDerived(Class<?> repositoryInterface, String methodName, Object... args) {
+        return explain(repositoryInterface.getSimpleName() + "." + methodName,
+                AbstractRepositoryMetadata.getMetadata(repositoryInterface).getDomainType(),
+                () -> derivedQuery(repositoryInterface, methodName, args));
+    }
+
+    /**
+     * 리포지토리 조회 메서드의 쿼리를 Spring Data가 메서드 이름으로 만드는 것과 같은 방법으로 만듭니다 (실행하지 않음).
+     */
+    Query derivedQuery(Class<?> repositoryInterface, String methodName, Object... args) {
+        RepositoryMetadata metadata = AbstractRepositoryMetadata.getMetadata(repositoryInterface);
+        Method method = Arrays.stream(repositoryInterface.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName) && candidate.getParameterCount() == args.length)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("조회 메서드를 찾을 수 없습니다: " + methodName));
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+
+        if (metadata.isReactiveRepository()) {
+            return new DerivedReactiveQuery(new ReactiveMongoQueryMethod(method, metadata, PROJECTION_FACTORY, mappingContext),
+                    reactiveMongoOperations).create(args);
+        }
+        return new DerivedQuery(new MongoQueryMethod(method, metadata, PROJECTION_FACTORY, mappingContext), mongoTemplate)
+                .create(args);
+    }
+
+    /**
+     * 쿼리의 실행 계획을 조회합니다. 필드 이름(id → _id 등)은 MongoTemplate과 같이 매핑합니다.
+     */
+    private QueryPlanDto explain(String name, Class<?> entityClass, Supplier<Query> querySupplier) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        QueryPlanDto.QueryPlanDtoBuilder plan = QueryPlanDto.builder()
+                .query(name)
+                .collection(collection);
+
+        try {
+            Query query = querySupplier.get();
+            MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass);
+            QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+            Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+            Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+            plan.filter(filter.toJson()).sort(sort.toJson());
+
+            Document explain = mongoTemplate.getCollection(collection)
+                    .find(filter)
+                    .sort(sort)
+                    .limit(query.getLimit())
+                    .explain(ExplainVerbosity.QUERY_PLANNER);
+
+            Document queryPlanner = explain.get("queryPlanner", Document.class);
+            Document winningPlan = queryPlanner != null ? queryPlanner.get("winningPlan", Document.class) : null;
+            List<String> stages = new ArrayList<>();
+            List<String> indexes = new ArrayList<>();
+            collectStages(winningPlan, stages, indexes);
+
+            return plan.stages(stages)
+                    .indexes(indexes)
+                    .collectionScan(stages.contains("COLLSCAN"))
+                    .build();
+
+        } catch (Exception e) {
+            log.warn("실행 계획 조회 실패: {}, 오류={}", name, e.getMessage());
+            return plan.error(e.getMessage()).build();
+        }
+    }
+
+    /**
+     * 실행 계획 트리를 바깥 단계부터 따라가며 단계 이름과 인덱스 이름을 모읍니다.
+     * 슬롯 기반 엔진(SBE) 응답은 winningPlan.queryPlan 아래에 같은 트리가 있습니다.
+     */
+    static void collectStages(Document node, List<String> stages, List<String> indexes) {
+        if (node == null) {
+            return;
+        }
+        if (node.get("queryPlan") instanceof Document queryPlan) {
+            collectStages(queryPlan, stages, indexes);
+            return;
+        }
+
+        if (node.get("stage") instanceof String stage) {
+            stages.add(stage);
+        }
+        if (node.get("indexName") instanceof String indexName) {
+            indexes.add(indexName);
+        }
+        if (node.get("inputStage") instanceof Document inputStage) {
+            collectStages(inputStage, stages, indexes);
+        }
+        if (node.get("inputStages") instanceof List<?> inputStages) {
+            for (Object inputStage : inputStages) {
+                if (inputStage instanceof Document child) {
+                    collectStages(child, stages, indexes);
+                }
+            }
+        }
+    }
+
+    /**
+     * 메서드 이름 기반 쿼리 (리포지토리 프록시가 실행하는 것과 같은 쿼리를 실행 없이 만듦)
+     */
+    private static final class DerivedQuery extends PartTreeMongoQuery {
+
+        private final MongoConverter converter;
+
+        DerivedQuery(MongoQueryMethod method, MongoOperations operations) {
+            super(method, operations, EXPRESSION_PARSER, QueryMethodEvaluationContextProvider.DEFAULT);
+            this.converter = operations.getConverter();
+        }
+
+        Query create(Object... args) {
+            return createQuery(new ConvertingParameterAccessor(converter, new MongoParametersParameterAccessor(getQueryMethod(), args)));
+        }
+    }
+
+    /**
+     * 리액티브 리포지토리의 메서드 이름 기반 쿼리
+     */
+    private static final class DerivedReactiveQuery extends ReactivePartTreeMongoQuery {
+
+        private final MongoConverter converter;
+
+        DerivedReactiveQuery(ReactiveMongoQueryMethod method, ReactiveMongoOperations operations) {
+            super(method, operations, EXPRESSION_PARSER, ReactiveQueryMethodEvaluationContextProvider.DEFAULT);
+            this.converter = operations.getConverter();
+        }
+
+        Query create(Object... args) {
+            return createQuery(new ConvertingParameterAccessor(converter, new MongoParametersParameterAccessor(getQueryMethod(), args)))
+                    .block();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.tskim.portfolio.config;
+
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.constants.StockConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션 기동 직후 업스트림(업비트, 네이버, 기상청) 커넥션 풀을 미리 채웁니다.
+ * 첫 요청이 TCP/TLS 핸드셰이크 비용을 치르지 않도록 keep-alive 커넥션을 확보해 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpstreamWarmupRunner {
+
+    private final WebClient upbitWebClient;
+    private final WebClient naverWebClient;
+    private final WebClient weatherWebClient;
+
+    @Value("${upstream.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upstream.warmup.connections:2}")
+    private int connections;
+
+    @Value("${upstream.warmup.timeout:5s}")
+    private Duration timeout;
+
+    @Value("${crypto.api.ticker-url:" + CryptoConstants.UPBIT_TICKER_URL + "}")
+    private String upbitTickerUrl;
+
+    @Value("${stock.api.base-url:" + StockConstants.NAVER_STOCK_API_BASE_URL + "}")
+    private String naverBaseUrl;
+
+    @Value("${weather.api.base-url}")
+    private String weatherBaseUrl;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.debug("업스트림 커넥션 워밍업 비활성화");
+            return;
+        }
+
+        String upbitUrl = upbitTickerUrl + "?markets=" + CryptoConstants.INTERESTED_CRYPTOS;
+        String naverUrl = naverBaseUrl + "/" + StockConstants.HOLDING_STOCKS.get(0);
+        String weatherUrl = UriComponentsBuilder.fromUriString(weatherBaseUrl)
+                .replacePath("/")
+                .replaceQuery(null)
+                .toUriString();
+
+        warmUp("upbit", upbitWebClient, upbitUrl);
+        warmUp("naver", naverWebClient, naverUrl);
+        warmUp("kma", weatherWebClient, weatherUrl);
+    }
+
+    /**
+     * 동시 요청을 보내 커넥션을 여러 개 맺어둡니다. 응답 코드와 관계없이 커넥션은 풀로 반환됩니다.
+     */
+    private void warmUp(String name, WebClient webClient, String url) {
+        Flux.range(0, connections)
+                .flatMap(i -> webClient.get()
+                        .uri(url)
+                        .exchangeToMono(response -> response.releaseBody())
+                        .timeout(timeout)
+                        .onErrorResume(e -> {
+                            log.debug("업스트림 커넥션 워밍업 실패: {}, 오류={}", name, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .then()
+                .subscribe(null, null, () -> log.info("업스트림 커넥션 워밍업 완료: {} ({}개)", name, connections));
+    }
+}
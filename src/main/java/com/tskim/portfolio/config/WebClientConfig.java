@@ -1,14 +1,122 @@
 package com.tskim.portfolio.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
-    
+
+    @Value("${upstream.pool.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${upstream.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${upstream.pool.pending-acquire-timeout:3s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${upstream.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${upstream.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${upstream.pool.evict-interval:15s}")
+    private Duration evictInterval;
+
+    @Value("${upstream.connect-timeout:2s}")
+    private Duration connectTimeout;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    /**
+     * 업비트 API 전용 WebClient (api.upbit.com 커넥션 풀 사용)
+     */
+    @Bean
+    public WebClient upbitWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(createHttpClient("upbit")))
+                .build();
+    }
+
+    /**
+     * 네이버 주식 API 전용 WebClient (polling.finance.naver.com 커넥션 풀 사용)
+     */
+    @Bean
+    public WebClient naverWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(createHttpClient("naver")))
+                .build();
+    }
+
+    /**
+     * 기상청 API 전용 WebClient (apis.data.go.kr 커넥션 풀 사용)
+     */
+    @Bean
+    public WebClient weatherWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(createHttpClient("kma")))
+                .build();
+    }
+
+    /**
+     * 카카오톡 메시지 API 전용 WebClient (kapi.kakao.com 커넥션 풀 사용)
+     */
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(createHttpClient("kakao")))
+                .build();
+    }
+
+    /**
+     * 업비트 웹소켓 시세 스트림용 클라이언트
+     */
+    @Bean
+    public WebSocketClient upbitWebSocketClient() {
+        return new ReactorNettyWebSocketClient(HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis()));
+    }
+
+    /**
+     * 업스트림별 전용 커넥션 풀을 가진 HttpClient를 생성합니다.
+     * 풀 지표(active/idle/pending)는 reactor.netty.connection.provider.* 메트릭으로 actuator에 노출됩니다.
+     *
+     * @param poolName 커넥션 풀 이름 (메트릭 name 태그)
+     * @return 커넥션 풀이 적용된 HttpClient
+     */
+    private HttpClient createHttpClient(String poolName) {
+        ConnectionProvider provider = ConnectionProvider.builder(poolName)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+
+        // 이벤트 루프, DNS 리졸버, SSL 컨텍스트를 미리 초기화
+        httpClient.warmup().block();
+
+        return httpClient;
+    }
 }
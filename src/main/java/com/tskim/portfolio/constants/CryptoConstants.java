@@ -1,6 +1,5 @@
 package com.tskim.portfolio.constants;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,12 +17,7 @@ public class CryptoConstants {
     // 관심 암호화폐 목록 (쉼표로 구분된 문자열)
     public static final String INTERESTED_CRYPTOS = CryptoCode.BTC+","+CryptoCode.ETH+","+CryptoCode.XRP;
     
-    // 목표가 알림 대상 암호화폐 (BTC만)
-    public static final List<String> TARGET_PRICE_ALERT_CRYPTOS = List.of(
-        CryptoCode.BTC     // 비트코인만 목표가 알림
-    );
-    
-    // 암호화폐별 목표가 매핑 (내 전용 매도, 매수 목표가이므로 하드코딩함)
+    // 암호화폐별 목표가 매핑 (목표가 알림 규칙 컬렉션이 비어 있을 때 초기 규칙으로 저장)
     public static final Map<String, String> TARGET_PRICES = Map.of(
         CryptoCode.BTC, "155,000,000"    // 비트코인 - 1억 5천 5백만원
     );
@@ -82,33 +76,4 @@ public class CryptoConstants {
         return CRYPTO_NAMES.get(cryptoCode);
     }
     
-    /**
-     * 현재가와 목표가를 비교하여 알림이 필요한지 확인합니다.
-     * 
-     * @param cryptoCode 암호화폐 코드
-     * @param currentPrice 현재가 (문자열, 쉼표 포함)
-     * @return 알림 필요 여부
-     */
-    public static boolean shouldSendNotification(String cryptoCode, String currentPrice) {
-        String targetPriceStr = getTargetPrice(cryptoCode);
-        TargetPriceDirection direction = getTargetPriceDirection(cryptoCode);
-        
-        if (targetPriceStr == null || direction == null) {
-            return false;
-        }
-        
-        try {
-            // 쉼표 제거 후 숫자로 변환
-            long current = Long.parseLong(currentPrice.replace(",", ""));
-            long target = Long.parseLong(targetPriceStr.replace(",", ""));
-            
-            return switch (direction) {
-                case UP -> current >= target;
-                case DOWN -> current <= target;
-            };
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
-    
 }
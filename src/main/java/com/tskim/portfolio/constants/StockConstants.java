@@ -23,7 +23,7 @@ public class StockConstants {
         StockCode.HYUNDAI_MOTOR  // 현대차
     );
     
-    // 주식별 목표가 매핑 (내 전용 매도, 매수 목표가이므로 하드코딩함)
+    // 주식별 목표가 매핑 (목표가 알림 규칙 컬렉션이 비어 있을 때 초기 규칙으로 저장)
     public static final Map<String, String> TARGET_PRICES = Map.of(
         StockCode.SAMSUNG_ELEC, "98,000", // 삼성전자
         StockCode.SAMSUNG_ELEC_SUB, "78,000", // 삼성전자
@@ -47,6 +47,9 @@ public class StockConstants {
         StockCode.HYUNDAI_MOTOR, "현대차"
     );
     
+    // 네이버 주식 API URL
+    public static final String NAVER_STOCK_API_BASE_URL = "https://polling.finance.naver.com/api/realtime/domestic/stock";
+    
     /**
      * 목표가 알림 방향 열거형
      */
@@ -84,33 +87,4 @@ public class StockConstants {
     public static String getStockName(String itemCode) {
         return STOCK_NAMES.get(itemCode);
     }
-    
-    /**
-     * 현재가와 목표가를 비교하여 알림이 필요한지 확인합니다.
-     * 
-     * @param itemCode 종목 코드
-     * @param currentPrice 현재가 (문자열, 쉼표 포함)
-     * @return 알림 필요 여부
-     */
-    public static boolean shouldSendNotification(String itemCode, String currentPrice) {
-        String targetPriceStr = getTargetPrice(itemCode);
-        TargetPriceDirection direction = getTargetPriceDirection(itemCode);
-        
-        if (targetPriceStr == null || direction == null) {
-            return false;
-        }
-        
-        try {
-            // 쉼표 제거 후 숫자로 변환
-            int current = Integer.parseInt(currentPrice.replace(",", ""));
-            int target = Integer.parseInt(targetPriceStr.replace(",", ""));
-            
-            return switch (direction) {
-                case UP -> current >= target;
-                case DOWN -> current <= target;
-            };
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
 }
@@ -0,0 +1,103 @@
+package com.tskim.portfolio.controller;
+
+import com.tskim.portfolio.dto.alert.AlertRuleDto;
+import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.service.AlertRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts/rules")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "Alert Rule", description = "목표가 알림 규칙 관리 API")
+public class AlertRuleController {
+
+    private final AlertRuleService alertRuleService;
+
+    /**
+     * 알림 규칙 목록 조회
+     */
+    @GetMapping
+    @Operation(summary = "목표가 알림 규칙 목록 조회", description = "등록된 목표가 알림 규칙과 규칙별 무장 상태를 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> getRules() {
+        try {
+            List<AlertRuleDto> rules = alertRuleService.getRules();
+
+            return ResponseEntity.ok(ApiResponseDto.success(rules, "목표가 알림 규칙 조회 성공"));
+
+        } catch (Exception e) {
+            log.error("목표가 알림 규칙 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 알림 규칙 등록
+     */
+    @PostMapping
+    @Operation(summary = "목표가 알림 규칙 등록", description = "종목별 목표가 알림 규칙을 등록합니다. 목표가를 교차할 때 한 번 알림을 보내고, 가격이 목표가에서 일정 비율 이상 되돌아오면 다시 알림 가능 상태가 됩니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "규칙 등록 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> createRule(@Valid @RequestBody AlertRuleDto ruleDto) {
+        try {
+            AlertRuleDto createdRule = alertRuleService.createRule(ruleDto);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDto.success(createdRule, "목표가 알림 규칙 등록 성공"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("목표가 알림 규칙 등록 실패 - 검증 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("목표가 알림 규칙 등록 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 알림 규칙 삭제
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "목표가 알림 규칙 삭제", description = "목표가 알림 규칙을 삭제합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "삭제 성공"),
+        @ApiResponse(responseCode = "400", description = "존재하지 않는 규칙"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> deleteRule(
+            @Parameter(description = "알림 규칙 ID")
+            @PathVariable("id") String id) {
+        try {
+            alertRuleService.deleteRule(id);
+
+            return ResponseEntity.ok(ApiResponseDto.success(null, "목표가 알림 규칙 삭제 성공"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("목표가 알림 규칙 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("목표가 알림 규칙 삭제 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.tskim.portfolio.controller;
+
+import com.tskim.portfolio.dto.analytics.QuoteAnalyticsDto;
+import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.service.QuoteAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Analytics", description = "시세 롤링 분석 API")
+public class AnalyticsController {
+
+    private final QuoteAnalyticsService quoteAnalyticsService;
+
+    /**
+     * 종목 롤링 구간 분석 조회
+     */
+    @GetMapping("/{symbol}")
+    @Operation(summary = "시세 롤링 분석 조회", description = "최근 틱 구간별 이동평균(SMA/EMA), 거래량 가중 평균가(VWAP), 표준편차, 구간 변동률을 조회합니다. 서버 기동 이후 수신한 틱만 집계합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "집계된 시세가 없는 종목"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> getAnalytics(
+            @Parameter(description = "종목 코드 또는 마켓 코드", example = "KRW-BTC")
+            @PathVariable("symbol") String symbol) {
+        try {
+            QuoteAnalyticsDto analytics = quoteAnalyticsService.getAnalytics(symbol);
+
+            return ResponseEntity.ok(ApiResponseDto.success(analytics, "시세 롤링 분석 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("시세 롤링 분석 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("시세 롤링 분석 조회 중 오류 발생: symbol={}", symbol, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.tskim.portfolio.constants.CryptoConstants;
 import com.tskim.portfolio.dto.common.ApiResponseDto;
 import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
 import com.tskim.portfolio.service.CryptoService;
+import com.tskim.portfolio.service.QuoteStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -27,6 +32,7 @@ import java.util.List;
 public class CryptoController {
     
     private final CryptoService cryptoService;
+    private final QuoteStreamService quoteStreamService;
     
     /**
      * 특정 암호화폐들의 실시간 정보 조회
@@ -38,33 +44,29 @@ public class CryptoController {
         @ApiResponse(responseCode = "400", description = "잘못된 암호화폐 코드"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getCryptoInfo(
+    public Mono<ResponseEntity<ApiResponseDto<List<CryptoInfoDto>>>> getCryptoInfo(
             @Parameter(description = "암호화폐 코드들 (쉼표로 구분)", example = "KRW-BTC,KRW-ETH,KRW-XRP")
             @PathVariable("cryptoCodes") String cryptoCodes) {
-        try {
-            log.info("특정 암호화폐 정보 조회 요청: {}", cryptoCodes);
-            
-            // 암호화폐 코드 유효성 검증
-            if (cryptoCodes == null || cryptoCodes.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponseDto.error("암호화폐 코드는 필수입니다"));
-            }
-            
-            // 공백 제거
-            String cleanCryptoCodes = cryptoCodes.replaceAll("\\s+", "");
-            
-            List<CryptoInfoDto> cryptoInfos = cryptoService.getCryptoInfos(cleanCryptoCodes);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(cryptoInfos, "암호화폐 정보 조회 성공"));
-            
-        } catch (IllegalArgumentException e) {
-            log.warn("암호화폐 정보 조회 실패 - 잘못된 암호화폐 코드: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
-        } catch (Exception e) {
-            log.error("암호화폐 정보 조회 중 오류 발생: cryptoCodes={}", cryptoCodes, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("암호화폐 정보 조회 중 오류가 발생했습니다"));
+        log.info("특정 암호화폐 정보 조회 요청: {}", cryptoCodes);
+        
+        // 암호화폐 코드 유효성 검증
+        if (cryptoCodes == null || cryptoCodes.trim().isEmpty()) {
+            return Mono.just(badRequest("암호화폐 코드는 필수입니다"));
         }
+        
+        // 공백 제거
+        String cleanCryptoCodes = cryptoCodes.replaceAll("\\s+", "");
+        
+        return cryptoService.getCryptoInfosReactive(cleanCryptoCodes)
+                .map(cryptoInfos -> ResponseEntity.ok(ApiResponseDto.success(cryptoInfos, "암호화폐 정보 조회 성공")))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("암호화폐 정보 조회 실패 - 잘못된 암호화폐 코드: {}", e.getMessage());
+                    return Mono.just(badRequest(e.getMessage()));
+                })
+                .onErrorResume(e -> {
+                    log.error("암호화폐 정보 조회 중 오류 발생: cryptoCodes={}", cryptoCodes, e);
+                    return Mono.just(internalServerError("암호화폐 정보 조회 중 오류가 발생했습니다"));
+                });
     }
 
     /**
@@ -76,20 +78,33 @@ public class CryptoController {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getInterestedCryptosInfo() {
-        try {
-            log.info("관심 암호화폐 정보 조회 요청");
-            
-            List<CryptoInfoDto> cryptoInfos = cryptoService.getCryptoInfos(CryptoConstants.INTERESTED_CRYPTOS);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(cryptoInfos, "관심 암호화폐 정보 조회 성공"));
-            
-        } catch (Exception e) {
-            log.error("관심 암호화폐 정보 조회 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("암호화폐 정보 조회 중 오류가 발생했습니다"));
-        }
+    public Mono<ResponseEntity<ApiResponseDto<List<CryptoInfoDto>>>> getInterestedCryptosInfo() {
+        log.info("관심 암호화폐 정보 조회 요청");
+        
+        return cryptoService.getCryptoInfosReactive(CryptoConstants.INTERESTED_CRYPTOS)
+                .map(cryptoInfos -> ResponseEntity.ok(ApiResponseDto.success(cryptoInfos, "관심 암호화폐 정보 조회 성공")))
+                .onErrorResume(e -> {
+                    log.error("관심 암호화폐 정보 조회 중 오류 발생", e);
+                    return Mono.just(internalServerError("암호화폐 정보 조회 중 오류가 발생했습니다"));
+                });
     }
     
+    /**
+     * 관심 암호화폐 실시간 시세 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "관심 암호화폐 실시간 시세 스트림", description = "관심 암호화폐 시세가 바뀔 때마다 SSE(crypto 이벤트)로 전달합니다. 업스트림 조회는 모든 구독자가 공유하며, 연결 유지를 위해 주기적으로 heartbeat 주석을 보냅니다")
+    public Flux<ServerSentEvent<List<CryptoInfoDto>>> streamInterestedCryptosInfo() {
+        log.info("관심 암호화폐 시세 스트림 구독 요청");
+        
+        return quoteStreamService.streamCrypto();
+    }
     
+    private static <T> ResponseEntity<ApiResponseDto<T>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(ApiResponseDto.error(message));
+    }
+    
+    private static <T> ResponseEntity<ApiResponseDto<T>> internalServerError(String message) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error(message));
+    }
 }
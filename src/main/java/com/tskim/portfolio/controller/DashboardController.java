@@ -0,0 +1,50 @@
+package com.tskim.portfolio.controller;
+
+import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.dto.dashboard.DashboardDto;
+import com.tskim.portfolio.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "홈 화면 대시보드 API")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 홈 화면 대시보드 조회
+     */
+    @GetMapping
+    @Operation(summary = "홈 화면 대시보드 조회", description = "보유 주식, 관심 암호화폐, 오늘의 러닝 스케줄과 스케줄별 날씨를 동시에 조회합니다. 전체 제한 시간 안에 끝난 섹션만 포함하며 섹션별 조회 상태(sections)를 함께 반환합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공 (일부 섹션 실패 포함)"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<ApiResponseDto<DashboardDto>> getDashboard() {
+        try {
+            log.info("대시보드 조회 요청");
+
+            DashboardDto dashboard = dashboardService.getDashboard();
+
+            String message = dashboard.isPartial() ? "대시보드 일부 조회 성공" : "대시보드 조회 성공";
+            return ResponseEntity.ok(ApiResponseDto.success(dashboard, message));
+
+        } catch (Exception e) {
+            log.error("대시보드 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("대시보드 조회 중 오류가 발생했습니다"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.tskim.portfolio.controller;
+
+import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.dto.history.PriceHistoryDto;
+import com.tskim.portfolio.service.QuoteHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/history")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "History", description = "시세 이력 API")
+public class HistoryController {
+
+    private final QuoteHistoryService quoteHistoryService;
+
+    /**
+     * 종목 시세 이력(OHLCV) 조회
+     */
+    @GetMapping("/{symbol}")
+    @Operation(summary = "시세 이력 조회", description = "저장된 시세 틱을 봉 간격(1m, 5m, 1h)별 OHLCV로 조회합니다. 조회 기간을 지정하지 않으면 1m은 6시간, 5m은 1일, 1h는 7일을 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 종목 코드, 봉 간격 또는 조회 기간"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> getHistory(
+            @Parameter(description = "종목 코드 또는 마켓 코드", example = "KRW-BTC")
+            @PathVariable("symbol") String symbol,
+            @Parameter(description = "봉 간격 (1m, 5m, 1h)", example = "5m")
+            @RequestParam(value = "interval", defaultValue = "5m") String interval,
+            @Parameter(description = "조회 시작 시각 (KST, ISO-8601)", example = "2025-10-17T09:00:00")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (KST, ISO-8601)", example = "2025-10-17T15:30:00")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            if (symbol == null || !symbol.matches("^(\\d{6}|KRW-[A-Z]+)$")) {
+                return ResponseEntity.badRequest().body(ApiResponseDto.error("종목 코드는 6자리 숫자 또는 KRW-XXX 형식이어야 합니다"));
+            }
+
+            PriceHistoryDto history = quoteHistoryService.getHistory(symbol, QuoteHistoryService.Interval.of(interval), from, to);
+
+            return ResponseEntity.ok(ApiResponseDto.success(history, "시세 이력 조회 성공"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("시세 이력 조회 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("시세 이력 조회 중 오류 발생: symbol={}", symbol, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.tskim.portfolio.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.tskim.portfolio.dto.common.ApiResponseDto;
 import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.running.RunningSchedulePageDto;
+import com.tskim.portfolio.service.ReactiveRunningScheduleService;
 import com.tskim.portfolio.service.RunningScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,13 +16,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/schedules/running")
@@ -26,7 +38,11 @@ import java.util.List;
 @Tag(name = "Running Schedule", description = "러닝 스케줄 관리 API")
 public class RunningScheduleController {
     
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
     private final RunningScheduleService runningScheduleService;
+    private final ReactiveRunningScheduleService reactiveRunningScheduleService;
+    private final ObjectMapper objectMapper;
     
     /**
      * 러닝 스케줄 등록
@@ -59,72 +75,67 @@ public class RunningScheduleController {
      * 특정 년월의 러닝 스케줄 조회
      */
     @GetMapping
-    @Operation(summary = "특정 년월 러닝 스케줄 조회", description = "지정된 년월의 러닝 스케줄을 날짜순으로 조회합니다")
+    @Operation(summary = "특정 년월 러닝 스케줄 조회", description = "지정된 년월의 러닝 스케줄을 날짜순으로 조회합니다. includeWeather=true이면 스케줄별 날씨 정보를 함께 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 년월 형식"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getSchedulesByMonth(
+    public Mono<ResponseEntity<?>> getSchedulesByMonth(
             @Parameter(description = "조회할 년월 (YYYYMM 형식)", example = "202409")
-            @RequestParam("yearMonth") String yearMonth) {
-        try {
-            log.info("특정 년월 러닝 스케줄 조회 요청: {}", yearMonth);
-            
-            // 년월 형식 유효성 검증
-            if (yearMonth == null || !yearMonth.matches("^\\d{6}$")) {
-                return ResponseEntity.badRequest().body(ApiResponseDto.error("년월은 YYYYMM 형식이어야 합니다 (예: 202409)"));
-            }
-            
-            // 년월 값 유효성 검증
-            int year = Integer.parseInt(yearMonth.substring(0, 4));
-            int month = Integer.parseInt(yearMonth.substring(4, 6));
-            
-            if (year < 2000 || year > 2100) {
-                return ResponseEntity.badRequest().body(ApiResponseDto.error("년도는 2000년부터 2100년 사이여야 합니다"));
-            }
-            
-            if (month < 1 || month > 12) {
-                return ResponseEntity.badRequest().body(ApiResponseDto.error("월은 1부터 12 사이여야 합니다"));
-            }
-            
-            List<RunningScheduleDto> schedules = runningScheduleService.getSchedulesByMonth(yearMonth);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(schedules, "월별 러닝 스케줄 조회 성공"));
-            
-        } catch (NumberFormatException e) {
-            log.warn("년월 파싱 실패: {}", yearMonth);
-            return ResponseEntity.badRequest().body(ApiResponseDto.error("년월은 YYYYMM 형식이어야 합니다 (예: 202409)"));
-        } catch (Exception e) {
-            log.error("특정 년월 러닝 스케줄 조회 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
+            @RequestParam("yearMonth") String yearMonth,
+            @Parameter(description = "날씨 정보 포함 여부 (같은 예보를 쓰는 스케줄은 한 번만 조회하며, 제한 시간 안에 조회하지 못한 스케줄은 weatherInfo가 null)", example = "false")
+            @RequestParam(value = "includeWeather", defaultValue = "false") boolean includeWeather) {
+        log.info("특정 년월 러닝 스케줄 조회 요청: {}", yearMonth);
+        
+        // 년월 형식 유효성 검증
+        if (yearMonth == null || !yearMonth.matches("^\\d{6}$")) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponseDto.error("년월은 YYYYMM 형식이어야 합니다 (예: 202409)")));
         }
+        
+        // 년월 값 유효성 검증
+        int year = Integer.parseInt(yearMonth.substring(0, 4));
+        int month = Integer.parseInt(yearMonth.substring(4, 6));
+        
+        if (year < 2000 || year > 2100) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponseDto.error("년도는 2000년부터 2100년 사이여야 합니다")));
+        }
+        
+        if (month < 1 || month > 12) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponseDto.error("월은 1부터 12 사이여야 합니다")));
+        }
+        
+        return reactiveRunningScheduleService.getSchedulesByMonth(yearMonth, includeWeather)
+                .<ResponseEntity<?>>map(schedules -> ResponseEntity.ok(ApiResponseDto.success(schedules, "월별 러닝 스케줄 조회 성공")))
+                .onErrorResume(e -> {
+                    log.error("특정 년월 러닝 스케줄 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다")));
+                });
     }
     
     /**
      * 특정 날짜의 러닝 스케줄 조회
      */
     @GetMapping("/date/{date}")
-    @Operation(summary = "날짜별 러닝 스케줄 조회", description = "특정 날짜의 러닝 스케줄을 조회합니다")
+    @Operation(summary = "날짜별 러닝 스케줄 조회", description = "특정 날짜의 러닝 스케줄을 조회합니다. includeWeather=true이면 스케줄별 날씨 정보를 함께 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getSchedulesByDate(
+    public Mono<ResponseEntity<?>> getSchedulesByDate(
             @Parameter(description = "조회할 날짜 (YYYYMMDD)", example = "20240925")
-            @PathVariable("date") String date) {
-        try {
-            log.info("날짜별 러닝 스케줄 조회 요청: {}", date);
-            
-            List<RunningScheduleDto> schedules = runningScheduleService.getSchedulesByDate(date);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(schedules, "날짜별 러닝 스케줄 조회 성공"));
-            
-        } catch (Exception e) {
-            log.error("날짜별 러닝 스케줄 조회 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
-        }
+            @PathVariable("date") String date,
+            @Parameter(description = "날씨 정보 포함 여부 (같은 예보를 쓰는 스케줄은 한 번만 조회하며, 제한 시간 안에 조회하지 못한 스케줄은 weatherInfo가 null)", example = "false")
+            @RequestParam(value = "includeWeather", defaultValue = "false") boolean includeWeather) {
+        log.info("날짜별 러닝 스케줄 조회 요청: {}", date);
+        
+        return reactiveRunningScheduleService.getSchedulesByDate(date, includeWeather)
+                .<ResponseEntity<?>>map(schedules -> ResponseEntity.ok(ApiResponseDto.success(schedules, "날짜별 러닝 스케줄 조회 성공")))
+                .onErrorResume(e -> {
+                    log.error("날짜별 러닝 스케줄 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다")));
+                });
     }
     
     /**
@@ -137,55 +148,138 @@ public class RunningScheduleController {
         @ApiResponse(responseCode = "404", description = "해당 ID의 스케줄을 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getScheduleById(
+    public Mono<ResponseEntity<?>> getScheduleById(
             @Parameter(description = "조회할 스케줄의 MongoDB ID", example = "507f1f77bcf86cd799439011")
             @PathVariable("id") String id) {
-        try {
-            log.info("ID로 러닝 스케줄 조회 요청: {}", id);
-            
-            RunningScheduleDto schedule = runningScheduleService.getScheduleById(id);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(schedule, "러닝 스케줄 조회 성공"));
-            
-        } catch (IllegalArgumentException e) {
-            log.warn("ID로 러닝 스케줄 조회 실패 - 스케줄을 찾을 수 없음: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDto.error(e.getMessage()));
-        } catch (Exception e) {
-            log.error("ID로 러닝 스케줄 조회 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
-        }
+        log.info("ID로 러닝 스케줄 조회 요청: {}", id);
+        
+        return reactiveRunningScheduleService.getScheduleById(id)
+                .<ResponseEntity<?>>map(schedule -> ResponseEntity.ok(ApiResponseDto.success(schedule, "러닝 스케줄 조회 성공")))
+                .onErrorResume(e -> {
+                    if (e instanceof IllegalArgumentException) {
+                        log.warn("ID로 러닝 스케줄 조회 실패 - 스케줄을 찾을 수 없음: {}", e.getMessage());
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDto.error(e.getMessage())));
+                    }
+                    log.error("ID로 러닝 스케줄 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다")));
+                });
     }
     
     /**
      * 날짜 범위별 러닝 스케줄 조회
      */
     @GetMapping("/range")
-    @Operation(summary = "날짜 범위별 러닝 스케줄 조회", description = "시작일과 종료일 사이의 러닝 스케줄을 조회합니다")
+    @Operation(summary = "날짜 범위별 러닝 스케줄 조회", description = "시작일과 종료일 사이의 러닝 스케줄을 조회합니다. includeWeather=true이면 스케줄별 날씨 정보를 함께 조회합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getSchedulesByDateRange(
+    public Mono<ResponseEntity<?>> getSchedulesByDateRange(
             @Parameter(description = "시작 날짜 (YYYYMMDD)", example = "20240901")
             @RequestParam("startDate") String startDate,
             @Parameter(description = "종료 날짜 (YYYYMMDD)", example = "20240930")
-            @RequestParam("endDate") String endDate) {
+            @RequestParam("endDate") String endDate,
+            @Parameter(description = "날씨 정보 포함 여부 (같은 예보를 쓰는 스케줄은 한 번만 조회하며, 제한 시간 안에 조회하지 못한 스케줄은 weatherInfo가 null)", example = "false")
+            @RequestParam(value = "includeWeather", defaultValue = "false") boolean includeWeather) {
+        log.info("날짜 범위별 러닝 스케줄 조회 요청: {} ~ {}", startDate, endDate);
+        
+        if (endDate.compareTo(startDate) < 0) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponseDto.error("종료일은 시작일보다 늦어야 합니다")));
+        }
+        
+        return reactiveRunningScheduleService.getSchedulesByDateRange(startDate, endDate, includeWeather)
+                .<ResponseEntity<?>>map(schedules -> ResponseEntity.ok(ApiResponseDto.success(schedules, "날짜 범위별 러닝 스케줄 조회 성공")))
+                .onErrorResume(e -> {
+                    log.error("날짜 범위별 러닝 스케줄 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다")));
+                });
+    }
+    
+    /**
+     * 날짜 범위별 러닝 스케줄 페이지 조회
+     */
+    @GetMapping("/range/page")
+    @Operation(summary = "날짜 범위별 러닝 스케줄 페이지 조회", description = "시작일과 종료일 사이의 러닝 스케줄을 (날짜, ID) 순으로 limit개씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 날짜 범위, 페이지 크기 또는 커서"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<?> getSchedulePageByDateRange(
+            @Parameter(description = "시작 날짜 (YYYYMMDD)", example = "20240901")
+            @RequestParam("startDate") String startDate,
+            @Parameter(description = "종료 날짜 (YYYYMMDD)", example = "20240930")
+            @RequestParam("endDate") String endDate,
+            @Parameter(description = "직전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~1000)", example = "100")
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @Parameter(description = "날씨 정보 포함 여부", example = "false")
+            @RequestParam(value = "includeWeather", defaultValue = "false") boolean includeWeather) {
         try {
-            log.info("날짜 범위별 러닝 스케줄 조회 요청: {} ~ {}", startDate, endDate);
+            log.info("날짜 범위별 러닝 스케줄 페이지 조회 요청: {} ~ {}, limit={}", startDate, endDate, limit);
             
             if (endDate.compareTo(startDate) < 0) {
                 return ResponseEntity.badRequest().body(ApiResponseDto.error("종료일은 시작일보다 늦어야 합니다"));
             }
+            if (limit < 1 || limit > 1000) {
+                return ResponseEntity.badRequest().body(ApiResponseDto.error("페이지 크기는 1부터 1000 사이여야 합니다"));
+            }
             
-            List<RunningScheduleDto> schedules = runningScheduleService.getSchedulesByDateRange(startDate, endDate);
+            RunningSchedulePageDto page = runningScheduleService.getSchedulePageByDateRange(startDate, endDate, cursor, limit, includeWeather);
             
-            return ResponseEntity.ok(ApiResponseDto.success(schedules, "날짜 범위별 러닝 스케줄 조회 성공"));
+            return ResponseEntity.ok(ApiResponseDto.success(page, "날짜 범위별 러닝 스케줄 페이지 조회 성공"));
             
+        } catch (IllegalArgumentException e) {
+            log.warn("날짜 범위별 러닝 스케줄 페이지 조회 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
         } catch (Exception e) {
-            log.error("날짜 범위별 러닝 스케줄 조회 중 오류 발생", e);
+            log.error("날짜 범위별 러닝 스케줄 페이지 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error("서버 내부 오류가 발생했습니다"));
         }
     }
     
+    /**
+     * 날짜 범위별 러닝 스케줄 내보내기 (NDJSON)
+     */
+    @GetMapping(value = "/range/export", produces = "application/x-ndjson")
+    @Operation(summary = "날짜 범위별 러닝 스케줄 내보내기", description = "시작일과 종료일 사이의 러닝 스케줄을 한 줄에 하나씩(NDJSON) MongoDB 커서에서 바로 내보냅니다. 결과 전체를 메모리에 올리지 않으므로 긴 기간도 내보낼 수 있습니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+        @ApiResponse(responseCode = "400", description = "잘못된 날짜 범위")
+    })
+    public ResponseEntity<StreamingResponseBody> exportSchedulesByDateRange(
+            @Parameter(description = "시작 날짜 (YYYYMMDD)", example = "20240101")
+            @RequestParam("startDate") String startDate,
+            @Parameter(description = "종료 날짜 (YYYYMMDD)", example = "20261231")
+            @RequestParam("endDate") String endDate) {
+        if (!startDate.matches("^\\d{8}$") || !endDate.matches("^\\d{8}$") || endDate.compareTo(startDate) < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // 값마다 flush하지 않고 응답 버퍼가 찰 때 씀
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            long count = 0;
+            // 스케줄 하나씩 직렬화하여 쓰고, 응답이 끝나거나 클라이언트가 끊기면 커서를 닫음
+            try (Stream<RunningScheduleDto> schedules = runningScheduleService.streamSchedulesByDateRange(startDate, endDate);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // 줄 구분은 직접 쓰므로 최상위 값 사이의 기본 구분자(공백)는 사용하지 않음
+                generator.setRootValueSeparator(null);
+                Iterator<RunningScheduleDto> iterator = schedules.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                    count++;
+                }
+            }
+            log.info("날짜 범위별 러닝 스케줄 내보내기 완료: {} ~ {}, {}건", startDate, endDate, count);
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"running-schedules-" + startDate + "-" + endDate + ".ndjson\"")
+                .body(body);
+    }
 }
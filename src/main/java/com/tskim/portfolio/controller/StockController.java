@@ -1,7 +1,9 @@
 package com.tskim.portfolio.controller;
 
 import com.tskim.portfolio.dto.common.ApiResponseDto;
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
 import com.tskim.portfolio.dto.stock.StockInfoDto;
+import com.tskim.portfolio.service.QuoteStreamService;
 import com.tskim.portfolio.service.StockService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,9 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -26,29 +32,47 @@ import java.util.List;
 public class StockController {
     
     private final StockService stockService;
+    private final QuoteStreamService quoteStreamService;
     
     /**
      * 보유 주식들의 실시간 정보 조회
      */
     @GetMapping
-    @Operation(summary = "보유 주식 실시간 정보 조회", description = "보유한 주식들의 실시간 주가 정보를 조회합니다")
+    @Operation(summary = "보유 주식 실시간 정보 조회", description = "보유한 주식들의 실시간 주가 정보를 동시에 조회합니다. 일부 종목이 실패하면 성공한 종목과 종목별 오류를 함께 반환합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getHoldingStocksInfo() {
-        try {
-            log.info("보유 주식 정보 조회 요청");
-            
-            List<StockInfoDto> stockInfos = stockService.getHoldingStocksInfo();
-            
-            return ResponseEntity.ok(ApiResponseDto.success(stockInfos, "보유 주식 정보 조회 성공"));
-            
-        } catch (Exception e) {
-            log.error("보유 주식 정보 조회 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("주식 정보 조회 중 오류가 발생했습니다"));
-        }
+    public Mono<ResponseEntity<ApiResponseDto<StockBatchResultDto>>> getHoldingStocksInfo() {
+        log.info("보유 주식 정보 조회 요청");
+        
+        return stockService.getHoldingStocksInfoReactive()
+                .map(result -> {
+                    if (result.getStocks().isEmpty() && result.isPartial()) {
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body(ApiResponseDto.error(result, "주식 정보 조회 중 오류가 발생했습니다"));
+                    }
+                    
+                    String message = result.isPartial()
+                            ? "보유 주식 정보 일부 조회 성공 - 실패 종목: " + result.getErrors().size() + "개"
+                            : "보유 주식 정보 조회 성공";
+                    return ResponseEntity.ok(ApiResponseDto.success(result, message));
+                })
+                .onErrorResume(e -> {
+                    log.error("보유 주식 정보 조회 중 오류 발생", e);
+                    return Mono.just(internalServerError("주식 정보 조회 중 오류가 발생했습니다"));
+                });
+    }
+    
+    /**
+     * 보유 주식 실시간 시세 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "보유 주식 실시간 시세 스트림", description = "보유 주식 시세가 바뀔 때마다 SSE(stocks 이벤트)로 전달합니다. 업스트림 조회는 모든 구독자가 공유하며, 연결 유지를 위해 주기적으로 heartbeat 주석을 보냅니다")
+    public Flux<ServerSentEvent<StockBatchResultDto>> streamHoldingStocksInfo() {
+        log.info("보유 주식 시세 스트림 구독 요청");
+        
+        return quoteStreamService.streamStocks();
     }
     
     /**
@@ -61,35 +85,30 @@ public class StockController {
         @ApiResponse(responseCode = "400", description = "잘못된 종목 코드"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<?> getStockInfo(
+    public Mono<ResponseEntity<ApiResponseDto<StockInfoDto>>> getStockInfo(
             @Parameter(description = "종목 코드", example = "005935")
             @PathVariable("itemCode") String itemCode) {
-        try {
-            log.info("특정 종목 정보 조회 요청: {}", itemCode);
-            
-            // 종목 코드 유효성 검증
-            if (itemCode == null || itemCode.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponseDto.error("종목 코드는 필수입니다"));
-            }
-            
-            if (!itemCode.matches("^\\d{6}$")) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponseDto.error("종목 코드는 6자리 숫자여야 합니다"));
-            }
-            
-            StockInfoDto stockInfo = stockService.getStockInfo(itemCode);
-            
-            return ResponseEntity.ok(ApiResponseDto.success(stockInfo, "주식 정보 조회 성공"));
-            
-        } catch (IllegalArgumentException e) {
-            log.warn("주식 정보 조회 실패 - 잘못된 종목 코드: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(ApiResponseDto.error(e.getMessage()));
-        } catch (Exception e) {
-            log.error("주식 정보 조회 중 오류 발생: itemCode={}", itemCode, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("주식 정보 조회 중 오류가 발생했습니다"));
+        log.info("특정 종목 정보 조회 요청: {}", itemCode);
+        
+        // 종목 코드 유효성 검증
+        if (itemCode == null || itemCode.trim().isEmpty()) {
+            return Mono.just(badRequest("종목 코드는 필수입니다"));
+        }
+        
+        if (!itemCode.matches("^\\d{6}$")) {
+            return Mono.just(badRequest("종목 코드는 6자리 숫자여야 합니다"));
         }
+        
+        return stockService.getStockInfoReactive(itemCode)
+                .map(stockInfo -> ResponseEntity.ok(ApiResponseDto.success(stockInfo, "주식 정보 조회 성공")))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.warn("주식 정보 조회 실패 - 잘못된 종목 코드: {}", e.getMessage());
+                    return Mono.just(badRequest(e.getMessage()));
+                })
+                .onErrorResume(e -> {
+                    log.error("주식 정보 조회 중 오류 발생: itemCode={}", itemCode, e);
+                    return Mono.just(internalServerError("주식 정보 조회 중 오류가 발생했습니다"));
+                });
     }
     
     /**
@@ -116,4 +135,12 @@ public class StockController {
                     .body(ApiResponseDto.error("목표가 알림 체크 중 오류가 발생했습니다"));
         }
     }
+    
+    private static <T> ResponseEntity<ApiResponseDto<T>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(ApiResponseDto.error(message));
+    }
+    
+    private static <T> ResponseEntity<ApiResponseDto<T>> internalServerError(String message) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDto.error(message));
+    }
 }
@@ -0,0 +1,59 @@
+package com.tskim.portfolio.dto.alert;
+
+import com.tskim.portfolio.entity.AlertRule;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AlertRuleDto {
+    private String id;
+    
+    @NotBlank(message = "종목 코드는 필수입니다")
+    @Pattern(regexp = "^(\\d{6}|KRW-[A-Z]+)$", message = "종목 코드는 6자리 숫자 또는 KRW-XXX 형식이어야 합니다")
+    private String symbol;
+    
+    @NotNull(message = "자산 종류는 필수입니다 (STOCK/CRYPTO)")
+    private AlertRule.AssetType assetType;
+    
+    @NotBlank(message = "목표가는 필수입니다")
+    @Pattern(regexp = "^[0-9,]+(\\.[0-9]+)?$", message = "목표가는 숫자여야 합니다 (예: 155,000,000)")
+    private String targetPrice;
+    
+    @NotNull(message = "알림 방향은 필수입니다 (UP/DOWN)")
+    private AlertRule.Direction direction;
+    
+    private Boolean enabled;
+    
+    // 알림 가능 상태 (응답 시에만 포함)
+    private Boolean armed;
+    
+    private LocalDateTime lastTriggeredAt;
+    
+    public static AlertRuleDto from(AlertRule rule) {
+        AlertRuleDto dto = new AlertRuleDto();
+        dto.setId(rule.getId());
+        dto.setSymbol(rule.getSymbol());
+        dto.setAssetType(rule.getAssetType());
+        dto.setTargetPrice(rule.getTargetPrice());
+        dto.setDirection(rule.getDirection());
+        dto.setEnabled(rule.getEnabled());
+        dto.setArmed(rule.getArmed());
+        dto.setLastTriggeredAt(rule.getLastTriggeredAt());
+        return dto;
+    }
+    
+    public AlertRule toEntity() {
+        AlertRule rule = new AlertRule();
+        rule.setSymbol(this.symbol);
+        rule.setAssetType(this.assetType);
+        rule.setTargetPrice(this.targetPrice);
+        rule.setDirection(this.direction);
+        rule.setEnabled(this.enabled == null || this.enabled);
+        rule.setArmed(true);
+        return rule;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tskim.portfolio.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteAnalyticsDto {
+    
+    /**
+     * 종목 코드 또는 마켓 코드
+     */
+    private String symbol;
+    
+    /**
+     * 서버 기동 이후 집계한 틱 수
+     */
+    private long ticks;
+    
+    /**
+     * 최근 체결가
+     */
+    private String lastPrice;
+    
+    /**
+     * 구간별 롤링 집계 (구간이 짧은 순)
+     */
+    private List<WindowStats> windows;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WindowStats {
+        /**
+         * 구간 (최근 틱 수)
+         */
+        private int window;
+        
+        /**
+         * 구간에 실제로 포함된 틱 수 (틱이 모자라면 window보다 작음)
+         */
+        private int size;
+        
+        /**
+         * 단순 이동평균 (SMA)
+         */
+        private String sma;
+        
+        /**
+         * 지수 이동평균 (EMA, α = 2 / (window + 1))
+         */
+        private String ema;
+        
+        /**
+         * 거래량 가중 평균가 (VWAP, 거래량 정보가 없으면 null)
+         */
+        private String vwap;
+        
+        /**
+         * 가격 표준편차
+         */
+        private String stddev;
+        
+        /**
+         * 구간 첫 틱 대비 가격 변동
+         */
+        private String change;
+        
+        /**
+         * 구간 첫 틱 대비 변동률 (%)
+         */
+        private String changeRate;
+    }
+}
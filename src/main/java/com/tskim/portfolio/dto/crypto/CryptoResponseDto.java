@@ -1,5 +1,6 @@
 package com.tskim.portfolio.dto.crypto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -7,6 +8,7 @@ import lombok.Data;
 public class CryptoResponseDto {
     
     @JsonProperty("market")
+    @JsonAlias("code") // 웹소켓 시세는 마켓 코드를 code로 전달
     private String market;
     
     @JsonProperty("trade_date")
@@ -0,0 +1,78 @@
+package com.tskim.portfolio.dto.dashboard;
+
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+
+    /**
+     * 보유 주식 정보 (제한 시간 안에 조회하지 못하면 null)
+     */
+    private StockBatchResultDto stocks;
+
+    /**
+     * 관심 암호화폐 정보 (제한 시간 안에 조회하지 못하면 null)
+     */
+    private List<CryptoInfoDto> cryptos;
+
+    /**
+     * 오늘의 러닝 스케줄 (날씨 정보 포함, 날씨를 조회하지 못한 스케줄은 weatherInfo가 null)
+     */
+    private List<RunningScheduleDto> schedules;
+
+    /**
+     * 섹션별 조회 상태 (stocks, cryptos, schedules, weather)
+     */
+    private Map<String, SectionStatus> sections;
+
+    /**
+     * 부분 응답 여부 (하나라도 OK가 아닌 섹션이 있는 경우)
+     */
+    public boolean isPartial() {
+        return sections != null && sections.values().stream()
+                .anyMatch(section -> section.getStatus() != Status.OK);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionStatus {
+        /**
+         * 조회 상태
+         */
+        private Status status;
+
+        /**
+         * 소요 시간 (ms, 제한 시간 초과 시 제한 시간)
+         */
+        private long elapsedMs;
+
+        /**
+         * 실패 사유 또는 부분 실패 내용
+         */
+        private String message;
+    }
+
+    /**
+     * 섹션 조회 상태
+     */
+    public enum Status {
+        OK,         // 정상
+        PARTIAL,    // 일부 항목 실패
+        TIMEOUT,    // 제한 시간 초과
+        ERROR,      // 조회 실패
+        SKIPPED     // 선행 섹션 실패로 생략
+    }
+}
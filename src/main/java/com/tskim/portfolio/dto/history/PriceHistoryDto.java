@@ -0,0 +1,72 @@
+package com.tskim.portfolio.dto.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryDto {
+    
+    /**
+     * 종목 코드 또는 마켓 코드
+     */
+    private String symbol;
+    
+    /**
+     * 봉 간격 (1m, 5m, 1h)
+     */
+    private String interval;
+    
+    /**
+     * 시간순 OHLCV 봉 목록
+     */
+    private List<Candle> candles;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candle {
+        /**
+         * 봉 시작 시각 (KST)
+         */
+        private LocalDateTime time;
+        
+        /**
+         * 시가
+         */
+        private String open;
+        
+        /**
+         * 고가
+         */
+        private String high;
+        
+        /**
+         * 저가
+         */
+        private String low;
+        
+        /**
+         * 종가
+         */
+        private String close;
+        
+        /**
+         * 거래량
+         */
+        private String volume;
+        
+        /**
+         * 봉에 포함된 틱 수
+         */
+        private int ticks;
+    }
+}
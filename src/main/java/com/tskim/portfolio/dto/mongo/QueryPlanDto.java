@@ -0,0 +1,51 @@
+package com.tskim.portfolio.dto.mongo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryPlanDto {
+
+    /**
+     * 리포지토리 조회 메서드 (예: RunningScheduleRepository.findByDate)
+     */
+    private String query;
+
+    /**
+     * 컬렉션 이름
+     */
+    private String collection;
+
+    /**
+     * explain에 사용한 필터와 정렬
+     */
+    private String filter;
+    private String sort;
+
+    /**
+     * 선택된 실행 계획의 단계 (바깥 단계부터, 예: [FETCH, IXSCAN])
+     */
+    private List<String> stages;
+
+    /**
+     * 사용한 인덱스 이름 (인덱스를 사용하지 않으면 빈 리스트)
+     */
+    private List<String> indexes;
+
+    /**
+     * 컬렉션 전체 스캔(COLLSCAN) 여부
+     */
+    private boolean collectionScan;
+
+    /**
+     * explain 실패 사유 (성공 시 null)
+     */
+    private String error;
+}
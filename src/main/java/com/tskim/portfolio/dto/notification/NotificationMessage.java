@@ -0,0 +1,37 @@
+package com.tskim.portfolio.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMessage {
+    
+    /**
+     * 기본 수신자 (카카오톡 나에게 보내기)
+     */
+    public static final String DEFAULT_RECIPIENT = "me";
+    
+    /**
+     * 수신자 (같은 수신자의 알림은 하나의 요약 메시지로 묶어서 발송)
+     */
+    @Builder.Default
+    private String recipient = DEFAULT_RECIPIENT;
+    
+    /**
+     * 알림 본문
+     */
+    private String text;
+    
+    /**
+     * 알림 발생 시각
+     */
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,77 @@
+package com.tskim.portfolio.dto.quote;
+
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 업비트 시세의 내부 표현
+ * 가격은 FixedPoint.PRICE_SCALE, 거래량은 VOLUME_SCALE, 변동률은 RATE_SCALE 고정소수점 long으로 보관합니다. (값이 없으면 FixedPoint.NaN)
+ * 24시간 누적 거래대금/거래량은 계산에 쓰지 않고, 발행량이 많은 마켓(SHIB, BTT, XEC 등)의 누적 거래량이
+ * VOLUME_SCALE 범위(약 9.2e10)를 넘으므로 업비트 문자열 그대로 보관합니다.
+ *
+ * @param market 마켓 코드 (예: KRW-BTC)
+ * @param change 전일 대비 변동 방향 (RISE/FALL/EVEN)
+ * @param changeRate 전일 대비 변동률 (부호 없는 비율, 0.0067 = 0.67%)
+ * @param accTradePrice24h 24시간 누적 거래대금 (업비트 문자열)
+ * @param accTradeVolume24h 24시간 누적 거래량 (업비트 문자열)
+ * @param tradeTimeKst 체결 시각 (KST, HHmmss)
+ * @param tradeTimestamp 체결 타임스탬프 (ms, 없으면 0)
+ */
+public record CryptoQuote(
+        String market,
+        long tradePrice,
+        long changePrice,
+        long changeRate,
+        String change,
+        long openingPrice,
+        long highPrice,
+        long lowPrice,
+        long tradeVolume,
+        long accTradePrice,
+        String accTradePrice24h,
+        String accTradeVolume24h,
+        long highest52WeekPrice,
+        long lowest52WeekPrice,
+        String tradeTimeKst,
+        long tradeTimestamp) {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TRADE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmmss");
+
+    /**
+     * 업비트 REST/웹소켓 시세 응답을 한 번만 파싱하여 내부 표현으로 변환합니다.
+     *
+     * @param response 업비트 시세 응답
+     * @return 시세
+     */
+    public static CryptoQuote from(CryptoResponseDto response) {
+        long tradeTimestamp = response.getTradeTimestamp() != null ? response.getTradeTimestamp() : 0L;
+
+        String tradeTimeKst = response.getTradeTimeKst();
+        if (tradeTimeKst == null && tradeTimestamp > 0) {
+            // 웹소켓 시세에는 KST 체결 시각이 없으므로 체결 타임스탬프로 계산
+            tradeTimeKst = Instant.ofEpochMilli(tradeTimestamp).atZone(KST).format(TRADE_TIME_FORMATTER);
+        }
+
+        return new CryptoQuote(
+                response.getMarket(),
+                FixedPoint.parse(response.getTradePrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getChangePrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getChangeRate(), FixedPoint.RATE_SCALE),
+                response.getChange(),
+                FixedPoint.parse(response.getOpeningPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getHighPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getLowPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getTradeVolume(), FixedPoint.VOLUME_SCALE),
+                FixedPoint.parse(response.getAccTradePrice(), FixedPoint.PRICE_SCALE),
+                response.getAccTradePrice24h(),
+                response.getAccTradeVolume24h(),
+                FixedPoint.parse(response.getHighest52WeekPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(response.getLowest52WeekPrice(), FixedPoint.PRICE_SCALE),
+                tradeTimeKst,
+                tradeTimestamp);
+    }
+}
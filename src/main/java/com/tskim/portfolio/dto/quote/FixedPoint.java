@@ -0,0 +1,258 @@
+package com.tskim.portfolio.dto.quote;
+
+/**
+ * 고정소수점(long) 시세 값 변환 유틸리티
+ * 업스트림 문자열 시세는 수신 시점에 한 번만 long으로 변환하고, 응답(JSON) 생성 시점에만 문자열로 포맷합니다.
+ * 값은 10^scale 배한 정수로 표현합니다. (예: scale 4에서 151000000.5 → 1510000005000)
+ */
+public final class FixedPoint {
+
+    /**
+     * 가격 scale (업비트 원화 마켓 최소 호가 단위 0.0001원)
+     */
+    public static final int PRICE_SCALE = 4;
+
+    /**
+     * 거래량 scale (업비트 수량 소수점 8자리)
+     */
+    public static final int VOLUME_SCALE = 8;
+
+    /**
+     * 비율 scale (예: 업비트 change_rate 0.0067 → 670000)
+     */
+    public static final int RATE_SCALE = 8;
+
+    /**
+     * 값 없음 또는 변환 실패를 나타내는 값
+     */
+    public static final long NaN = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    /**
+     * 숫자 문자열을 고정소수점 값으로 변환합니다. 객체를 생성하지 않습니다.
+     * 쉼표(천 단위 구분), 부호, 소수점, 지수 표기(예: 1.0E11)를 지원하며 scale보다 작은 자리는 반올림합니다.
+     *
+     * @param text 숫자 문자열 (예: "155,000,000", "151000000.0", "-1.23")
+     * @param scale 소수점 자릿수
+     * @return 고정소수점 값 (null, 형식 오류, 범위 초과 시 NaN)
+     */
+    public static long parse(CharSequence text, int scale) {
+        if (text == null) {
+            return NaN;
+        }
+
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean fraction = false;
+        boolean roundUp = false;
+        boolean truncated = false;
+
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (mantissa <= (Long.MAX_VALUE - 9) / 10) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else if (!fraction) {
+                    // 정수부가 long 범위를 넘으면 자릿수만 유지
+                    exponent++;
+                    truncated = true;
+                } else if (!truncated) {
+                    // 소수부 유효 자릿수 초과분은 첫 자리로 반올림
+                    roundUp = c >= '5';
+                    truncated = true;
+                }
+            } else if (c == ',' && !fraction) {
+                // 천 단위 구분 쉼표는 무시
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if ((c == 'e' || c == 'E') && digits) {
+                int parsedExponent = parseExponent(text, i + 1, length);
+                if (parsedExponent == Integer.MIN_VALUE) {
+                    return NaN;
+                }
+                exponent += parsedExponent;
+                i = length;
+            } else {
+                return NaN;
+            }
+        }
+
+        if (!digits) {
+            return NaN;
+        }
+        if (roundUp) {
+            mantissa++;
+        }
+
+        long value = rescale(mantissa, -exponent, scale);
+        if (value == NaN) {
+            return NaN;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 고정소수점 값의 scale을 바꿉니다. 줄어드는 자리는 반올림(HALF_UP)합니다.
+     *
+     * @param value 고정소수점 값
+     * @param fromScale 현재 scale
+     * @param toScale 변환할 scale
+     * @return 변환된 값 (범위 초과 시 NaN)
+     */
+    public static long rescale(long value, int fromScale, int toScale) {
+        if (value == NaN) {
+            return NaN;
+        }
+
+        int shift = toScale - fromScale;
+        if (shift == 0) {
+            return value;
+        }
+        if (shift > 0) {
+            if (shift >= POWERS_OF_TEN.length) {
+                return value == 0 ? 0 : NaN;
+            }
+            long factor = POWERS_OF_TEN[shift];
+            if (Math.abs(value) > Long.MAX_VALUE / factor) {
+                return NaN;
+            }
+            return value * factor;
+        }
+
+        if (-shift >= POWERS_OF_TEN.length) {
+            return 0;
+        }
+        long divisor = POWERS_OF_TEN[-shift];
+        long quotient = value / divisor;
+        long remainder = Math.abs(value % divisor);
+        if (remainder * 2 >= divisor) {
+            quotient += value < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * 고정소수점 값을 소수점 끝자리 0을 뺀 문자열로 포맷합니다. (예: 1510000000000, 4 → "151000000")
+     *
+     * @param value 고정소수점 값
+     * @param scale 소수점 자릿수
+     * @return 문자열 (NaN이면 null)
+     */
+    public static String format(long value, int scale) {
+        return format(value, scale, false, false);
+    }
+
+    /**
+     * 고정소수점 값을 소수점 자릿수를 고정하여 포맷합니다. (예: 67, 2 → "0.67")
+     *
+     * @param value 고정소수점 값
+     * @param scale 소수점 자릿수
+     * @return 문자열 (NaN이면 null)
+     */
+    public static String formatFixed(long value, int scale) {
+        return format(value, scale, false, true);
+    }
+
+    /**
+     * 고정소수점 값을 천 단위 쉼표를 넣어 포맷합니다. (예: 980000000, 4 → "98,000")
+     *
+     * @param value 고정소수점 값
+     * @param scale 소수점 자릿수
+     * @return 문자열 (NaN이면 null)
+     */
+    public static String formatGrouped(long value, int scale) {
+        return format(value, scale, true, false);
+    }
+
+    private static String format(long value, int scale, boolean grouped, boolean fixedFraction) {
+        if (value == NaN) {
+            return null;
+        }
+
+        long magnitude = Math.abs(value);
+        long divisor = POWERS_OF_TEN[scale];
+        long integerPart = magnitude / divisor;
+        long fractionPart = magnitude % divisor;
+
+        StringBuilder sb = new StringBuilder(24);
+        if (value < 0) {
+            sb.append('-');
+        }
+
+        if (grouped) {
+            appendGrouped(sb, integerPart);
+        } else {
+            sb.append(integerPart);
+        }
+
+        int fractionDigits = scale;
+        if (!fixedFraction) {
+            while (fractionDigits > 0 && fractionPart % 10 == 0) {
+                fractionPart /= 10;
+                fractionDigits--;
+            }
+        }
+        if (fractionDigits > 0) {
+            sb.append('.');
+            for (int i = fractionDigits - 1; i >= 0; i--) {
+                sb.append((char) ('0' + (fractionPart / POWERS_OF_TEN[i]) % 10));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendGrouped(StringBuilder sb, long integerPart) {
+        String digits = Long.toString(integerPart);
+        int firstGroup = digits.length() % 3 == 0 ? 3 : digits.length() % 3;
+        sb.append(digits, 0, firstGroup);
+        for (int i = firstGroup; i < digits.length(); i += 3) {
+            sb.append(',').append(digits, i, i + 3);
+        }
+    }
+
+    private static int parseExponent(CharSequence text, int start, int length) {
+        int i = start;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i >= length) {
+            return Integer.MIN_VALUE;
+        }
+
+        int exponent = 0;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9' || exponent > 1000) {
+                return Integer.MIN_VALUE;
+            }
+            exponent = exponent * 10 + (c - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+}
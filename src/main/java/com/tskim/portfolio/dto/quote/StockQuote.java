@@ -0,0 +1,53 @@
+package com.tskim.portfolio.dto.quote;
+
+import com.tskim.portfolio.dto.stock.StockResponseDto;
+
+/**
+ * 네이버 주식 시세의 내부 표현
+ * 가격은 FixedPoint.PRICE_SCALE, 거래량은 VOLUME_SCALE, 등락률(%)은 RATE_SCALE 고정소수점 long으로 보관합니다. (값이 없으면 FixedPoint.NaN)
+ *
+ * @param compareToPreviousClosePrice 전일 대비 가격 변동 (부호 포함)
+ * @param fluctuationsRatio 전일 대비 등락률 (%, 부호 포함)
+ * @param compareDirection 전일 대비 변동 방향 (RISING/FALLING/UNCHANGED)
+ * @param accumulatedTradingValue 거래대금 (네이버 표기 그대로, 예: "1,234,567백만")
+ */
+public record StockQuote(
+        String itemCode,
+        String stockName,
+        long closePrice,
+        long compareToPreviousClosePrice,
+        long fluctuationsRatio,
+        String compareDirection,
+        long openPrice,
+        long highPrice,
+        long lowPrice,
+        long accumulatedTradingVolume,
+        String accumulatedTradingValue,
+        String marketStatus,
+        String localTradedAt,
+        String currencyType) {
+
+    /**
+     * 네이버 주식 API 종목 데이터를 한 번만 파싱하여 내부 표현으로 변환합니다.
+     *
+     * @param stockData 네이버 주식 API 종목 데이터
+     * @return 시세
+     */
+    public static StockQuote from(StockResponseDto.StockData stockData) {
+        return new StockQuote(
+                stockData.getItemCode(),
+                stockData.getStockName(),
+                FixedPoint.parse(stockData.getClosePrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(stockData.getCompareToPreviousClosePrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(stockData.getFluctuationsRatio(), FixedPoint.RATE_SCALE),
+                stockData.getCompareToPreviousPrice() != null ? stockData.getCompareToPreviousPrice().getName() : null,
+                FixedPoint.parse(stockData.getOpenPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(stockData.getHighPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(stockData.getLowPrice(), FixedPoint.PRICE_SCALE),
+                FixedPoint.parse(stockData.getAccumulatedTradingVolume(), FixedPoint.VOLUME_SCALE),
+                stockData.getAccumulatedTradingValue(),
+                stockData.getMarketStatus(),
+                stockData.getLocalTradedAt(),
+                stockData.getCurrencyType() != null ? stockData.getCurrencyType().getCode() : null);
+    }
+}
@@ -72,6 +72,27 @@ public class RunningScheduleDto {
         return dto;
     }
     
+    /**
+     * 날씨 정보를 제외한 복사본 (캐시된 DTO에 요청별 날씨 정보를 채울 때 사용)
+     */
+    public RunningScheduleDto copyWithoutWeather() {
+        RunningScheduleDto dto = new RunningScheduleDto();
+        dto.setId(this.id);
+        dto.setTitle(this.title);
+        dto.setDate(this.date);
+        dto.setStartTime(this.startTime);
+        dto.setEndTime(this.endTime);
+        dto.setX(this.x);
+        dto.setY(this.y);
+        dto.setPlaceName(this.placeName);
+        dto.setAddressName(this.addressName);
+        dto.setPlaceDetail(this.placeDetail);
+        dto.setPlaceUrl(this.placeUrl);
+        dto.setCreatedAt(this.createdAt);
+        dto.setUpdatedAt(this.updatedAt);
+        return dto;
+    }
+    
     public RunningSchedule toEntity() {
         RunningSchedule schedule = new RunningSchedule();
         schedule.setTitle(this.title);
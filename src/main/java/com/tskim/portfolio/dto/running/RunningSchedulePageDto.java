@@ -0,0 +1,30 @@
+package com.tskim.portfolio.dto.running;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningSchedulePageDto {
+
+    /**
+     * 이번 페이지의 스케줄 (날짜, ID 순)
+     */
+    private List<RunningScheduleDto> items;
+
+    /**
+     * 다음 페이지 조회 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,47 @@
+package com.tskim.portfolio.dto.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBatchResultDto {
+
+    /**
+     * 조회에 성공한 주식 정보 (요청 종목 순서 유지)
+     */
+    private List<StockInfoDto> stocks;
+
+    /**
+     * 조회에 실패한 종목별 오류
+     */
+    private List<ItemError> errors;
+
+    /**
+     * 일부 종목 조회 실패 여부
+     */
+    public boolean isPartial() {
+        return errors != null && !errors.isEmpty();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        /**
+         * 종목 코드
+         */
+        private String itemCode;
+
+        /**
+         * 실패 사유
+         */
+        private String message;
+    }
+}
@@ -82,7 +82,7 @@ public class StockInfoDto {
     private String currencyType;
     
     /**
-     * 목표가
+     * 목표가 (알림 규칙 중 무장된, 현재가에서 가장 가까운 규칙)
      */
     private String targetPrice;
     
@@ -91,6 +91,16 @@ public class StockInfoDto {
      */
     private String targetPriceDirection;
     
+    /**
+     * 업스트림 장애로 마지막 정상 응답을 대신 사용했는지 여부
+     */
+    private boolean stale;
+    
+    /**
+     * stale 응답의 경과 시간 (초, 마지막 정상 응답을 받은 뒤, 정상 응답이면 null)
+     */
+    private Long staleAgeSeconds;
+    
     /**
      * 전일 대비 변동 방향을 한국어로 변환
      */
@@ -41,6 +41,16 @@ public class WeatherInfoDto {
      */
     private String forecastTime;
     
+    /**
+     * 업스트림 장애로 마지막 정상 응답을 대신 사용했는지 여부
+     */
+    private boolean stale;
+    
+    /**
+     * stale 응답의 경과 시간 (초, 마지막 정상 응답을 받은 뒤, 정상 응답이면 null)
+     */
+    private Long staleAgeSeconds;
+    
     /**
      * 하늘상태를 한국어로 변환
      */
@@ -0,0 +1,37 @@
+package com.tskim.portfolio.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "alert_rules")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class AlertRule extends BaseDocument {
+    
+    private String symbol;                 // 종목 코드 또는 마켓 코드 (예: 005930, KRW-BTC)
+    private AssetType assetType;           // 자산 종류 (STOCK/CRYPTO)
+    private String targetPrice;            // 목표가 (예: 155,000,000)
+    private Direction direction;           // 알림 방향 (UP: 목표가 이상, DOWN: 목표가 이하)
+    private Boolean enabled = true;        // 규칙 사용 여부
+    private Boolean armed = true;          // 알림 가능 상태 (발송 후 false, 가격이 재무장 구간으로 돌아오면 true)
+    private LocalDateTime lastTriggeredAt; // 마지막 알림 발송 시각
+    
+    /**
+     * 자산 종류
+     */
+    public enum AssetType {
+        STOCK,
+        CRYPTO
+    }
+    
+    /**
+     * 목표가 알림 방향
+     */
+    public enum Direction {
+        UP,     // 목표가 이상일 때 알림
+        DOWN    // 목표가 이하일 때 알림
+    }
+}
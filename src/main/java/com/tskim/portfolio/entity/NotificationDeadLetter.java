@@ -0,0 +1,17 @@
+package com.tskim.portfolio.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "notification_dead_letters")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class NotificationDeadLetter extends BaseDocument {
+    
+    private String recipient;          // 수신자
+    private String text;               // 발송하지 못한 메시지 (요약 메시지 전체)
+    private Integer messageCount;      // 요약 메시지에 포함된 알림 수
+    private Integer attempts;          // 발송 시도 횟수
+    private String lastError;          // 마지막 발송 오류
+}
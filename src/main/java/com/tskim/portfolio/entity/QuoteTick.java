@@ -0,0 +1,34 @@
+package com.tskim.portfolio.entity;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Instant;
+
+/**
+ * 시세 틱 (MongoDB 시계열 컬렉션)
+ * 틱 단위로 많이 쌓이므로 BaseDocument의 생성/수정 시각 없이 측정값만 저장합니다.
+ */
+@TimeSeries(collection = "quote_ticks", timeField = "timestamp", metaField = "symbol", granularity = Granularity.SECONDS)
+@Data
+public class QuoteTick {
+    
+    @Id
+    private String id;
+    
+    private String symbol;             // 종목 코드 또는 마켓 코드 (metaField)
+    private Instant timestamp;         // 체결 시각 (timeField)
+    private long price;                // 체결가 (FixedPoint.PRICE_SCALE 고정소수점)
+    private long volume;               // 직전 틱 이후 거래량 (FixedPoint.VOLUME_SCALE 고정소수점)
+    
+    public static QuoteTick of(String symbol, Instant timestamp, long price, long volume) {
+        QuoteTick tick = new QuoteTick();
+        tick.setSymbol(symbol);
+        tick.setTimestamp(timestamp);
+        tick.setPrice(price);
+        tick.setVolume(volume);
+        return tick;
+    }
+}
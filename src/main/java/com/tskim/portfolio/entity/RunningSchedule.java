@@ -2,9 +2,20 @@ package com.tskim.portfolio.entity;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+/**
+ * 러닝 스케줄
+ * 인덱스는 RunningScheduleRepository의 조회 형태별로 선언하며, 기동 시 MongoIndexInitializer가 생성/검증합니다.
+ */
 @Document(collection = "running_schedules")
+// findByYearMonthOrderByDateAsc: yearMonth 일치 + date 정렬
+@CompoundIndex(name = "yearMonth_date", def = "{'yearMonth': 1, 'date': 1}")
+// findByDate, findByDateBetween: date 일치/범위 (같은 날은 시작시간 순)
+@CompoundIndex(name = "date_startTime", def = "{'date': 1, 'startTime': 1}")
+// 날짜 범위 페이지 조회/내보내기: date 범위 + (date, _id) 정렬·커서
+@CompoundIndex(name = "date_id", def = "{'date': 1, '_id': 1}")
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class RunningSchedule extends BaseDocument {
@@ -0,0 +1,17 @@
+package com.tskim.portfolio.repository;
+
+import com.tskim.portfolio.entity.AlertRule;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlertRuleRepository extends MongoRepository<AlertRule, String> {
+    
+    // 사용 중인 알림 규칙 조회 (알림 인덱스 적재용)
+    List<AlertRule> findByEnabledTrue();
+    
+    // 종목별 알림 규칙 조회
+    List<AlertRule> findBySymbol(String symbol);
+}
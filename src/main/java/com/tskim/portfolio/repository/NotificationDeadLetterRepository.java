@@ -0,0 +1,9 @@
+package com.tskim.portfolio.repository;
+
+import com.tskim.portfolio.entity.NotificationDeadLetter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationDeadLetterRepository extends MongoRepository<NotificationDeadLetter, String> {
+}
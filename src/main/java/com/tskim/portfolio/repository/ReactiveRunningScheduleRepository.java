@@ -0,0 +1,22 @@
+package com.tskim.portfolio.repository;
+
+import com.tskim.portfolio.entity.RunningSchedule;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 러닝 스케줄 리액티브 리포지토리 (조회 API용, 조회 형태는 RunningScheduleRepository와 같음)
+ */
+@Repository
+public interface ReactiveRunningScheduleRepository extends ReactiveMongoRepository<RunningSchedule, String> {
+    
+    // 날짜별 스케줄 조회 (기상청 API 형식: YYYYMMDD)
+    Flux<RunningSchedule> findByDate(String date);
+    
+    // 날짜 범위별 스케줄 조회 (기상청 API 형식: YYYYMMDD)
+    Flux<RunningSchedule> findByDateBetween(String startDate, String endDate);
+    
+    // 년월별 스케줄 조회 (YYYYMM 형식) - 검색 최적화
+    Flux<RunningSchedule> findByYearMonthOrderByDateAsc(String yearMonth);
+}
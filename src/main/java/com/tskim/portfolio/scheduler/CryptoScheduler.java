@@ -1,26 +1,82 @@
 package com.tskim.portfolio.scheduler;
 
+import com.tskim.portfolio.entity.AlertRule;
+import com.tskim.portfolio.service.AlertRuleService;
 import com.tskim.portfolio.service.CryptoService;
-import lombok.RequiredArgsConstructor;
+import com.tskim.portfolio.service.CryptoTickerStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CryptoScheduler {
     
+    private static final long TARGET_PRICE_CHECK_RATE_MS = 60000; // 1분마다 실행 (60초 = 60000ms)
+    
     private final CryptoService cryptoService;
+    private final CryptoTickerStore cryptoTickerStore;
+    private final AlertRuleService alertRuleService;
+    
+    // 마지막 실행의 지연(예정 시각 대비 시작이 늦은 시간)과 소요 시간 (scheduler.job.lag, scheduler.job.duration)
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+    private long lastStartedAt;
+    
+    public CryptoScheduler(CryptoService cryptoService,
+                           CryptoTickerStore cryptoTickerStore,
+                           AlertRuleService alertRuleService,
+                           MeterRegistry meterRegistry) {
+        this.cryptoService = cryptoService;
+        this.cryptoTickerStore = cryptoTickerStore;
+        this.alertRuleService = alertRuleService;
+        
+        Tags tags = Tags.of("job", "crypto-target-price-check");
+        TimeGauge.builder("scheduler.job.lag", lastLagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("마지막 실행이 예정 시각보다 늦게 시작한 시간")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder("scheduler.job.duration", lastDurationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("마지막 실행 소요 시간")
+                .tags(tags)
+                .register(meterRegistry);
+    }
     
     /**
      * 암호화폐 목표가 알림 체크 스케줄러
-     * 1분마다 실행되어 목표가 도달 시 알림을 발송합니다.
+     * 업비트 웹소켓 스트림이 끊긴 경우에만 1분마다 REST API로 시세를 조회하여 목표가 도달 시 알림을 발송합니다.
+     * 스트림이 정상이면 시세 수신 시점에 UpbitTickerStreamService가 알림을 체크합니다.
+     * 스트림이 아직 구독하지 않은 마켓의 알림 규칙이 새로 추가된 경우에도 다음 재연결 전까지 REST로 체크합니다.
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행 (60초 = 60000ms)
+    @Scheduled(fixedRate = TARGET_PRICE_CHECK_RATE_MS)
     public void checkCryptoTargetPriceNotifications() {
+        long startedAt = System.currentTimeMillis();
+        if (lastStartedAt > 0) {
+            lastLagMillis.set(Math.max(0, startedAt - (lastStartedAt + TARGET_PRICE_CHECK_RATE_MS)));
+        }
+        lastStartedAt = startedAt;
+        
+        try {
+            checkTargetPrices();
+        } finally {
+            lastDurationMillis.set(System.currentTimeMillis() - startedAt);
+        }
+    }
+    
+    private void checkTargetPrices() {
+        List<String> alertCryptos = List.copyOf(alertRuleService.getSymbols(AlertRule.AssetType.CRYPTO));
+        if (cryptoTickerStore.getAllIfAvailable(alertCryptos) != null) {
+            log.debug("업비트 웹소켓 스트림 정상 - REST 폴링 생략");
+            return;
+        }
+        
         try {
             log.debug("암호화폐 목표가 알림 체크 스케줄러 실행");
             
@@ -0,0 +1,372 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 종목별 목표가 알림 규칙 인덱스
+ * 종목마다 UP/DOWN 규칙을 목표가 순으로 정렬해 두고, 새 가격이 들어오면 직전 가격과 새 가격 사이에서 교차한 규칙만
+ * 이진 탐색으로 찾습니다 (규칙 n개 중 교차한 k개를 O(log n + k)로 조회).
+ * 규칙은 목표가를 교차할 때 한 번만 발송되고(armed=false), 가격이 목표가에서 히스테리시스(bps)만큼 반대로 벗어나야 다시 무장됩니다.
+ */
+@Slf4j
+class AlertRuleIndex {
+
+    private final long hysteresisBps;
+
+    // 규칙 변경 시 통째로 교체 (조회 경로는 락 없이 읽음)
+    private volatile Map<String, SymbolRules> rulesBySymbol = Map.of();
+
+    AlertRuleIndex(long hysteresisBps) {
+        this.hysteresisBps = hysteresisBps;
+    }
+
+    /**
+     * 규칙 상태 변경 (armed=false: 발송, armed=true: 재무장)
+     */
+    record Transition(AlertRule rule, boolean armed) {
+    }
+
+    /**
+     * 규칙 목록으로 인덱스를 다시 구성합니다.
+     * 이미 있던 규칙은 메모리의 무장 상태를 유지하고, 규칙 구성이 바뀌지 않은 종목은 직전 가격도 유지합니다.
+     * 새 규칙이 추가된 종목은 다음 가격에서 현재 수준 기준으로 한 번 판정합니다.
+     *
+     * @param rules 사용 중인 알림 규칙
+     */
+    synchronized void load(Collection<AlertRule> rules) {
+        Map<String, List<AlertRule>> grouped = new HashMap<>();
+        for (AlertRule rule : rules) {
+            long threshold = FixedPoint.parse(rule.getTargetPrice(), FixedPoint.PRICE_SCALE);
+            if (rule.getSymbol() == null || rule.getDirection() == null || threshold == FixedPoint.NaN || threshold <= 0) {
+                log.warn("잘못된 알림 규칙 제외: id={}, symbol={}, targetPrice={}", rule.getId(), rule.getSymbol(), rule.getTargetPrice());
+                continue;
+            }
+            grouped.computeIfAbsent(rule.getSymbol(), symbol -> new ArrayList<>()).add(rule);
+        }
+
+        Map<String, SymbolRules> rebuilt = new HashMap<>();
+        grouped.forEach((symbol, symbolRules) -> rebuilt.put(symbol, new SymbolRules(symbolRules, rulesBySymbol.get(symbol))));
+        Map<String, SymbolRules> previous = rulesBySymbol;
+        rulesBySymbol = Map.copyOf(rebuilt);
+
+        // 새 인덱스를 게시한 뒤에 이전 규칙을 폐기하고, 복사 이후 이전 규칙에서 바뀐 상태를 새 규칙에 반영
+        // (폐기된 규칙을 본 evaluate는 이미 게시된 새 인덱스로 한 번만 다시 판정)
+        rebuilt.values().forEach(SymbolRules::takeOver);
+        // 규칙이 모두 삭제된 종목
+        previous.values().forEach(SymbolRules::retire);
+    }
+
+    /**
+     * 새 가격으로 교차한 규칙을 판정합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param price 현재가 (FixedPoint.PRICE_SCALE 고정소수점)
+     * @return 발송/재무장된 규칙 (없으면 빈 리스트)
+     */
+    List<Transition> evaluate(String symbol, long price) {
+        if (price == FixedPoint.NaN) {
+            return List.of();
+        }
+        while (true) {
+            SymbolRules symbolRules = rulesBySymbol.get(symbol);
+            if (symbolRules == null) {
+                return List.of();
+            }
+            List<Transition> transitions = symbolRules.evaluate(price);
+            if (transitions != null) {
+                return transitions;
+            }
+            // 폐기된 규칙: 폐기 전에 게시된 새 인덱스로 다시 판정
+        }
+    }
+
+    /**
+     * 시세 응답에 표시할 규칙을 찾습니다. 무장된 규칙 중 현재가에서 가장 가까운 목표가를 우선합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param price 현재가 (FixedPoint.PRICE_SCALE 고정소수점, NaN이면 무장 여부로만 선택)
+     * @return 규칙 (종목에 규칙이 없으면 null)
+     */
+    AlertRule nearestRule(String symbol, long price) {
+        SymbolRules symbolRules = rulesBySymbol.get(symbol);
+        return symbolRules != null ? symbolRules.nearest(price) : null;
+    }
+
+    /**
+     * 알림 규칙이 있는 종목 목록
+     */
+    Set<String> symbols(AlertRule.AssetType assetType) {
+        Set<String> symbols = new LinkedHashSet<>();
+        rulesBySymbol.forEach((symbol, symbolRules) -> {
+            if (symbolRules.assetType == assetType) {
+                symbols.add(symbol);
+            }
+        });
+        return symbols;
+    }
+
+    /**
+     * 규칙 식별 키 (저장 전 규칙은 종목, 방향, 목표가로 식별)
+     */
+    private static String keyOf(AlertRule rule) {
+        return rule.getId() != null ? rule.getId() : naturalKeyOf(rule);
+    }
+
+    private static String naturalKeyOf(AlertRule rule) {
+        return rule.getSymbol() + ":" + rule.getDirection() + ":" + rule.getTargetPrice();
+    }
+
+    /**
+     * 한 종목의 규칙 (방향별로 목표가 오름차순 정렬)
+     */
+    private final class SymbolRules {
+
+        private final AlertRule.AssetType assetType;
+        private final Side up;
+        private final Side down;
+        private long lastPrice = FixedPoint.NaN;
+        private boolean retired;
+
+        // 상태를 복사한 이전 규칙 (게시 후 takeOver에서 폐기하기 전까지만 보관)
+        private SymbolRules previous;
+        private final long copiedPrice;
+        private final boolean carryPrice;
+        private final Map<RuleState, CopiedState> copiedStates = new HashMap<>();
+
+        SymbolRules(List<AlertRule> rules, SymbolRules previous) {
+            this.assetType = rules.get(0).getAssetType();
+
+            // 이전 규칙은 교체 전 인덱스를 보는 evaluate가 계속 바꿀 수 있으므로 락 안에서 값을 복사
+            Map<String, CopiedState> previousStates = new HashMap<>();
+            long previousPrice = FixedPoint.NaN;
+            if (previous != null) {
+                synchronized (previous) {
+                    for (RuleState[] states : List.of(previous.up.states, previous.down.states)) {
+                        for (RuleState state : states) {
+                            CopiedState copied = new CopiedState(state, state.armed);
+                            previousStates.put(state.key, copied);
+                            previousStates.put(naturalKeyOf(state.rule), copied);
+                        }
+                    }
+                    previousPrice = previous.lastPrice;
+                }
+            }
+
+            boolean added = false;
+            List<RuleState> upStates = new ArrayList<>();
+            List<RuleState> downStates = new ArrayList<>();
+            for (AlertRule rule : rules) {
+                CopiedState before = previousStates.get(keyOf(rule));
+                if (before == null) {
+                    before = previousStates.get(naturalKeyOf(rule));
+                }
+                added |= before == null;
+                boolean armed = before != null ? before.armed() : !Boolean.FALSE.equals(rule.getArmed());
+                RuleState state = new RuleState(rule, armed);
+                if (before != null) {
+                    copiedStates.put(state, before);
+                }
+                (rule.getDirection() == AlertRule.Direction.UP ? upStates : downStates).add(state);
+            }
+
+            this.up = new Side(upStates, -hysteresisBps);
+            this.down = new Side(downStates, hysteresisBps);
+            this.lastPrice = added ? FixedPoint.NaN : previousPrice;
+            this.previous = previous;
+            this.copiedPrice = previousPrice;
+            // 규칙이 추가된 종목은 직전 가격을 이어받지 않음
+            this.carryPrice = !added;
+        }
+
+        /**
+         * 새 인덱스를 게시한 뒤 이전 규칙을 폐기하고, 상태를 복사한 뒤 이전 규칙에서 발송/재무장된 상태와 직전 가격을 넘겨받습니다.
+         * (load에서만 호출하며 락 순서는 항상 이전 규칙 → 새 규칙)
+         */
+        void takeOver() {
+            SymbolRules previous = this.previous;
+            if (previous == null) {
+                return;
+            }
+            synchronized (previous) {
+                previous.retired = true;
+                synchronized (this) {
+                    copiedStates.forEach((state, copied) -> {
+                        if (copied.state().armed != copied.armed()) {
+                            state.armed = copied.state().armed;
+                        }
+                    });
+                    if (carryPrice && previous.lastPrice != copiedPrice && lastPrice == copiedPrice) {
+                        lastPrice = previous.lastPrice;
+                    }
+                }
+            }
+            this.previous = null;
+            copiedStates.clear();
+        }
+
+        synchronized AlertRule nearest(long price) {
+            RuleState nearest = null;
+            long nearestDistance = Long.MAX_VALUE;
+            for (RuleState[] states : List.of(up.states, down.states)) {
+                for (RuleState state : states) {
+                    long distance = price == FixedPoint.NaN ? 0 : Math.abs(state.threshold - price);
+                    boolean better = nearest == null
+                            || (state.armed && !nearest.armed)
+                            || (state.armed == nearest.armed && distance < nearestDistance);
+                    if (better) {
+                        nearest = state;
+                        nearestDistance = distance;
+                    }
+                }
+            }
+            return nearest != null ? nearest.rule : null;
+        }
+
+        synchronized void retire() {
+            retired = true;
+        }
+
+        /**
+         * @return 상태가 바뀐 규칙, 인덱스가 교체되어 다시 판정해야 하면 null
+         */
+        synchronized List<Transition> evaluate(long price) {
+            if (retired) {
+                return null;
+            }
+
+            long previous = lastPrice;
+            lastPrice = price;
+
+            List<Transition> transitions = null;
+            if (previous == FixedPoint.NaN) {
+                // 첫 가격: 현재 수준 기준으로 판정
+                transitions = up.fire(0, upperBound(up.thresholds, price), transitions);
+                transitions = down.fire(lowerBound(down.thresholds, price), down.size(), transitions);
+                transitions = up.rearm(lowerBound(up.rearmLevels, price), up.size(), transitions);
+                transitions = down.rearm(0, upperBound(down.rearmLevels, price), transitions);
+            } else if (price > previous) {
+                // 상승: (previous, price] 구간의 UP 목표가 발송, DOWN 재무장 기준가 재무장
+                transitions = up.fire(upperBound(up.thresholds, previous), upperBound(up.thresholds, price), transitions);
+                transitions = down.rearm(upperBound(down.rearmLevels, previous), upperBound(down.rearmLevels, price), transitions);
+            } else if (price < previous) {
+                // 하락: [price, previous) 구간의 DOWN 목표가 발송, UP 재무장 기준가 재무장
+                transitions = down.fire(lowerBound(down.thresholds, price), lowerBound(down.thresholds, previous), transitions);
+                transitions = up.rearm(lowerBound(up.rearmLevels, price), lowerBound(up.rearmLevels, previous), transitions);
+            }
+            return transitions != null ? transitions : List.of();
+        }
+    }
+
+    /**
+     * 한 방향의 규칙 (목표가 오름차순, 재무장 기준가도 같은 순서)
+     */
+    private static final class Side {
+
+        private final RuleState[] states;
+        private final long[] thresholds;
+        private final long[] rearmLevels;
+
+        Side(List<RuleState> states, long rearmOffsetBps) {
+            states.sort(Comparator.comparingLong(state -> state.threshold));
+            this.states = states.toArray(RuleState[]::new);
+            this.thresholds = new long[this.states.length];
+            this.rearmLevels = new long[this.states.length];
+            for (int i = 0; i < this.states.length; i++) {
+                long threshold = this.states[i].threshold;
+                thresholds[i] = threshold;
+                // UP은 목표가보다 bps만큼 아래, DOWN은 bps만큼 위로 돌아와야 재무장
+                rearmLevels[i] = threshold + threshold * rearmOffsetBps / 10_000;
+            }
+        }
+
+        int size() {
+            return states.length;
+        }
+
+        List<Transition> fire(int from, int to, List<Transition> transitions) {
+            return transition(from, to, false, transitions);
+        }
+
+        List<Transition> rearm(int from, int to, List<Transition> transitions) {
+            return transition(from, to, true, transitions);
+        }
+
+        private List<Transition> transition(int from, int to, boolean armed, List<Transition> transitions) {
+            for (int i = from; i < to; i++) {
+                RuleState state = states[i];
+                if (state.armed != armed) {
+                    state.armed = armed;
+                    if (transitions == null) {
+                        transitions = new ArrayList<>(2);
+                    }
+                    transitions.add(new Transition(state.rule, armed));
+                }
+            }
+            return transitions;
+        }
+    }
+
+    /**
+     * 새 규칙을 만들 때 복사한 이전 규칙의 무장 상태
+     */
+    private record CopiedState(RuleState state, boolean armed) {
+    }
+
+    /**
+     * 규칙별 무장 상태
+     */
+    private static final class RuleState {
+
+        private final AlertRule rule;
+        private final String key;
+        private final long threshold;
+        private boolean armed;
+
+        RuleState(AlertRule rule, boolean armed) {
+            this.rule = rule;
+            this.key = keyOf(rule);
+            this.threshold = FixedPoint.parse(rule.getTargetPrice(), FixedPoint.PRICE_SCALE);
+            this.armed = armed;
+        }
+    }
+
+    /**
+     * value 이상인 첫 위치
+     */
+    private static int lowerBound(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && values[index - 1] == value) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * value 초과인 첫 위치
+     */
+    private static int upperBound(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < values.length - 1 && values[index + 1] == value) {
+            index++;
+        }
+        return index + 1;
+    }
+}
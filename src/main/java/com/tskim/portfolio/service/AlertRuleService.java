@@ -0,0 +1,237 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.constants.StockConstants;
+import com.tskim.portfolio.dto.alert.AlertRuleDto;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
+import com.tskim.portfolio.repository.AlertRuleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 목표가 알림 규칙 서비스
+ * MongoDB(alert_rules)의 규칙을 종목별 정렬 인덱스(AlertRuleIndex)에 적재하여 시세마다 교차한 규칙만 판정합니다.
+ * 발송/재무장 상태 변경은 시세 수신 스레드를 막지 않도록 별도 스레드에서 순서대로 저장합니다.
+ */
+@Service
+@Slf4j
+public class AlertRuleService {
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AlertRuleIndex alertRuleIndex;
+    private final MeterRegistry meterRegistry;
+
+    // 규칙 상태 변경 저장용 단일 스레드 (변경 순서 보장)
+    private final ExecutorService persistExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("alert-rule-persist").daemon().factory());
+
+    // 규칙 컬렉션을 한 번이라도 읽었는지 여부 (그 전까지는 상수의 목표가로 동작)
+    private volatile boolean loaded;
+
+    public AlertRuleService(AlertRuleRepository alertRuleRepository,
+                            MongoTemplate mongoTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${alert.rearm-hysteresis-bps:50}") long rearmHysteresisBps) {
+        this.alertRuleRepository = alertRuleRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.alertRuleIndex = new AlertRuleIndex(rearmHysteresisBps);
+
+        // MongoDB 조회 전에도 기존 목표가 알림이 동작하도록 상수의 목표가로 먼저 적재
+        this.alertRuleIndex.load(defaultRules());
+    }
+
+    /**
+     * 알림 규칙을 MongoDB에서 다시 읽어 인덱스를 갱신합니다.
+     * 규칙 컬렉션이 비어 있으면 상수의 목표가를 초기 규칙으로 저장합니다.
+     * MongoDB에 연결할 수 없으면 기존 인덱스를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${alert.reload-interval:PT5M}")
+    public void reload() {
+        try {
+            if (!loaded && alertRuleRepository.count() == 0) {
+                List<AlertRule> saved = alertRuleRepository.saveAll(defaultRules());
+                log.info("목표가 알림 초기 규칙 저장: {} 건", saved.size());
+            }
+
+            List<AlertRule> rules = alertRuleRepository.findByEnabledTrue();
+            alertRuleIndex.load(rules);
+            loaded = true;
+            log.debug("목표가 알림 규칙 적재 완료: {} 건", rules.size());
+
+        } catch (Exception e) {
+            log.warn("목표가 알림 규칙 적재 실패 - 기존 규칙 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 가격으로 목표가를 교차한 규칙을 판정합니다.
+     * 교차한 규칙은 무장 해제되어 가격이 재무장 구간으로 돌아올 때까지 다시 발송되지 않습니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param price 현재가 (FixedPoint.PRICE_SCALE 고정소수점)
+     * @return 이번 가격으로 발송해야 하는 규칙 (없으면 빈 리스트)
+     */
+    public List<AlertRule> evaluate(String symbol, long price) {
+        List<AlertRuleIndex.Transition> transitions = alertRuleIndex.evaluate(symbol, price);
+        if (transitions.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AlertRule> fired = new ArrayList<>(transitions.size());
+        for (AlertRuleIndex.Transition transition : transitions) {
+            if (transition.armed()) {
+                log.info("목표가 알림 재무장: {} {} {}", symbol, transition.rule().getDirection(), transition.rule().getTargetPrice());
+            } else {
+                fired.add(transition.rule());
+            }
+            Counter.builder(transition.armed() ? "alert.rearmed" : "alert.fired")
+                    .tag("asset", String.valueOf(transition.rule().getAssetType()))
+                    .register(meterRegistry)
+                    .increment();
+            persist(transition, now);
+        }
+        return fired;
+    }
+
+    /**
+     * 시세 응답(targetPrice, targetPriceDirection)에 표시할 알림 규칙
+     * 종목에 규칙이 여러 개면 무장된 규칙 중 현재가에서 가장 가까운 목표가를 선택합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param price 현재가 (FixedPoint.PRICE_SCALE 고정소수점)
+     * @return 알림 규칙 (없으면 null)
+     */
+    public AlertRule getDisplayRule(String symbol, long price) {
+        return alertRuleIndex.nearestRule(symbol, price);
+    }
+
+    /**
+     * 알림 규칙이 있는 종목 목록
+     *
+     * @param assetType 자산 종류
+     * @return 종목 코드 또는 마켓 코드
+     */
+    public Set<String> getSymbols(AlertRule.AssetType assetType) {
+        return alertRuleIndex.symbols(assetType);
+    }
+
+    /**
+     * 전체 알림 규칙 조회
+     */
+    public List<AlertRuleDto> getRules() {
+        log.info("목표가 알림 규칙 목록 조회 요청");
+
+        return alertRuleRepository.findAll().stream()
+                .map(AlertRuleDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 알림 규칙 등록
+     */
+    public AlertRuleDto createRule(AlertRuleDto ruleDto) {
+        log.info("목표가 알림 규칙 등록 요청: {} {} {}", ruleDto.getSymbol(), ruleDto.getDirection(), ruleDto.getTargetPrice());
+
+        long targetPrice = FixedPoint.parse(ruleDto.getTargetPrice(), FixedPoint.PRICE_SCALE);
+        if (targetPrice == FixedPoint.NaN || targetPrice <= 0) {
+            throw new IllegalArgumentException("목표가는 0보다 큰 숫자여야 합니다: " + ruleDto.getTargetPrice());
+        }
+        if ((ruleDto.getAssetType() == AlertRule.AssetType.CRYPTO) != ruleDto.getSymbol().startsWith("KRW-")) {
+            throw new IllegalArgumentException("자산 종류와 종목 코드 형식이 맞지 않습니다: " + ruleDto.getSymbol());
+        }
+
+        AlertRule savedRule = alertRuleRepository.save(ruleDto.toEntity());
+        reload();
+
+        log.info("목표가 알림 규칙 등록 완료: ID={}", savedRule.getId());
+
+        return AlertRuleDto.from(savedRule);
+    }
+
+    /**
+     * 알림 규칙 삭제
+     */
+    public void deleteRule(String id) {
+        log.info("목표가 알림 규칙 삭제 요청: {}", id);
+
+        if (!alertRuleRepository.existsById(id)) {
+            throw new IllegalArgumentException("해당 ID의 알림 규칙을 찾을 수 없습니다: " + id);
+        }
+
+        alertRuleRepository.deleteById(id);
+        reload();
+
+        log.info("목표가 알림 규칙 삭제 완료: ID={}", id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistExecutor.shutdown();
+    }
+
+    /**
+     * 규칙 상태 변경을 비동기로 저장합니다. 저장 전 규칙(상수 초기값)은 메모리에서만 관리합니다.
+     */
+    private void persist(AlertRuleIndex.Transition transition, LocalDateTime now) {
+        String id = transition.rule().getId();
+        if (id == null) {
+            return;
+        }
+
+        Update update = new Update().set("armed", transition.armed());
+        if (!transition.armed()) {
+            update.set("lastTriggeredAt", now);
+        }
+        persistExecutor.execute(() -> {
+            try {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), update, AlertRule.class);
+            } catch (Exception e) {
+                log.warn("목표가 알림 규칙 상태 저장 실패: id={}, 오류={}", id, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 상수에 정의된 목표가로 만든 초기 규칙
+     */
+    private static List<AlertRule> defaultRules() {
+        List<AlertRule> rules = new ArrayList<>();
+        StockConstants.TARGET_PRICES.forEach((itemCode, targetPrice) -> rules.add(defaultRule(
+                itemCode, AlertRule.AssetType.STOCK, targetPrice,
+                AlertRule.Direction.valueOf(StockConstants.getTargetPriceDirection(itemCode).name()))));
+        CryptoConstants.TARGET_PRICES.forEach((cryptoCode, targetPrice) -> rules.add(defaultRule(
+                cryptoCode, AlertRule.AssetType.CRYPTO, targetPrice,
+                AlertRule.Direction.valueOf(CryptoConstants.getTargetPriceDirection(cryptoCode).name()))));
+        return rules;
+    }
+
+    private static AlertRule defaultRule(String symbol, AlertRule.AssetType assetType, String targetPrice, AlertRule.Direction direction) {
+        AlertRule rule = new AlertRule();
+        rule.setSymbol(symbol);
+        rule.setAssetType(assetType);
+        rule.setTargetPrice(targetPrice);
+        rule.setDirection(direction);
+        return rule;
+    }
+}
@@ -2,21 +2,30 @@ package com.tskim.portfolio.service;
 
 import com.tskim.portfolio.constants.CryptoConstants;
 import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
-import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import com.tskim.portfolio.dto.notification.NotificationMessage;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CryptoService {
     
-    private final WebClient.Builder webClientBuilder;
+    private final UpbitTickerBatcher upbitTickerBatcher;
+    private final CryptoTickerStore cryptoTickerStore;
+    private final AlertRuleService alertRuleService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final QuoteTickRecorder quoteTickRecorder;
+    private final LastKnownValues lastKnownValues;
     
     /**
      * 암호화폐들의 실시간 정보를 조회합니다.
@@ -25,106 +34,196 @@ public class CryptoService {
      * @return 암호화폐 정보 리스트
      */
     public List<CryptoInfoDto> getCryptoInfos(String cryptoCodes) {
-        try {
-            log.info("암호화폐 정보 조회 요청: {}", cryptoCodes);
-            
-            // 암호화폐 코드 유효성 검증
-            if (cryptoCodes == null || cryptoCodes.trim().isEmpty()) {
-                throw new IllegalArgumentException("암호화폐 코드는 필수입니다");
-            }
-            
-            // 각 코드 유효성 검증
-            String[] codes = cryptoCodes.split(",");
-            for (String code : codes) {
-                if (code == null || code.trim().isEmpty()) {
-                    throw new IllegalArgumentException("암호화폐 코드는 비어있을 수 없습니다");
-                }
-                if (!code.matches("^KRW-[A-Z]+$")) {
-                    throw new IllegalArgumentException("암호화폐 코드는 KRW-XXX 형식이어야 합니다. 잘못된 코드: " + code);
-                }
-            }
-            
-            // 업비트 API 호출
-            List<CryptoResponseDto> cryptoResponses = callUpbitApi(cryptoCodes);
-            
-            if (cryptoResponses.isEmpty()) {
-                throw new IllegalArgumentException("해당 암호화폐 정보를 찾을 수 없습니다: " + cryptoCodes);
-            }
-            
-            // 응답 데이터 파싱
-            List<CryptoInfoDto> cryptoInfos = cryptoResponses.stream()
-                    .map(this::parseCryptoResponse)
-                    .toList();
-            
-            log.info("암호화폐 정보 조회 완료: {} 종목", cryptoInfos.size());
-            return cryptoInfos;
-            
-        } catch (IllegalArgumentException e) {
-            log.warn("암호화폐 정보 조회 실패 - 잘못된 요청: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("암호화폐 정보 조회 중 오류 발생: cryptoCodes={}", cryptoCodes, e);
-            throw new RuntimeException("암호화폐 정보 조회 중 오류가 발생했습니다: " + cryptoCodes, e);
-        }
+        return getCryptoInfosReactive(cryptoCodes).block();
+    }
+    
+    /**
+     * 암호화폐들의 실시간 정보를 논블로킹으로 조회합니다.
+     * 업비트 API 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     * 업비트 장애로 조회하지 못하면 마켓별 마지막 정상 시세를 stale로 표시해 응답합니다.
+     * 재시작 직후 스냅샷에서 복원한 시세가 있으면 업비트를 기다리지 않고 stale로 응답하고, 최신 시세는 백그라운드로 조회합니다.
+     * 
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분, 예: "KRW-BTC,KRW-ETH,KRW-XRP")
+     * @return 암호화폐 정보 리스트
+     */
+    public Mono<List<CryptoInfoDto>> getCryptoInfosReactive(String cryptoCodes) {
+        return Mono.defer(() -> {
+                    List<CryptoInfoDto> restoredCryptoInfos = getRestoredCryptoInfos(cryptoCodes);
+                    if (restoredCryptoInfos != null) {
+                        return Mono.just(restoredCryptoInfos);
+                    }
+                    return getCryptoQuotesReactive(cryptoCodes)
+                            // 응답 시점에만 문자열로 포맷
+                            .map(cryptoQuotes -> cryptoQuotes.stream()
+                                    .map(this::formatCryptoInfo)
+                                    .toList());
+                })
+                .onErrorResume(e -> !(e instanceof IllegalArgumentException) && UpstreamGuard.isUpstreamFailure(e),
+                        e -> getStaleCryptoInfos(cryptoCodes, e))
+                .doOnNext(cryptoInfos -> log.info("암호화폐 정보 조회 완료: {} 종목", cryptoInfos.size()))
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException), e -> {
+                    log.error("암호화폐 정보 조회 중 오류 발생: cryptoCodes={}", cryptoCodes, e);
+                    return new RuntimeException("암호화폐 정보 조회 중 오류가 발생했습니다: " + cryptoCodes, e);
+                })
+                .doOnError(IllegalArgumentException.class,
+                        e -> log.warn("암호화폐 정보 조회 실패 - 잘못된 요청: {}", e.getMessage()));
     }
     
     /**
-     * 업비트 API를 호출합니다.
+     * 암호화폐들의 시세를 내부 표현(고정소수점)으로 조회합니다.
      * 
-     * @param markets 조회할 암호화폐 코드들 (쉼표로 구분)
-     * @return 암호화폐 응답 리스트
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분, 예: "KRW-BTC,KRW-ETH,KRW-XRP")
+     * @return 시세 리스트
      */
-    private List<CryptoResponseDto> callUpbitApi(String markets) {
-        String url = CryptoConstants.UPBIT_TICKER_URL + "?markets=" + markets;
-        
-        log.debug("업비트 API 호출 URL: {}", url);
+    private Mono<List<CryptoQuote>> getCryptoQuotesReactive(String cryptoCodes) {
+        return Mono.defer(() -> {
+                    log.info("암호화폐 정보 조회 요청: {}", cryptoCodes);
+                    
+                    // 암호화폐 코드 유효성 검증
+                    validateCryptoCodes(cryptoCodes);
+                    
+                    // 웹소켓 시세 저장소에 모든 마켓이 있으면 업스트림 호출 없이 응답
+                    List<CryptoQuote> streamedTickers = cryptoTickerStore.getAllIfAvailable(List.of(cryptoCodes.split(",")));
+                    if (streamedTickers != null) {
+                        log.debug("웹소켓 시세 저장소에서 응답: {}", cryptoCodes);
+                        return Mono.just(streamedTickers);
+                    }
+                    
+                    // 업비트 API 호출 (동시 요청과 묶어서 호출), 조회한 시세는 틱 이력으로 기록
+                    return upbitTickerBatcher.fetch(List.of(cryptoCodes.split(",")))
+                            .doOnNext(cryptoQuotes -> cryptoQuotes.forEach(quoteTickRecorder::record));
+                })
+                .doOnNext(cryptoQuotes -> {
+                    if (cryptoQuotes.isEmpty()) {
+                        throw new IllegalArgumentException("해당 암호화폐 정보를 찾을 수 없습니다: " + cryptoCodes);
+                    }
+                    // 장애 대비, 재시작 스냅샷용으로 보관
+                    cryptoQuotes.forEach(cryptoQuote -> lastKnownValues.cryptoQuotes().put(cryptoQuote.market(), cryptoQuote));
+                });
+    }
+    
+    /**
+     * 마켓별 마지막 정상 시세를 stale로 표시해 반환합니다.
+     * 요청한 마켓 중 하나라도 stale-max-age 안의 시세가 없으면 원래 오류로 실패합니다.
+     * 
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분)
+     * @param error 업비트 조회 오류
+     * @return 암호화폐 정보 리스트
+     */
+    private Mono<List<CryptoInfoDto>> getStaleCryptoInfos(String cryptoCodes, Throwable error) {
+        List<CryptoInfoDto> cryptoInfos = formatLastKnown(cryptoCodes, false);
+        if (cryptoInfos == null) {
+            return Mono.error(error);
+        }
         
-        WebClient webClient = webClientBuilder.build();
+        log.warn("업비트 시세 조회 실패, 마지막 정상 시세로 응답: {}, 오류={}", cryptoCodes, error.getMessage());
+        return Mono.just(cryptoInfos);
+    }
+    
+    /**
+     * 요청한 마켓이 모두 스냅샷에서 복원한 뒤 아직 새로 받지 못한 시세이면 stale로 표시해 반환하고, 최신 시세를 백그라운드로 조회합니다.
+     * 
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분)
+     * @return 암호화폐 정보 리스트 (복원한 시세가 없는 마켓이 있으면 null)
+     */
+    private List<CryptoInfoDto> getRestoredCryptoInfos(String cryptoCodes) {
+        if (cryptoCodes == null) {
+            return null;
+        }
+        List<CryptoInfoDto> cryptoInfos = formatLastKnown(cryptoCodes, true);
+        if (cryptoInfos == null) {
+            return null;
+        }
         
-        return webClient.get()
-                .uri(url)
-                .header("accept", "application/json")
-                .retrieve()
-                .bodyToFlux(CryptoResponseDto.class)
-                .collectList()
-                .timeout(Duration.ofSeconds(10))
-                .block();
+        List<String> markets = List.of(cryptoCodes.split(","));
+        if (lastKnownValues.cryptoQuotes().startRefresh(markets)) {
+            log.info("복원한 암호화폐 시세로 응답, 최신 시세 백그라운드 조회: {}", cryptoCodes);
+            getCryptoQuotesReactive(cryptoCodes)
+                    .doFinally(signal -> lastKnownValues.cryptoQuotes().endRefresh(markets))
+                    .subscribe(cryptoQuotes -> log.debug("복원한 암호화폐 시세 갱신 완료: {}", cryptoCodes),
+                            e -> log.warn("복원한 암호화폐 시세 갱신 실패: {}, 오류={}", cryptoCodes, e.getMessage()));
+        }
+        return cryptoInfos;
+    }
+    
+    /**
+     * 마켓별 마지막 정상 시세를 stale로 표시해 포맷합니다.
+     * 
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분)
+     * @param restoredOnly 스냅샷에서 복원한 뒤 아직 새로 받지 못한 시세만 사용
+     * @return 암호화폐 정보 리스트 (시세가 없는 마켓이 있으면 null)
+     */
+    private List<CryptoInfoDto> formatLastKnown(String cryptoCodes, boolean restoredOnly) {
+        List<CryptoInfoDto> cryptoInfos = new ArrayList<>();
+        for (String market : cryptoCodes.split(",")) {
+            StaleValueStore.Stamped<CryptoQuote> lastQuote = restoredOnly
+                    ? lastKnownValues.cryptoQuotes().getRestored(market)
+                    : lastKnownValues.cryptoQuotes().get(market);
+            if (lastQuote == null) {
+                return null;
+            }
+            CryptoInfoDto cryptoInfo = formatCryptoInfo(lastQuote.value());
+            cryptoInfo.setStale(true);
+            cryptoInfo.setStaleAgeSeconds(lastQuote.age().toSeconds());
+            cryptoInfos.add(cryptoInfo);
+        }
+        return cryptoInfos;
     }
     
     /**
-     * 업비트 API 응답을 파싱하여 CryptoInfoDto로 변환합니다.
+     * 암호화폐 코드 형식을 검증합니다.
+     * 
+     * @param cryptoCodes 암호화폐 코드들 (쉼표로 구분)
      */
-    private CryptoInfoDto parseCryptoResponse(CryptoResponseDto response) {
-        if (response == null) {
-            throw new RuntimeException("업비트 API 응답이 올바르지 않습니다.");
+    private void validateCryptoCodes(String cryptoCodes) {
+        if (cryptoCodes == null || cryptoCodes.trim().isEmpty()) {
+            throw new IllegalArgumentException("암호화폐 코드는 필수입니다");
         }
         
+        // 각 코드 유효성 검증
+        String[] codes = cryptoCodes.split(",");
+        for (String code : codes) {
+            if (code == null || code.trim().isEmpty()) {
+                throw new IllegalArgumentException("암호화폐 코드는 비어있을 수 없습니다");
+            }
+            if (!code.matches("^KRW-[A-Z]+$")) {
+                throw new IllegalArgumentException("암호화폐 코드는 KRW-XXX 형식이어야 합니다. 잘못된 코드: " + code);
+            }
+        }
+    }
+    
+    /**
+     * 시세를 응답용 CryptoInfoDto로 포맷합니다.
+     */
+    private CryptoInfoDto formatCryptoInfo(CryptoQuote quote) {
+        // 목표가는 알림 규칙(alert_rules)에서 조회
+        AlertRule rule = alertRuleService.getDisplayRule(quote.market(), quote.tradePrice());
         return CryptoInfoDto.builder()
-                .cryptoCode(response.getMarket())
-                .cryptoName(CryptoConstants.getCryptoName(response.getMarket()))
-                .tradePrice(response.getTradePrice())
-                .changePrice(response.getChangePrice())
-                .changeRate(String.format("%.2f", Double.parseDouble(response.getChangeRate()) * 100))
-                .change(response.getChange())
-                .openingPrice(response.getOpeningPrice())
-                .highPrice(response.getHighPrice())
-                .lowPrice(response.getLowPrice())
-                .tradeVolume(response.getTradeVolume())
-                .accTradePrice(response.getAccTradePrice())
-                .accTradePrice24h(response.getAccTradePrice24h())
-                .accTradeVolume24h(response.getAccTradeVolume24h())
-                .highest52WeekPrice(response.getHighest52WeekPrice())
-                .lowest52WeekPrice(response.getLowest52WeekPrice())
-                .tradeTimeKst(response.getTradeTimeKst())
-                .targetPrice(CryptoConstants.getTargetPrice(response.getMarket()))
-                .targetPriceDirection(CryptoConstants.getTargetPriceDirection(response.getMarket()) != null ? 
-                    CryptoConstants.getTargetPriceDirection(response.getMarket()).name() : null)
+                .cryptoCode(quote.market())
+                .cryptoName(CryptoConstants.getCryptoName(quote.market()))
+                .tradePrice(FixedPoint.format(quote.tradePrice(), FixedPoint.PRICE_SCALE))
+                .changePrice(FixedPoint.format(quote.changePrice(), FixedPoint.PRICE_SCALE))
+                // 비율(0.0067)을 소수점 2자리 백분율(0.67)로 변환
+                .changeRate(FixedPoint.formatFixed(FixedPoint.rescale(quote.changeRate(), FixedPoint.RATE_SCALE - 2, 2), 2))
+                .change(quote.change())
+                .openingPrice(FixedPoint.format(quote.openingPrice(), FixedPoint.PRICE_SCALE))
+                .highPrice(FixedPoint.format(quote.highPrice(), FixedPoint.PRICE_SCALE))
+                .lowPrice(FixedPoint.format(quote.lowPrice(), FixedPoint.PRICE_SCALE))
+                .tradeVolume(FixedPoint.format(quote.tradeVolume(), FixedPoint.VOLUME_SCALE))
+                .accTradePrice(FixedPoint.format(quote.accTradePrice(), FixedPoint.PRICE_SCALE))
+                .accTradePrice24h(quote.accTradePrice24h())
+                .accTradeVolume24h(quote.accTradeVolume24h())
+                .highest52WeekPrice(FixedPoint.format(quote.highest52WeekPrice(), FixedPoint.PRICE_SCALE))
+                .lowest52WeekPrice(FixedPoint.format(quote.lowest52WeekPrice(), FixedPoint.PRICE_SCALE))
+                .tradeTimeKst(quote.tradeTimeKst())
+                .targetPrice(rule != null ? rule.getTargetPrice() : null)
+                .targetPriceDirection(rule != null ? rule.getDirection().name() : null)
                 .build();
     }
     
     /**
-     * 목표가 알림 대상 암호화폐들의 목표가 알림을 체크합니다.
-     * 스케줄러에서 1분마다 호출하여 목표가 도달 시 알림을 보냅니다.
+     * 알림 규칙이 있는 암호화폐들의 목표가 알림을 체크합니다.
+     * 웹소켓 스트림이 끊긴 동안 스케줄러에서 1분마다 호출하여 목표가 도달 시 알림을 보냅니다.
      * 
      * @return 알림이 발송된 암호화폐 목록
      */
@@ -132,13 +231,18 @@ public class CryptoService {
         try {
             log.info("암호화폐 목표가 알림 체크 시작");
             
-            // 목표가 알림 대상 암호화폐들만 조회
-            String targetCryptoCodes = String.join(",", CryptoConstants.TARGET_PRICE_ALERT_CRYPTOS);
-            List<CryptoInfoDto> targetCryptoInfos = getCryptoInfos(targetCryptoCodes);
+            // 알림 규칙이 있는 암호화폐들만 조회
+            Set<String> alertCryptos = alertRuleService.getSymbols(AlertRule.AssetType.CRYPTO);
+            if (alertCryptos.isEmpty()) {
+                log.debug("목표가 알림 규칙이 있는 암호화폐 없음");
+                return List.of();
+            }
+            String targetCryptoCodes = String.join(",", alertCryptos);
+            List<CryptoQuote> targetCryptoQuotes = getCryptoQuotesReactive(targetCryptoCodes).block();
             
-            List<String> notifiedCryptos = targetCryptoInfos.stream()
+            List<String> notifiedCryptos = targetCryptoQuotes.stream()
                     .filter(this::checkAndSendNotification)
-                    .map(CryptoInfoDto::getCryptoCode)
+                    .map(CryptoQuote::market)
                     .toList();
             
             if (!notifiedCryptos.isEmpty()) {
@@ -155,40 +259,53 @@ public class CryptoService {
         }
     }
     
+    /**
+     * 웹소켓으로 수신한 시세의 목표가 알림을 체크합니다.
+     * 
+     * @param ticker 업비트 시세
+     * @return 알림 발송 여부
+     */
+    public boolean checkTargetPriceNotification(CryptoQuote ticker) {
+        return checkAndSendNotification(ticker);
+    }
+    
     /**
      * 특정 암호화폐의 목표가 알림을 체크하고 필요시 알림을 발송합니다.
+     * 직전 가격 이후 목표가를 교차한 규칙만 발송하며, 알림을 보낼 때만 문자열로 포맷합니다.
      * 
-     * @param cryptoInfo 암호화폐 정보
+     * @param cryptoQuote 암호화폐 시세
      * @return 알림 발송 여부
      */
-    private boolean checkAndSendNotification(CryptoInfoDto cryptoInfo) {
+    private boolean checkAndSendNotification(CryptoQuote cryptoQuote) {
         try {
-            // 목표가 알림 조건 체크
-            if (CryptoConstants.shouldSendNotification(cryptoInfo.getCryptoCode(), cryptoInfo.getTradePrice())) {
-                sendNotification(cryptoInfo);
-                return true;
+            // 목표가를 교차한 알림 규칙 조회
+            List<AlertRule> firedRules = alertRuleService.evaluate(cryptoQuote.market(), cryptoQuote.tradePrice());
+            if (firedRules.isEmpty()) {
+                return false;
             }
             
-            return false;
+            CryptoInfoDto cryptoInfo = formatCryptoInfo(cryptoQuote);
+            firedRules.forEach(rule -> sendNotification(cryptoInfo, rule));
+            return true;
             
         } catch (Exception e) {
-            log.error("암호화폐 {} 목표가 알림 체크 중 오류 발생", cryptoInfo.getCryptoCode(), e);
+            log.error("암호화폐 {} 목표가 알림 체크 중 오류 발생", cryptoQuote.market(), e);
             return false;
         }
     }
     
     /**
-     * 알림을 발송합니다.
-     * TODO: 카카오톡 API 연동 구현 필요
+     * 알림을 발송 큐에 넣습니다. 실제 발송은 NotificationDispatcher가 별도 스레드에서 처리합니다.
      * 
      * @param cryptoInfo 암호화폐 정보
+     * @param rule 목표가를 교차한 알림 규칙
      */
-    private void sendNotification(CryptoInfoDto cryptoInfo) {
+    private void sendNotification(CryptoInfoDto cryptoInfo, AlertRule rule) {
         try {
             String cryptoName = cryptoInfo.getCryptoName();
-            String targetPrice = cryptoInfo.getTargetPrice();
+            String targetPrice = rule.getTargetPrice();
             String currentPrice = cryptoInfo.getTradePrice();
-            String direction = CryptoConstants.getTargetPriceDirection(cryptoInfo.getCryptoCode()).name();
+            String direction = rule.getDirection().name();
             
             // 알림 메시지 생성 (방향에 따라 다른 메시지)
             String directionKorean = direction.equals("UP") ? "이상" : "이하";
@@ -204,17 +321,8 @@ public class CryptoService {
                 currentPrice, targetPrice, directionKorean
             );
             
-            log.info("암호화폐 알림 발송: {}", message);
-            
-            // TODO: 카카오톡 API 연동 구현
-            // 1. 카카오톡 API 토큰 발급
-            // 2. 메시지 전송 API 호출
-            // 3. 발송 결과 로깅 및 예외 처리
-            
-            // 임시로 로그만 출력 (실제 구현 시 제거)
-            log.info("=== 암호화폐 알림 메시지 ===");
-            log.info("{}", message);
-            log.info("==========================");
+            log.info("암호화폐 알림 발송 요청: {}", message);
+            notificationDispatcher.enqueue(NotificationMessage.builder().text(message).build());
             
         } catch (Exception e) {
             log.error("암호화폐 알림 발송 중 오류 발생", e);
@@ -0,0 +1,87 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업비트 웹소켓으로 수신한 마켓별 최신 시세 저장소
+ * 스트림이 살아있는 동안 암호화폐 시세 조회는 업스트림 호출 없이 이 저장소에서 응답합니다.
+ */
+@Component
+public class CryptoTickerStore {
+
+    private final Map<String, CryptoQuote> latestTickers = new ConcurrentHashMap<>();
+
+    @Value("${crypto.websocket.stale-after:30s}")
+    private Duration staleAfter;
+
+    private volatile boolean streamConnected;
+
+    private volatile long lastReceivedAt;
+
+    /**
+     * 최신 시세를 갱신합니다.
+     *
+     * @param ticker 업비트 시세
+     */
+    public void update(CryptoQuote ticker) {
+        latestTickers.put(ticker.market(), ticker);
+        lastReceivedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 마켓의 최신 시세를 조회합니다.
+     *
+     * @param market 마켓 코드 (예: KRW-BTC)
+     * @return 최신 시세 (수신 이력이 없으면 null)
+     */
+    public CryptoQuote get(String market) {
+        return latestTickers.get(market);
+    }
+
+    /**
+     * 요청한 마켓들의 최신 시세를 요청 순서대로 조회합니다.
+     * 스트림이 끊겼거나 하나라도 수신 이력이 없는 마켓이 있으면 null을 반환합니다.
+     *
+     * @param markets 마켓 코드 목록
+     * @return 최신 시세 목록
+     */
+    public List<CryptoQuote> getAllIfAvailable(List<String> markets) {
+        if (!isStreamAlive()) {
+            return null;
+        }
+
+        List<CryptoQuote> tickers = new ArrayList<>(markets.size());
+        for (String market : markets) {
+            CryptoQuote ticker = latestTickers.get(market);
+            if (ticker == null) {
+                return null;
+            }
+            tickers.add(ticker);
+        }
+        return tickers;
+    }
+
+    /**
+     * 웹소켓 스트림 연결 상태를 설정합니다.
+     */
+    public void setStreamConnected(boolean streamConnected) {
+        this.streamConnected = streamConnected;
+    }
+
+    /**
+     * 웹소켓 스트림이 연결되어 있고 stale-after 이내에 시세를 수신했는지 확인합니다.
+     *
+     * @return 스트림 정상 여부
+     */
+    public boolean isStreamAlive() {
+        return streamConnected && System.currentTimeMillis() - lastReceivedAt < staleAfter.toMillis();
+    }
+}
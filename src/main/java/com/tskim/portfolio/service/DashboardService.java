@@ -0,0 +1,202 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import com.tskim.portfolio.dto.dashboard.DashboardDto;
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
+import com.tskim.portfolio.dto.weather.WeatherInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 홈 화면 대시보드 조회 서비스
+ * 보유 주식, 관심 암호화폐, 오늘의 러닝 스케줄과 스케줄별 날씨를 요청마다 만든 가상 스레드들에서 동시에 조회하고,
+ * 하나의 전체 제한 시간(dashboard.deadline) 안에 끝난 섹션만 응답합니다. 제한 시간이 지나면 남은 작업은 모두 중단합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    private static final String STOCKS = "stocks";
+    private static final String CRYPTOS = "cryptos";
+    private static final String SCHEDULES = "schedules";
+    private static final String WEATHER = "weather";
+
+    private final StockService stockService;
+    private final CryptoService cryptoService;
+    private final RunningScheduleService runningScheduleService;
+    private final WeatherService weatherService;
+
+    @Value("${dashboard.deadline:3s}")
+    private Duration deadline;
+
+    /**
+     * 대시보드 데이터를 조회합니다.
+     *
+     * @return 섹션별 데이터와 조회 상태
+     */
+    public DashboardDto getDashboard() {
+        long startedAt = System.nanoTime();
+        long deadlineAt = startedAt + deadline.toNanos();
+        String today = weatherService.getCurrentDate();
+
+        log.info("대시보드 조회 요청: date={}, deadline={}ms", today, deadline.toMillis());
+
+        Map<String, DashboardDto.SectionStatus> sections = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            // 섹션별 작업을 동시에 시작
+            Future<Timed<StockBatchResultDto>> stocksTask = executor.submit(timed(stockService::getHoldingStocksInfo));
+            Future<Timed<List<CryptoInfoDto>>> cryptosTask = executor.submit(timed(
+                    () -> cryptoService.getCryptoInfos(CryptoConstants.INTERESTED_CRYPTOS)));
+            Future<Timed<List<RunningScheduleDto>>> schedulesTask = executor.submit(timed(
+                    () -> runningScheduleService.getSchedulesByDate(today)));
+
+            // 스케줄이 조회되는 대로 스케줄별 날씨 조회 시작 (같은 제한 시간 적용)
+            List<RunningScheduleDto> schedules = join(SCHEDULES, schedulesTask, deadlineAt, sections);
+            if (schedules != null) {
+                joinWeathers(schedules, executor, deadlineAt, sections);
+            } else {
+                sections.put(WEATHER, new DashboardDto.SectionStatus(DashboardDto.Status.SKIPPED, 0, "러닝 스케줄 조회 실패"));
+            }
+
+            StockBatchResultDto stocks = join(STOCKS, stocksTask, deadlineAt, sections);
+            if (stocks != null && stocks.isPartial()) {
+                DashboardDto.SectionStatus status = sections.get(STOCKS);
+                status.setStatus(DashboardDto.Status.PARTIAL);
+                status.setMessage("실패 종목: " + stocks.getErrors().size() + "개");
+            }
+
+            List<CryptoInfoDto> cryptos = join(CRYPTOS, cryptosTask, deadlineAt, sections);
+
+            DashboardDto dashboard = DashboardDto.builder()
+                    .stocks(stocks)
+                    .cryptos(cryptos)
+                    .schedules(schedules)
+                    .sections(orderSections(sections))
+                    .build();
+
+            log.info("대시보드 조회 완료: {}ms, sections={}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), dashboard.getSections());
+            return dashboard;
+        } finally {
+            // 제한 시간 안에 끝나지 않은 작업은 인터럽트로 중단하고 기다리지 않음
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 스케줄별 날씨를 동시에 조회하여 스케줄에 채웁니다. 제한 시간 안에 조회하지 못한 스케줄은 날씨가 null입니다.
+     */
+    private void joinWeathers(List<RunningScheduleDto> schedules, ExecutorService executor, long deadlineAt,
+                              Map<String, DashboardDto.SectionStatus> sections) {
+        long startedAt = System.nanoTime();
+
+        List<Future<WeatherInfoDto>> weatherTasks = new ArrayList<>(schedules.size());
+        for (RunningScheduleDto schedule : schedules) {
+            weatherTasks.add(executor.submit(() -> weatherService.getWeatherInfo(
+                    schedule.getDate(), schedule.getStartTime(), schedule.getX(), schedule.getY())));
+        }
+
+        int failed = 0;
+        int timedOut = 0;
+        for (int i = 0; i < schedules.size(); i++) {
+            try {
+                schedules.get(i).setWeatherInfo(await(weatherTasks.get(i), deadlineAt));
+            } catch (TimeoutException e) {
+                weatherTasks.get(i).cancel(true);
+                timedOut++;
+            } catch (ExecutionException e) {
+                log.warn("대시보드 날씨 조회 실패: 스케줄 ID={}, 오류={}", schedules.get(i).getId(), e.getCause().getMessage());
+                failed++;
+            }
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        DashboardDto.Status status;
+        if (failed + timedOut == 0) {
+            status = DashboardDto.Status.OK;
+        } else if (failed + timedOut < schedules.size()) {
+            status = DashboardDto.Status.PARTIAL;
+        } else {
+            status = timedOut > 0 ? DashboardDto.Status.TIMEOUT : DashboardDto.Status.ERROR;
+        }
+        String message = failed + timedOut == 0 ? null : "실패 " + failed + "건, 시간 초과 " + timedOut + "건";
+        sections.put(WEATHER, new DashboardDto.SectionStatus(status, elapsedMs, message));
+    }
+
+    /**
+     * 섹션 작업의 결과를 제한 시간까지 기다리고 섹션 상태를 기록합니다.
+     *
+     * @return 섹션 결과 (시간 초과 또는 실패 시 null)
+     */
+    private <T> T join(String section, Future<Timed<T>> task, long deadlineAt, Map<String, DashboardDto.SectionStatus> sections) {
+        try {
+            Timed<T> result = await(task, deadlineAt);
+            sections.put(section, new DashboardDto.SectionStatus(DashboardDto.Status.OK, result.elapsedMs(), null));
+            return result.value();
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("대시보드 {} 조회 시간 초과", section);
+            sections.put(section, new DashboardDto.SectionStatus(DashboardDto.Status.TIMEOUT, deadline.toMillis(), "제한 시간을 초과했습니다"));
+        } catch (ExecutionException e) {
+            log.warn("대시보드 {} 조회 실패: {}", section, e.getCause().getMessage());
+            sections.put(section, new DashboardDto.SectionStatus(DashboardDto.Status.ERROR, 0, e.getCause().getMessage()));
+        }
+        return null;
+    }
+
+    /**
+     * 작업 결과를 전체 제한 시간까지 기다립니다.
+     */
+    private <T> T await(Future<T> task, long deadlineAt) throws TimeoutException, ExecutionException {
+        try {
+            return task.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("대시보드 조회가 중단되었습니다");
+        }
+    }
+
+    /**
+     * 응답의 섹션 순서를 화면 순서(주식, 암호화폐, 스케줄, 날씨)로 맞춥니다.
+     */
+    private Map<String, DashboardDto.SectionStatus> orderSections(Map<String, DashboardDto.SectionStatus> sections) {
+        Map<String, DashboardDto.SectionStatus> ordered = new LinkedHashMap<>();
+        for (String section : List.of(STOCKS, CRYPTOS, SCHEDULES, WEATHER)) {
+            ordered.put(section, sections.get(section));
+        }
+        return ordered;
+    }
+
+    private static <T> Callable<Timed<T>> timed(Callable<T> task) {
+        return () -> {
+            long startedAt = System.nanoTime();
+            T value = task.call();
+            return new Timed<>(value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        };
+    }
+
+    /**
+     * 작업 결과와 소요 시간
+     */
+    private record Timed<T>(T value, long elapsedMs) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 카카오톡 "나에게 보내기" 메시지 API 클라이언트
+ * 액세스 토큰이 설정되지 않은 경우 메시지를 로그로만 남깁니다.
+ */
+@Service
+@Slf4j
+public class KakaoMessageClient {
+
+    // 카카오톡 텍스트 템플릿 본문 최대 길이 (NotificationDispatcher가 요약 메시지를 이 길이 이하로 나눔)
+    static final int MAX_TEXT_LENGTH = 200;
+
+    private final WebClient kakaoWebClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String accessToken;
+    private final String linkUrl;
+
+    public KakaoMessageClient(WebClient kakaoWebClient,
+                              ObjectMapper objectMapper,
+                              @Value("${notification.kakao.base-url:https://kapi.kakao.com}") String baseUrl,
+                              @Value("${notification.kakao.access-token:}") String accessToken,
+                              @Value("${notification.kakao.link-url:https://finance.naver.com}") String linkUrl) {
+        this.kakaoWebClient = kakaoWebClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.linkUrl = linkUrl;
+    }
+
+    /**
+     * 메시지를 발송합니다.
+     *
+     * @param recipient 수신자 (나에게 보내기이므로 토큰 소유자에게 발송)
+     * @param text 메시지 본문
+     * @return 발송 완료 신호 (4xx/5xx 응답 시 WebClientResponseException)
+     */
+    public Mono<Void> send(String recipient, String text) {
+        if (accessToken == null || accessToken.isBlank()) {
+            log.info("카카오톡 토큰 미설정 - 메시지 로그로 대체: recipient={}\n{}", recipient, text);
+            return Mono.empty();
+        }
+
+        return kakaoWebClient.post()
+                .uri(baseUrl + "/v2/api/talk/memo/default/send")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .body(BodyInserters.fromFormData("template_object", createTemplate(text)))
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    /**
+     * 텍스트 템플릿을 생성합니다.
+     * 형식: {"object_type":"text","text":"...","link":{"web_url":"...","mobile_web_url":"..."}}
+     */
+    private String createTemplate(String text) {
+        String body = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH - 1) + "…" : text;
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "object_type", "text",
+                    "text", body,
+                    "link", Map.of("web_url", linkUrl, "mobile_web_url", linkUrl)
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카카오톡 메시지 템플릿 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 기상청 초단기예보 응답 중 한 예보 시각(fcstDate, fcstTime)의 필요한 항목만 담는 고정 슬롯 구조
+ * 응답 본문을 토큰 단위로 읽으면서 예보 시각과 항목(Category)이 일치하는 값만 문자열로 만들고,
+ * 나머지 항목은 객체를 만들지 않고 건너뜁니다.
+ */
+public final class KmaForecast {
+
+    /**
+     * 사용하는 예보 항목 (기온, 1시간 강수량, 하늘상태, 강수형태)
+     */
+    public enum Category {
+        T1H, RN1, SKY, PTY
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String fcstDate;
+    private final String fcstTime;
+    private final String[] values = new String[CATEGORIES.length];
+
+    private KmaForecast(String fcstDate, String fcstTime) {
+        this.fcstDate = fcstDate;
+        this.fcstTime = fcstTime;
+    }
+
+    public String getFcstDate() {
+        return fcstDate;
+    }
+
+    public String getFcstTime() {
+        return fcstTime;
+    }
+
+    /**
+     * @param category 예보 항목
+     * @return 예보 값 (응답에 없으면 null)
+     */
+    public String get(Category category) {
+        return values[category.ordinal()];
+    }
+
+    /**
+     * @return 응답에 있던 예보 항목과 값 (스냅샷 저장용)
+     */
+    Map<Category, String> values() {
+        Map<Category, String> present = new EnumMap<>(Category.class);
+        for (Category category : CATEGORIES) {
+            if (values[category.ordinal()] != null) {
+                present.put(category, values[category.ordinal()]);
+            }
+        }
+        return present;
+    }
+
+    /**
+     * 스냅샷에 저장한 예보를 복원합니다.
+     *
+     * @param fcstDate 예보일자 (YYYYMMDD)
+     * @param fcstTime 예보시각 (HHMM)
+     * @param values 예보 항목과 값
+     * @return 예보
+     */
+    static KmaForecast of(String fcstDate, String fcstTime, Map<Category, String> values) {
+        KmaForecast forecast = new KmaForecast(fcstDate, fcstTime);
+        values.forEach((category, value) -> forecast.values[category.ordinal()] = value);
+        return forecast;
+    }
+
+    /**
+     * 기상청 API 응답 본문(JSON)에서 지정한 예보 시각의 항목만 읽습니다.
+     * 같은 항목이 여러 번 나오면 처음 값을 사용합니다.
+     *
+     * @param body 응답 본문
+     * @param fcstDate 예보일자 (YYYYMMDD)
+     * @param fcstTime 예보시각 (HHMM)
+     * @return 예보 (일치하는 항목이 없으면 모든 값이 null)
+     */
+    static KmaForecast parse(byte[] body, String fcstDate, String fcstTime) {
+        KmaForecast forecast = new KmaForecast(fcstDate, fcstTime);
+        String resultCode = null;
+        String resultMsg = null;
+        int items = -1;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                switch (parser.currentName()) {
+                    case "resultCode" -> {
+                        parser.nextToken();
+                        resultCode = parser.getText();
+                    }
+                    case "resultMsg" -> {
+                        parser.nextToken();
+                        resultMsg = parser.getText();
+                    }
+                    case "item" -> {
+                        if (parser.nextToken() == JsonToken.START_ARRAY) {
+                            items = forecast.readItems(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> {
+                        // 다른 필드는 다음 토큰에서 계속 탐색
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("기상청 API 응답 파싱 실패: " + e.getMessage(), e);
+        }
+
+        if (resultCode != null && !"00".equals(resultCode)) {
+            throw new RuntimeException("기상청 API 오류: " + resultCode + " " + resultMsg);
+        }
+        if (items < 0) {
+            throw new RuntimeException("기상청 API 응답이 올바르지 않습니다.");
+        }
+        if (items == 0) {
+            throw new RuntimeException("날씨 데이터가 없습니다.");
+        }
+        return forecast;
+    }
+
+    /**
+     * item 배열을 읽어 예보 시각과 항목이 일치하는 값을 슬롯에 채웁니다.
+     *
+     * @return 읽은 item 수
+     */
+    private int readItems(JsonParser parser) throws IOException {
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            count++;
+            int slot = -1;
+            boolean categorySeen = false;
+            boolean dateSeen = false;
+            boolean timeSeen = false;
+            boolean dateMatches = false;
+            boolean timeMatches = false;
+            String value = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "category" -> {
+                        categorySeen = true;
+                        slot = slotOf(parser);
+                    }
+                    case "fcstDate" -> {
+                        dateSeen = true;
+                        dateMatches = textEquals(parser, fcstDate);
+                    }
+                    case "fcstTime" -> {
+                        timeSeen = true;
+                        timeMatches = textEquals(parser, fcstTime);
+                    }
+                    case "fcstValue" -> {
+                        // 이미 일치하지 않는 것으로 판정된 item의 값은 문자열로 만들지 않음
+                        boolean rejected = (categorySeen && slot < 0) || (dateSeen && !dateMatches) || (timeSeen && !timeMatches);
+                        if (!rejected) {
+                            value = parser.getText();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (slot >= 0 && dateMatches && timeMatches && value != null && values[slot] == null) {
+                values[slot] = value;
+            }
+        }
+        return count;
+    }
+
+    private static int slotOf(JsonParser parser) throws IOException {
+        for (Category category : CATEGORIES) {
+            if (textEquals(parser, category.name())) {
+                return category.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 현재 토큰의 문자열을 String으로 만들지 않고 비교합니다.
+     */
+    private static boolean textEquals(JsonParser parser, String expected) throws IOException {
+        if (expected == null || parser.getTextLength() != expected.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < expected.length(); i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("KmaForecast{").append(fcstDate).append(' ').append(fcstTime);
+        for (Category category : CATEGORIES) {
+            builder.append(", ").append(category).append('=').append(values[category.ordinal()]);
+        }
+        return builder.append('}').toString();
+    }
+}
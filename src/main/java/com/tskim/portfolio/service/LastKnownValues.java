@@ -0,0 +1,41 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 업스트림별 마지막 정상 응답
+ * 암호화폐 시세는 마켓별, 주식 시세는 종목별, 기상청 예보는 (발표일자, 발표시각, 격자)별로 보관합니다.
+ * 업스트림 장애 시 stale 응답에 사용하고, WarmStartSnapshot이 파일로 저장했다가 재시작 시 복원합니다.
+ */
+@Component
+public class LastKnownValues {
+
+    private static final long MAX_SIZE = 1000;
+
+    private final StaleValueStore<String, CryptoQuote> cryptoQuotes;
+    private final StaleValueStore<String, StockQuote> stockQuotes;
+    private final StaleValueStore<WeatherForecastCache.ForecastKey, KmaForecast> forecasts;
+
+    public LastKnownValues(@Value("${upstream.stale.max-age:1h}") Duration maxAge) {
+        this.cryptoQuotes = new StaleValueStore<>(MAX_SIZE, maxAge);
+        this.stockQuotes = new StaleValueStore<>(MAX_SIZE, maxAge);
+        this.forecasts = new StaleValueStore<>(MAX_SIZE, maxAge);
+    }
+
+    StaleValueStore<String, CryptoQuote> cryptoQuotes() {
+        return cryptoQuotes;
+    }
+
+    StaleValueStore<String, StockQuote> stockQuotes() {
+        return stockQuotes;
+    }
+
+    StaleValueStore<WeatherForecastCache.ForecastKey, KmaForecast> forecasts() {
+        return forecasts;
+    }
+}
@@ -0,0 +1,308 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.notification.NotificationMessage;
+import com.tskim.portfolio.entity.NotificationDeadLetter;
+import com.tskim.portfolio.repository.NotificationDeadLetterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 발송 큐
+ * 목표가 알림은 큐에 넣기만 하고 바로 반환하므로, 카카오톡 API가 느리거나 실패해도 다음 시세 체크가 지연되지 않습니다.
+ * 발송 스레드는 digest-window 동안 모인 알림을 수신자별 요약 메시지로 묶어 발송하고 (카카오톡 본문 길이를 넘으면 여러 메시지로 나눔),
+ * 실패 시 지수 백오프로 재시도한 뒤 끝내 실패한 메시지는 notification_dead_letters 컬렉션에 저장합니다.
+ * 알림을 보낸 규칙은 이미 해제(armed=false)되어 있으므로, 종료 시 발송하지 못한 알림도 버리지 않고 dead letter로 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    // 종료로 발송하지 못한 알림의 dead letter 오류 내용
+    private static final String SHUTDOWN_ERROR = "애플리케이션 종료로 발송하지 못함";
+
+    private final KakaoMessageClient kakaoMessageClient;
+    private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+
+    @Value("${notification.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${notification.digest-window:2s}")
+    private Duration digestWindow;
+
+    @Value("${notification.max-per-minute:20}")
+    private int maxPerMinute;
+
+    @Value("${notification.send-timeout:5s}")
+    private Duration sendTimeout;
+
+    @Value("${notification.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${notification.retry.min-backoff:1s}")
+    private Duration minBackoff;
+
+    @Value("${notification.retry.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    @Value("${notification.shutdown-timeout:5s}")
+    private Duration shutdownTimeout;
+
+    private BlockingQueue<NotificationMessage> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    // 발송 속도 제한용 다음 발송 가능 시각 (발송 스레드에서만 사용)
+    private long nextSendAt;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = Thread.ofVirtual().name("notification-dispatcher").start(this::run);
+    }
+
+    /**
+     * 새 알림을 더 받지 않고 발송 스레드를 멈춥니다.
+     * 발송 중이던 요약 메시지와 큐에 남은 알림은 발송하지 않고 dead letter로 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (this) {
+            running = false;
+        }
+        if (worker == null) {
+            return;
+        }
+
+        // 발송 스레드는 중단되면 처리 중이던 알림을 dead letter로 저장한 뒤 종료
+        worker.interrupt();
+        if (!worker.join(shutdownTimeout)) {
+            log.warn("알림 발송 스레드가 {}ms 안에 종료되지 않음", shutdownTimeout.toMillis());
+        }
+
+        List<NotificationMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("종료로 발송하지 못한 알림 dead letter 저장: {} 건", remaining.size());
+            saveDeadLetters(remaining, SHUTDOWN_ERROR);
+        }
+    }
+
+    /**
+     * 알림을 발송 큐에 넣습니다. 큐가 가득 차면 버리고 false를 반환합니다 (호출 스레드를 막지 않음).
+     * 종료 중이면 큐에 넣지 않고 dead letter로 저장합니다.
+     *
+     * @param message 알림 메시지
+     * @return 큐 적재 여부
+     */
+    public boolean enqueue(NotificationMessage message) {
+        synchronized (this) {
+            if (running) {
+                if (queue.offer(message)) {
+                    return true;
+                }
+                log.warn("알림 발송 큐가 가득 차 알림을 버림: recipient={}, 대기={} 건", message.getRecipient(), queue.size());
+                return false;
+            }
+        }
+        log.warn("종료 중이라 알림을 dead letter로 저장: recipient={}", message.getRecipient());
+        saveDeadLetters(List.of(message), SHUTDOWN_ERROR);
+        return false;
+    }
+
+    /**
+     * 발송 스레드: 첫 알림이 오면 digest-window 동안 더 모은 뒤 수신자별로 묶어서 발송합니다.
+     */
+    private void run() {
+        while (running) {
+            List<NotificationMessage> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+
+                long windowEndsAt = System.nanoTime() + digestWindow.toNanos();
+                long remaining;
+                while ((remaining = windowEndsAt - System.nanoTime()) > 0) {
+                    NotificationMessage message = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (message == null) {
+                        break;
+                    }
+                    batch.add(message);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 이미 큐에서 꺼낸 알림은 dead letter로 (인터럽트 상태는 해제된 채로 저장)
+                saveDeadLetters(batch, SHUTDOWN_ERROR);
+                return;
+            }
+
+            try {
+                List<DigestPage> pages = new ArrayList<>();
+                groupByRecipient(batch).forEach((recipient, messages) -> pages.addAll(createDigest(recipient, messages)));
+                for (DigestPage page : pages) {
+                    if (running) {
+                        deliver(page);
+                    } else {
+                        saveDeadLetter(page, 0, SHUTDOWN_ERROR);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("알림 발송 스레드 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 요약 메시지를 발송합니다. 실패하면 재시도하고, 재시도가 모두 실패하거나 발송 중 종료되면 dead letter로 저장합니다.
+     */
+    private void deliver(DigestPage page) {
+        int attempt = 0;
+        String lastError;
+        try {
+            while (true) {
+                attempt++;
+                awaitRateLimit();
+                try {
+                    kakaoMessageClient.send(page.recipient(), page.text()).block(sendTimeout);
+                    log.info("알림 발송 완료: recipient={}, {} 건, 시도 {}회", page.recipient(), page.messageCount(), attempt);
+                    return;
+                } catch (Exception e) {
+                    lastError = e.getMessage();
+                    if (!running) {
+                        // block()이 인터럽트로 중단되면 인터럽트 상태가 남아 있으므로 dead letter 저장 전에 해제
+                        Thread.interrupted();
+                        lastError = SHUTDOWN_ERROR;
+                        break;
+                    }
+                    if (!isRetryable(e) || attempt >= maxAttempts) {
+                        break;
+                    }
+                    Duration delay = backoff(attempt);
+                    log.warn("알림 발송 실패 - {}ms 후 재시도: recipient={}, 시도 {}회, 오류={}",
+                            delay.toMillis(), page.recipient(), attempt, e.getMessage());
+                    Thread.sleep(delay.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            lastError = SHUTDOWN_ERROR;
+        }
+
+        log.error("알림 발송 최종 실패 - dead letter 저장: recipient={}, {} 건, 시도 {}회, 오류={}",
+                page.recipient(), page.messageCount(), attempt, lastError);
+        saveDeadLetter(page, attempt, lastError);
+    }
+
+    private Map<String, List<NotificationMessage>> groupByRecipient(List<NotificationMessage> messages) {
+        Map<String, List<NotificationMessage>> byRecipient = new LinkedHashMap<>();
+        for (NotificationMessage message : messages) {
+            byRecipient.computeIfAbsent(message.getRecipient(), recipient -> new ArrayList<>()).add(message);
+        }
+        return byRecipient;
+    }
+
+    /**
+     * 알림이 여러 건이면 요약 메시지로 합칩니다.
+     * 카카오톡 본문 길이(KakaoMessageClient.MAX_TEXT_LENGTH)를 넘지 않도록 알림 단위로 나누어 여러 메시지를 만듭니다.
+     */
+    private List<DigestPage> createDigest(String recipient, List<NotificationMessage> messages) {
+        if (messages.size() == 1) {
+            return List.of(new DigestPage(recipient, messages.get(0).getText(), 1));
+        }
+
+        String header = "🔔 목표가 알림 " + messages.size() + "건";
+        List<DigestPage> pages = new ArrayList<>();
+        StringBuilder digest = new StringBuilder(header);
+        int count = 0;
+        for (NotificationMessage message : messages) {
+            String part = "\n\n" + message.getText();
+            if (count > 0 && digest.length() + part.length() > KakaoMessageClient.MAX_TEXT_LENGTH) {
+                pages.add(new DigestPage(recipient, digest.toString(), count));
+                digest = new StringBuilder(header).append(" (계속)");
+                count = 0;
+            }
+            digest.append(part);
+            count++;
+        }
+        pages.add(new DigestPage(recipient, digest.toString(), count));
+        return pages;
+    }
+
+    /**
+     * 분당 최대 발송 수(max-per-minute)를 넘지 않도록 발송 간격을 맞춥니다.
+     */
+    private void awaitRateLimit() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextSendAt > now) {
+            TimeUnit.NANOSECONDS.sleep(nextSendAt - now);
+            now = nextSendAt;
+        }
+        nextSendAt = now + TimeUnit.MINUTES.toNanos(1) / Math.max(1, maxPerMinute);
+    }
+
+    /**
+     * 4xx 응답(429 제외)은 재시도해도 같은 결과이므로 바로 dead letter로 보냅니다.
+     */
+    private boolean isRetryable(Exception e) {
+        if (e instanceof WebClientResponseException responseException) {
+            HttpStatus status = HttpStatus.resolve(responseException.getStatusCode().value());
+            return status == null || !status.is4xxClientError() || status == HttpStatus.TOO_MANY_REQUESTS;
+        }
+        return true;
+    }
+
+    /**
+     * 재시도 대기 시간 (min-backoff에서 2배씩 증가, max-backoff 상한, ±20% 지터)
+     */
+    private Duration backoff(int attempt) {
+        long base = Math.min(maxBackoff.toMillis(), minBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long jitter = (long) (base * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Duration.ofMillis(Math.max(0, base + jitter));
+    }
+
+    /**
+     * 발송하지 못한 알림들을 수신자별 요약 메시지로 묶어 dead letter로 저장합니다. (발송 시도 0회)
+     */
+    private void saveDeadLetters(List<NotificationMessage> messages, String error) {
+        groupByRecipient(messages).forEach((recipient, recipientMessages) ->
+                createDigest(recipient, recipientMessages).forEach(page -> saveDeadLetter(page, 0, error)));
+    }
+
+    private void saveDeadLetter(DigestPage page, int attempts, String error) {
+        try {
+            NotificationDeadLetter deadLetter = new NotificationDeadLetter();
+            deadLetter.setRecipient(page.recipient());
+            deadLetter.setText(page.text());
+            deadLetter.setMessageCount(page.messageCount());
+            deadLetter.setAttempts(attempts);
+            deadLetter.setLastError(error);
+            notificationDeadLetterRepository.save(deadLetter);
+        } catch (Exception e) {
+            log.error("알림 dead letter 저장 실패: recipient={}\n{}", page.recipient(), page.text(), e);
+        }
+    }
+
+    /**
+     * 한 번에 발송할 요약 메시지
+     *
+     * @param recipient 수신자
+     * @param text 메시지 본문
+     * @param messageCount 포함된 알림 수
+     */
+    private record DigestPage(String recipient, String text, int messageCount) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.analytics.QuoteAnalyticsDto;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종목별 롤링 구간 분석 서비스
+ * QuoteTickRecorder가 받은 틱(중복 제외)을 종목별 링 버퍼(RollingWindowStats)에 반영하고,
+ * 조회 시 구간별 SMA/EMA/VWAP/표준편차를 O(1)로 응답합니다. 서버 기동 이후의 틱만 집계합니다.
+ */
+@Service
+@Slf4j
+public class QuoteAnalyticsService {
+
+    private final int[] windows;
+    private final Map<String, RollingWindowStats> statsBySymbol = new ConcurrentHashMap<>();
+
+    public QuoteAnalyticsService(@Value("${analytics.windows:20,100,500}") int[] windows) {
+        int[] sorted = Arrays.stream(windows).filter(window -> window > 0).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            throw new IllegalArgumentException("analytics.windows에는 1 이상의 구간이 하나 이상 필요합니다");
+        }
+        this.windows = sorted;
+    }
+
+    /**
+     * 틱을 종목의 링 버퍼에 반영합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param price 체결가 (FixedPoint.PRICE_SCALE 고정소수점)
+     * @param volume 거래량 (FixedPoint.VOLUME_SCALE 고정소수점, 모르면 0)
+     */
+    public void onTick(String symbol, long price, long volume) {
+        if (price == FixedPoint.NaN) {
+            return;
+        }
+        statsBySymbol.computeIfAbsent(symbol, key -> new RollingWindowStats(windows))
+                .add(toDouble(price, FixedPoint.PRICE_SCALE), volume != FixedPoint.NaN ? toDouble(volume, FixedPoint.VOLUME_SCALE) : 0);
+    }
+
+    /**
+     * 종목의 구간별 롤링 집계를 조회합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @return 구간별 집계
+     */
+    public QuoteAnalyticsDto getAnalytics(String symbol) {
+        RollingWindowStats stats = statsBySymbol.get(symbol);
+        RollingWindowStats.Snapshot snapshot = stats != null ? stats.snapshot() : null;
+        if (snapshot == null) {
+            throw new IllegalArgumentException("집계된 시세가 없습니다: " + symbol);
+        }
+
+        List<QuoteAnalyticsDto.WindowStats> windowStats = new ArrayList<>(snapshot.windows().length);
+        for (RollingWindowStats.WindowSnapshot window : snapshot.windows()) {
+            windowStats.add(QuoteAnalyticsDto.WindowStats.builder()
+                    .window(window.window())
+                    .size(window.size())
+                    .sma(formatPrice(window.sma()))
+                    .ema(formatPrice(window.ema()))
+                    .vwap(formatPrice(window.vwap()))
+                    .stddev(formatPrice(window.stddev()))
+                    .change(formatPrice(window.change()))
+                    .changeRate(Double.isNaN(window.changeRate()) ? null
+                            : FixedPoint.formatFixed(Math.round(window.changeRate() * 100 * 100), 2))
+                    .build());
+        }
+
+        return QuoteAnalyticsDto.builder()
+                .symbol(symbol)
+                .ticks(snapshot.ticks())
+                .lastPrice(formatPrice(snapshot.lastPrice()))
+                .windows(windowStats)
+                .build();
+    }
+
+    private static double toDouble(long fixedPoint, int scale) {
+        return fixedPoint / Math.pow(10, scale);
+    }
+
+    /**
+     * 가격을 PRICE_SCALE 자리까지 반올림하여 포맷합니다 (NaN이면 null).
+     */
+    private static String formatPrice(double value) {
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        return FixedPoint.format(Math.round(value * Math.pow(10, FixedPoint.PRICE_SCALE)), FixedPoint.PRICE_SCALE);
+    }
+}
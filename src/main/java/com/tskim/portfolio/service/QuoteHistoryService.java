@@ -0,0 +1,129 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.history.PriceHistoryDto;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 시세 틱 이력 조회 서비스
+ * quote_ticks 시계열 컬렉션의 틱을 집계 파이프라인($dateTrunc + $group)으로 OHLCV 봉으로 다운샘플링합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteHistoryService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 봉 간격
+     */
+    public enum Interval {
+        ONE_MINUTE("1m", "minute", 1, Duration.ofHours(6)),
+        FIVE_MINUTES("5m", "minute", 5, Duration.ofDays(1)),
+        ONE_HOUR("1h", "hour", 1, Duration.ofDays(7));
+
+        private final String code;
+        private final String unit;
+        private final int binSize;
+        private final Duration defaultRange;   // 조회 기간을 지정하지 않은 경우 기본 조회 기간
+
+        Interval(String code, String unit, int binSize, Duration defaultRange) {
+            this.code = code;
+            this.unit = unit;
+            this.binSize = binSize;
+            this.defaultRange = defaultRange;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public static Interval of(String code) {
+            return Arrays.stream(values())
+                    .filter(interval -> interval.code.equals(code))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("봉 간격은 1m, 5m, 1h 중 하나여야 합니다: " + code));
+        }
+    }
+
+    /**
+     * 종목의 OHLCV 봉을 조회합니다.
+     *
+     * @param symbol 종목 코드 또는 마켓 코드
+     * @param interval 봉 간격
+     * @param from 조회 시작 시각 (KST, null이면 간격별 기본 조회 기간)
+     * @param to 조회 종료 시각 (KST, null이면 현재)
+     * @return 시간순 OHLCV 봉
+     */
+    public PriceHistoryDto getHistory(String symbol, Interval interval, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now(KST);
+        LocalDateTime start = from != null ? from : end.minus(interval.defaultRange);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 빨라야 합니다");
+        }
+
+        log.info("시세 이력 조회 요청: symbol={}, interval={}, {} ~ {}", symbol, interval.code, start, end);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("symbol").is(symbol)
+                        .and("timestamp").gte(toDate(start)).lt(toDate(end))),
+                Aggregation.sort(Sort.Direction.ASC, "timestamp"),
+                context -> new Document("$group", new Document("_id", new Document("$dateTrunc", new Document("date", "$timestamp")
+                                .append("unit", interval.unit)
+                                .append("binSize", interval.binSize)
+                                .append("timezone", KST.getId())))
+                        .append("open", new Document("$first", "$price"))
+                        .append("high", new Document("$max", "$price"))
+                        .append("low", new Document("$min", "$price"))
+                        .append("close", new Document("$last", "$price"))
+                        .append("volume", new Document("$sum", "$volume"))
+                        .append("ticks", new Document("$sum", 1))),
+                Aggregation.sort(Sort.Direction.ASC, "_id"));
+
+        List<PriceHistoryDto.Candle> candles = mongoTemplate.aggregate(aggregation, QuoteTickRecorder.COLLECTION, Document.class)
+                .getMappedResults().stream()
+                .map(this::toCandle)
+                .toList();
+
+        log.info("시세 이력 조회 완료: symbol={}, {} 봉", symbol, candles.size());
+
+        return PriceHistoryDto.builder()
+                .symbol(symbol)
+                .interval(interval.code)
+                .candles(candles)
+                .build();
+    }
+
+    private PriceHistoryDto.Candle toCandle(Document bucket) {
+        return PriceHistoryDto.Candle.builder()
+                .time(LocalDateTime.ofInstant(bucket.getDate("_id").toInstant(), KST))
+                .open(FixedPoint.format(((Number) bucket.get("open")).longValue(), FixedPoint.PRICE_SCALE))
+                .high(FixedPoint.format(((Number) bucket.get("high")).longValue(), FixedPoint.PRICE_SCALE))
+                .low(FixedPoint.format(((Number) bucket.get("low")).longValue(), FixedPoint.PRICE_SCALE))
+                .close(FixedPoint.format(((Number) bucket.get("close")).longValue(), FixedPoint.PRICE_SCALE))
+                .volume(FixedPoint.format(((Number) bucket.get("volume")).longValue(), FixedPoint.VOLUME_SCALE))
+                .ticks(((Number) bucket.get("ticks")).intValue())
+                .build();
+    }
+
+    private static Date toDate(LocalDateTime kstDateTime) {
+        return Date.from(kstDateTime.atZone(KST).toInstant());
+    }
+}
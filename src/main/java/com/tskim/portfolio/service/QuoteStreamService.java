@@ -0,0 +1,131 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 암호화폐/주식 시세 SSE 스트림
+ * 구독자가 있는 동안만 스트림별로 한 번씩 시세를 갱신하고, 갱신된 시세를 모든 구독자에게 전달합니다.
+ * 느린 구독자에게는 아직 보내지 못한 이전 시세를 버리고 최신 시세만 보냅니다.
+ */
+@Service
+@Slf4j
+public class QuoteStreamService {
+
+    private final QuoteStream<List<CryptoInfoDto>> cryptoStream;
+    private final QuoteStream<StockBatchResultDto> stockStream;
+
+    private final Duration heartbeatInterval;
+    private final Duration maxDuration;
+
+    public QuoteStreamService(CryptoService cryptoService,
+                              StockService stockService,
+                              MeterRegistry meterRegistry,
+                              @Value("${quote-stream.crypto-refresh-interval:1s}") Duration cryptoRefreshInterval,
+                              @Value("${quote-stream.stock-refresh-interval:5s}") Duration stockRefreshInterval,
+                              @Value("${quote-stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+                              @Value("${quote-stream.max-duration:30m}") Duration maxDuration) {
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxDuration = maxDuration;
+        this.cryptoStream = new QuoteStream<>("crypto", cryptoRefreshInterval, meterRegistry,
+                () -> cryptoService.getCryptoInfosReactive(CryptoConstants.INTERESTED_CRYPTOS));
+        this.stockStream = new QuoteStream<>("stocks", stockRefreshInterval, meterRegistry,
+                stockService::getHoldingStocksInfoReactive);
+    }
+
+    /**
+     * 관심 암호화폐 시세 스트림을 구독합니다.
+     *
+     * @return 시세 이벤트(crypto)와 heartbeat 주석 이벤트
+     */
+    public Flux<ServerSentEvent<List<CryptoInfoDto>>> streamCrypto() {
+        return subscribe(cryptoStream);
+    }
+
+    /**
+     * 보유 주식 시세 스트림을 구독합니다.
+     *
+     * @return 시세 이벤트(stocks)와 heartbeat 주석 이벤트
+     */
+    public Flux<ServerSentEvent<StockBatchResultDto>> streamStocks() {
+        return subscribe(stockStream);
+    }
+
+    /**
+     * 구독자 한 명의 SSE 이벤트 스트림을 만듭니다.
+     * 공유 시세는 구독자별로 전송 대기 중인 1건과 최신 1건만 보관(conflation)하므로 느린 구독자 때문에 버퍼가 늘어나지 않습니다.
+     * Spring MVC는 스트림 응답(text/event-stream)에 비동기 요청 타임아웃을 적용하지 않으므로 연결은 max-duration에 종료합니다.
+     */
+    private <T> Flux<ServerSentEvent<T>> subscribe(QuoteStream<T> stream) {
+        Flux<ServerSentEvent<T>> quotes = stream.shared
+                .onBackpressureBuffer(1, dropped -> stream.conflated.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .map(quote -> ServerSentEvent.builder(quote).event(stream.name).build());
+
+        Flux<ServerSentEvent<T>> heartbeats = Flux.interval(heartbeatInterval)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<T>builder().comment("heartbeat").build());
+
+        return Flux.merge(1, quotes, heartbeats)
+                .take(maxDuration)
+                .doOnNext(event -> (event.data() != null ? stream.quoteEvents : stream.heartbeatEvents).increment())
+                .doOnSubscribe(subscription -> log.info("{} 시세 스트림 구독: 구독자 {}명", stream.name, stream.subscribers.incrementAndGet()))
+                .doFinally(signal -> log.info("{} 시세 스트림 구독 종료({}): 구독자 {}명", stream.name, signal, stream.subscribers.decrementAndGet()));
+    }
+
+    /**
+     * 스트림별 공유 시세와 지표
+     */
+    private static class QuoteStream<T> {
+
+        private final String name;
+        private final Flux<T> shared;
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private final Counter quoteEvents;
+        private final Counter heartbeatEvents;
+        private final Counter conflated;
+
+        QuoteStream(String name, Duration refreshInterval, MeterRegistry meterRegistry, Supplier<Mono<T>> fetcher) {
+            this.name = name;
+
+            // 첫 구독자가 생기면 갱신을 시작하고 마지막 구독자가 나가면 중단, 새 구독자는 마지막 시세를 바로 받음
+            this.shared = Flux.interval(Duration.ZERO, refreshInterval)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> fetcher.get()
+                            .onErrorResume(e -> {
+                                log.warn("{} 시세 스트림 갱신 실패: {}", name, e.getMessage());
+                                return Mono.empty();
+                            }), 1)
+                    .distinctUntilChanged()
+                    .replay(1)
+                    .refCount();
+
+            meterRegistry.gauge("quote.stream.subscribers", Tags.of("stream", name), subscribers);
+            this.quoteEvents = Counter.builder("quote.stream.events")
+                    .tag("stream", name).tag("type", "quote")
+                    .register(meterRegistry);
+            this.heartbeatEvents = Counter.builder("quote.stream.events")
+                    .tag("stream", name).tag("type", "heartbeat")
+                    .register(meterRegistry);
+            this.conflated = Counter.builder("quote.stream.conflated")
+                    .description("느린 구독자에게 보내지 못하고 최신 시세로 대체된 시세 수")
+                    .tag("stream", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.tskim.portfolio.service;
+
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import com.tskim.portfolio.entity.QuoteTick;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회한 시세를 틱으로 종목별 롤링 분석(QuoteAnalyticsService)에 반영하고 MongoDB 시계열 컬렉션(quote_ticks)에 저장합니다.
+ * 시세 조회 경로는 큐에 넣기만 하고(write-behind), 저장 스레드가 flush-interval 동안 모은 틱을
+ * 순서 없는(unordered) 일괄 insert로 저장합니다. 오래된 틱은 컬렉션의 expireAfterSeconds(retention)로 자동 삭제됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteTickRecorder {
+
+    static final String COLLECTION = "quote_ticks";
+
+    private final MongoTemplate mongoTemplate;
+    private final QuoteAnalyticsService quoteAnalyticsService;
+
+    @Value("${history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${history.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${history.flush-interval:1s}")
+    private Duration flushInterval;
+
+    @Value("${history.retention:7d}")
+    private Duration retention;
+
+    // 종목별 마지막으로 기록한 틱 (중복 틱 제외, 누적 거래량 차분 계산용)
+    private final Map<String, LastTick> lastTicks = new ConcurrentHashMap<>();
+
+    // 버퍼가 가득 차 버린 틱 수 (다음 저장 시 로그)
+    private final AtomicLong dropped = new AtomicLong();
+
+    private BlockingQueue<QuoteTick> buffer;
+    private Thread worker;
+    private volatile boolean running;
+    private boolean collectionReady;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        if (!enabled) {
+            log.info("시세 틱 저장 비활성화");
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("quote-tick-writer").start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 업비트 시세를 틱으로 기록합니다. 같은 체결(체결 타임스탬프)은 한 번만 기록합니다.
+     *
+     * @param quote 업비트 시세
+     */
+    public void record(CryptoQuote quote) {
+        if (quote.tradePrice() == FixedPoint.NaN || quote.tradeTimestamp() <= 0) {
+            return;
+        }
+
+        // 여러 스레드(배치 조회, 웹소켓)가 같은 체결을 동시에 기록하지 않도록 비교와 갱신을 한 번에
+        LastTick tick = new LastTick(quote.tradeTimestamp(), FixedPoint.NaN);
+        LastTick current = lastTicks.compute(quote.market(), (market, last) ->
+                last != null && last.timestampMillis() >= tick.timestampMillis() ? last : tick);
+        if (current != tick) {
+            return;
+        }
+
+        long volume = quote.tradeVolume() != FixedPoint.NaN ? quote.tradeVolume() : 0;
+        quoteAnalyticsService.onTick(quote.market(), quote.tradePrice(), volume);
+        if (enabled) {
+            offer(QuoteTick.of(quote.market(), Instant.ofEpochMilli(quote.tradeTimestamp()), quote.tradePrice(), volume));
+        }
+    }
+
+    /**
+     * 네이버 주식 시세를 틱으로 기록합니다. 거래 시각과 누적 거래량이 모두 같은 시세는 기록하지 않으며,
+     * 거래량은 직전 틱 대비 누적 거래량 증가분으로 기록합니다.
+     *
+     * @param quote 네이버 주식 시세
+     */
+    public void record(StockQuote quote) {
+        if (quote.closePrice() == FixedPoint.NaN) {
+            return;
+        }
+
+        Instant tradedAt = parseTradedAt(quote.localTradedAt());
+        long accumulatedVolume = quote.accumulatedTradingVolume();
+
+        // 동시에 조회한 묶음들이 같은 시세를 중복 기록하지 않도록 비교와 갱신을 한 번에 (증가분은 교체한 직전 틱 기준)
+        LastTick tick = new LastTick(tradedAt.toEpochMilli(), accumulatedVolume);
+        LastTick[] previous = new LastTick[1];
+        LastTick current = lastTicks.compute(quote.itemCode(), (itemCode, last) -> {
+            previous[0] = last;
+            return last != null && last.timestampMillis() == tick.timestampMillis()
+                    && last.accumulatedVolume() == tick.accumulatedVolume() ? last : tick;
+        });
+        if (current != tick) {
+            return;
+        }
+        LastTick last = previous[0];
+
+        // 첫 틱이나 누적 거래량이 초기화된 경우(장 시작) 증가분을 알 수 없으므로 0
+        long volume = 0;
+        if (last != null && last.accumulatedVolume() != FixedPoint.NaN && accumulatedVolume != FixedPoint.NaN
+                && accumulatedVolume >= last.accumulatedVolume()) {
+            volume = accumulatedVolume - last.accumulatedVolume();
+        }
+        quoteAnalyticsService.onTick(quote.itemCode(), quote.closePrice(), volume);
+        if (enabled) {
+            offer(QuoteTick.of(quote.itemCode(), tradedAt, quote.closePrice(), volume));
+        }
+    }
+
+    private void offer(QuoteTick tick) {
+        if (!buffer.offer(tick)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 저장 스레드: 첫 틱이 오면 flush-interval 동안(최대 batch-size개) 모아서 한 번에 저장합니다.
+     */
+    private void run() {
+        while (running) {
+            try {
+                List<QuoteTick> batch = new ArrayList<>(batchSize);
+                batch.add(buffer.take());
+
+                long flushAt = System.nanoTime() + flushInterval.toNanos();
+                long remaining;
+                while (batch.size() < batchSize && (remaining = flushAt - System.nanoTime()) > 0) {
+                    QuoteTick tick = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (tick == null) {
+                        break;
+                    }
+                    batch.add(tick);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+
+                write(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("시세 틱 저장 스레드 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 틱 묶음을 순서 없는 일괄 insert로 저장합니다. 실패한 묶음은 버립니다 (재시도로 버퍼가 밀리지 않도록).
+     */
+    private void write(List<QuoteTick> batch) {
+        long droppedTicks = dropped.getAndSet(0);
+        if (droppedTicks > 0) {
+            log.warn("시세 틱 버퍼가 가득 차 버린 틱: {} 건", droppedTicks);
+        }
+
+        try {
+            ensureCollection();
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, QuoteTick.class, COLLECTION)
+                    .insert(batch)
+                    .execute();
+            log.debug("시세 틱 저장: {} 건", batch.size());
+        } catch (Exception e) {
+            log.warn("시세 틱 저장 실패 - {} 건 버림: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 시계열 컬렉션이 없으면 생성하고, 있으면 보관 기간(expireAfterSeconds)을 설정값으로 맞춥니다.
+     * insert가 컬렉션을 자동 생성하면 일반 컬렉션이 되므로 첫 저장 전에 반드시 호출합니다.
+     */
+    private void ensureCollection() {
+        if (collectionReady) {
+            return;
+        }
+
+        if (!mongoTemplate.collectionExists(COLLECTION)) {
+            mongoTemplate.getDb().createCollection(COLLECTION, new CreateCollectionOptions()
+                    .timeSeriesOptions(new TimeSeriesOptions("timestamp")
+                            .metaField("symbol")
+                            .granularity(TimeSeriesGranularity.SECONDS))
+                    .expireAfter(retention.toSeconds(), TimeUnit.SECONDS));
+            log.info("시세 틱 시계열 컬렉션 생성: {}, 보관 기간={}", COLLECTION, retention);
+        } else {
+            mongoTemplate.getDb().runCommand(new Document("collMod", COLLECTION)
+                    .append("expireAfterSeconds", retention.toSeconds()));
+        }
+        collectionReady = true;
+    }
+
+    /**
+     * 네이버 거래 시각(예: 2025-10-17T15:30:00+09:00)을 파싱합니다. 없거나 형식이 다르면 현재 시각을 사용합니다.
+     */
+    private static Instant parseTradedAt(String localTradedAt) {
+        if (localTradedAt != null) {
+            try {
+                return OffsetDateTime.parse(localTradedAt).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // 현재 시각으로 대체
+            }
+        }
+        return Instant.now();
+    }
+
+    /**
+     * 종목별 마지막 기록 틱
+     */
+    private record LastTick(long timestampMillis, long accumulatedVolume) {
+    }
+}
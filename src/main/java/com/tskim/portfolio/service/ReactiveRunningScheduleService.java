@@ -0,0 +1,100 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.entity.RunningSchedule;
+import com.tskim.portfolio.repository.ReactiveRunningScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 러닝 스케줄 리액티브 조회 서비스
+ * 러닝 스케줄 조회 API(년월, 날짜, 날짜 범위, ID)는 모두 이 서비스를 사용합니다 (등록, 페이지 조회, 내보내기는 RunningScheduleService).
+ * MongoDB 조회와 날씨 조회를 블로킹 없이 이어서 처리하므로 요청이 기다리는 동안 서블릿 스레드를 점유하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRunningScheduleService {
+    
+    private final ReactiveRunningScheduleRepository reactiveRunningScheduleRepository;
+    private final WeatherService weatherService;
+    private final ScheduleWeatherEnricher scheduleWeatherEnricher;
+    private final ScheduleMonthCache scheduleMonthCache;
+    
+    /**
+     * 특정 년월의 러닝 스케줄 조회 (includeWeather가 true이면 날씨 정보 포함)
+     * 년월별 스케줄은 ScheduleMonthCache에서 조회하며, 날씨 정보는 캐시된 DTO의 복사본에 채웁니다.
+     */
+    public Mono<List<RunningScheduleDto>> getSchedulesByMonth(String yearMonth, boolean includeWeather) {
+        log.info("특정 년월 러닝 스케줄 조회 요청: {}, includeWeather={}", yearMonth, includeWeather);
+        
+        Mono<List<RunningScheduleDto>> schedules = scheduleMonthCache.get(yearMonth, key ->
+                reactiveRunningScheduleRepository.findByYearMonthOrderByDateAsc(key)
+                        .map(RunningScheduleDto::from)
+                        .collectList());
+        
+        if (!includeWeather) {
+            return schedules;
+        }
+        return schedules
+                .map(cached -> cached.stream().map(RunningScheduleDto::copyWithoutWeather).toList())
+                .flatMap(scheduleWeatherEnricher::enrich);
+    }
+    
+    /**
+     * 특정 날짜의 러닝 스케줄 조회 (includeWeather가 true이면 날씨 정보 포함)
+     */
+    public Mono<List<RunningScheduleDto>> getSchedulesByDate(String date, boolean includeWeather) {
+        log.info("날짜별 러닝 스케줄 조회 요청: {}, includeWeather={}", date, includeWeather);
+        
+        return toDtos(reactiveRunningScheduleRepository.findByDate(date), includeWeather);
+    }
+    
+    /**
+     * 날짜 범위별 러닝 스케줄 조회 (includeWeather가 true이면 날씨 정보 포함)
+     */
+    public Mono<List<RunningScheduleDto>> getSchedulesByDateRange(String startDate, String endDate, boolean includeWeather) {
+        log.info("날짜 범위별 러닝 스케줄 조회 요청: {} ~ {}, includeWeather={}", startDate, endDate, includeWeather);
+        
+        return toDtos(reactiveRunningScheduleRepository.findByDateBetween(startDate, endDate), includeWeather);
+    }
+    
+    /**
+     * ID로 러닝 스케줄 조회 (날씨 정보 포함)
+     * 날씨 조회에 실패하면 날씨 정보 없이 응답합니다.
+     */
+    public Mono<RunningScheduleDto> getScheduleById(String id) {
+        log.info("ID로 러닝 스케줄 조회 요청: {}", id);
+        
+        return reactiveRunningScheduleRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("해당 ID의 러닝 스케줄을 찾을 수 없습니다: " + id)))
+                .map(RunningScheduleDto::from)
+                .flatMap(scheduleDto -> weatherService.fetchWeatherInfo(
+                                scheduleDto.getDate(), scheduleDto.getStartTime(), scheduleDto.getX(), scheduleDto.getY())
+                        .doOnNext(weatherInfo -> {
+                            scheduleDto.setWeatherInfo(weatherInfo);
+                            log.info("날씨 정보 조회 완료: 스케줄 ID={}", id);
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("날씨 정보 조회 실패: 스케줄 ID={}, 오류={}", id, e.getMessage());
+                            return Mono.empty();
+                        })
+                        .thenReturn(scheduleDto));
+    }
+    
+    /**
+     * 스케줄을 DTO로 변환하고, includeWeather가 true이면 날씨 정보를 채웁니다.
+     */
+    private Mono<List<RunningScheduleDto>> toDtos(Flux<RunningSchedule> schedules, boolean includeWeather) {
+        Mono<List<RunningScheduleDto>> scheduleDtos = schedules
+                .map(RunningScheduleDto::from)
+                .collectList();
+        
+        return includeWeather ? scheduleDtos.flatMap(scheduleWeatherEnricher::enrich) : scheduleDtos;
+    }
+}
@@ -0,0 +1,169 @@
+package com.tskim.portfolio.service;
+
+/**
+ * 한 종목의 최근 틱 링 버퍼와 구간별 롤링 집계
+ * 틱이 들어올 때마다 구간(window, 틱 수)별 합계를 증분 갱신하므로 SMA/EMA/VWAP/표준편차 조회가 O(1)입니다.
+ * 가격과 거래량은 원시 배열에 보관하여 틱마다 객체를 만들지 않습니다.
+ * 슬라이딩 합계의 부동소수점 오차가 쌓이지 않도록 버퍼를 한 바퀴 돌 때마다 합계를 다시 계산합니다.
+ */
+class RollingWindowStats {
+
+    private final int[] windows;
+    private final double[] alphas;
+    private final double[] prices;
+    private final double[] volumes;
+
+    // 구간별 증분 합계 (가격은 기준가 대비 편차로 누적하여 제곱합의 자릿수 손실을 줄임)
+    private final double[] sums;
+    private final double[] squareSums;
+    private final double[] priceVolumeSums;
+    private final double[] volumeSums;
+    private final double[] emas;
+
+    private double basePrice;
+    private long count;
+    private int head;           // 다음 틱을 쓸 위치
+    private int sinceResync;
+
+    /**
+     * @param windows 집계 구간 (틱 수, 오름차순)
+     */
+    RollingWindowStats(int[] windows) {
+        this.windows = windows.clone();
+        int capacity = this.windows[this.windows.length - 1];
+        this.alphas = new double[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            alphas[i] = 2.0 / (windows[i] + 1);
+        }
+        this.prices = new double[capacity];
+        this.volumes = new double[capacity];
+        this.sums = new double[windows.length];
+        this.squareSums = new double[windows.length];
+        this.priceVolumeSums = new double[windows.length];
+        this.volumeSums = new double[windows.length];
+        this.emas = new double[windows.length];
+    }
+
+    /**
+     * 틱을 추가하고 구간별 집계를 갱신합니다.
+     *
+     * @param price 체결가
+     * @param volume 거래량 (모르면 0)
+     */
+    synchronized void add(double price, double volume) {
+        if (count == 0) {
+            basePrice = price;
+        }
+
+        double deviation = price - basePrice;
+        for (int i = 0; i < windows.length; i++) {
+            // 구간이 가득 찼으면 구간에서 빠지는 가장 오래된 틱을 제외
+            if (count >= windows[i]) {
+                int evicted = index(head - windows[i]);
+                double evictedDeviation = prices[evicted] - basePrice;
+                sums[i] -= evictedDeviation;
+                squareSums[i] -= evictedDeviation * evictedDeviation;
+                priceVolumeSums[i] -= prices[evicted] * volumes[evicted];
+                volumeSums[i] -= volumes[evicted];
+            }
+            sums[i] += deviation;
+            squareSums[i] += deviation * deviation;
+            priceVolumeSums[i] += price * volume;
+            volumeSums[i] += volume;
+            emas[i] = count == 0 ? price : emas[i] + alphas[i] * (price - emas[i]);
+        }
+
+        prices[head] = price;
+        volumes[head] = volume;
+        head = index(head + 1);
+        count++;
+
+        if (++sinceResync >= prices.length) {
+            resync();
+        }
+    }
+
+    /**
+     * 구간별 집계 스냅샷을 조회합니다.
+     *
+     * @return 틱이 없으면 null
+     */
+    synchronized Snapshot snapshot() {
+        if (count == 0) {
+            return null;
+        }
+
+        double lastPrice = prices[index(head - 1)];
+        WindowSnapshot[] result = new WindowSnapshot[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            int size = (int) Math.min(count, windows[i]);
+            double mean = sums[i] / size;
+            double variance = Math.max(0, squareSums[i] / size - mean * mean);
+            double firstPrice = prices[index(head - size)];
+            result[i] = new WindowSnapshot(
+                    windows[i],
+                    size,
+                    basePrice + mean,
+                    emas[i],
+                    volumeSums[i] > 0 ? priceVolumeSums[i] / volumeSums[i] : Double.NaN,
+                    Math.sqrt(variance),
+                    lastPrice - firstPrice,
+                    firstPrice != 0 ? (lastPrice - firstPrice) / firstPrice : Double.NaN);
+        }
+        return new Snapshot(count, lastPrice, result);
+    }
+
+    /**
+     * 링 버퍼에 남아 있는 틱으로 합계를 다시 계산합니다 (버퍼 한 바퀴마다, 틱당 분할 상환 O(1)).
+     * 기준가도 최근 가격으로 옮겨 편차가 커지지 않게 합니다.
+     */
+    private void resync() {
+        sinceResync = 0;
+        basePrice = prices[index(head - 1)];
+        for (int i = 0; i < windows.length; i++) {
+            int size = (int) Math.min(count, windows[i]);
+            double sum = 0;
+            double squareSum = 0;
+            double priceVolumeSum = 0;
+            double volumeSum = 0;
+            for (int k = 1; k <= size; k++) {
+                int at = index(head - k);
+                double deviation = prices[at] - basePrice;
+                sum += deviation;
+                squareSum += deviation * deviation;
+                priceVolumeSum += prices[at] * volumes[at];
+                volumeSum += volumes[at];
+            }
+            sums[i] = sum;
+            squareSums[i] = squareSum;
+            priceVolumeSums[i] = priceVolumeSum;
+            volumeSums[i] = volumeSum;
+        }
+    }
+
+    private int index(int position) {
+        int capacity = prices.length;
+        return ((position % capacity) + capacity) % capacity;
+    }
+
+    /**
+     * 종목 집계 스냅샷
+     *
+     * @param ticks 지금까지 받은 틱 수
+     * @param lastPrice 최근 체결가
+     */
+    record Snapshot(long ticks, double lastPrice, WindowSnapshot[] windows) {
+    }
+
+    /**
+     * 구간 집계 스냅샷
+     *
+     * @param window 구간 (틱 수)
+     * @param size 구간에 실제로 포함된 틱 수 (틱이 모자라면 window보다 작음)
+     * @param change 구간 첫 틱 대비 가격 변동
+     * @param changeRate 구간 첫 틱 대비 변동률 (비율)
+     */
+    record WindowSnapshot(int window, int size, double sma, double ema, double vwap, double stddev,
+                          double change, double changeRate) {
+    }
+}
@@ -1,16 +1,25 @@
 package com.tskim.portfolio.service;
 
 import com.tskim.portfolio.dto.running.RunningScheduleDto;
-import com.tskim.portfolio.dto.weather.WeatherInfoDto;
+import com.tskim.portfolio.dto.running.RunningSchedulePageDto;
 import com.tskim.portfolio.entity.RunningSchedule;
 import com.tskim.portfolio.repository.RunningScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +28,12 @@ import java.util.stream.Collectors;
 public class RunningScheduleService {
     
     private final RunningScheduleRepository runningScheduleRepository;
-    private final WeatherService weatherService;
+    private final ScheduleWeatherEnricher scheduleWeatherEnricher;
+    private final ScheduleMonthCache scheduleMonthCache;
+    private final MongoTemplate mongoTemplate;
+    
+    @Value("${schedule.export.cursor-batch-size:500}")
+    private int exportBatchSize;
     
     /**
      * 러닝 스케줄 등록
@@ -34,80 +48,109 @@ public class RunningScheduleService {
         RunningSchedule schedule = scheduleDto.toEntity();
         RunningSchedule savedSchedule = runningScheduleRepository.save(schedule);
         
+        // 등록한 스케줄의 년월 캐시만 무효화 (수정·삭제 시에도 변경 전후 년월을 무효화해야 함)
+        scheduleMonthCache.invalidate(savedSchedule.getYearMonth());
+        
         log.info("러닝 스케줄 등록 완료: ID={}, 제목={}", savedSchedule.getId(), savedSchedule.getTitle());
         
         return RunningScheduleDto.from(savedSchedule);
     }
     
     /**
-     * 특정 년월의 러닝 스케줄 조회
+     * 특정 날짜의 러닝 스케줄 조회 (기상청 API 형식: YYYYMMDD, 날씨 정보 없음)
+     * 대시보드처럼 스레드에서 블로킹으로 조회하는 경우에 사용합니다. 조회 API는 ReactiveRunningScheduleService를 사용합니다.
      */
-    public List<RunningScheduleDto> getSchedulesByMonth(String yearMonth) {
-        log.info("특정 년월 러닝 스케줄 조회 요청: {}", yearMonth);
-        
-        List<RunningSchedule> schedules = runningScheduleRepository.findByYearMonthOrderByDateAsc(yearMonth);
+    public List<RunningScheduleDto> getSchedulesByDate(String date) {
+        log.info("날짜별 러닝 스케줄 조회 요청: {}", date);
         
-        return schedules.stream()
-                .map(RunningScheduleDto::from)
-                .collect(Collectors.toList());
+        return toDtos(runningScheduleRepository.findByDate(date), false);
     }
     
     /**
-     * 특정 날짜의 러닝 스케줄 조회 (기상청 API 형식: YYYYMMDD)
+     * 날짜 범위별 러닝 스케줄 페이지 조회 (기상청 API 형식: YYYYMMDD)
+     * (날짜, ID) 순으로 정렬하고 직전 페이지의 마지막 (날짜, ID) 다음부터 limit개를 조회합니다 (keyset 페이지네이션).
+     * 범위는 findByDateBetween과 같이 시작일과 종료일을 제외합니다.
+     *
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기
      */
-    public List<RunningScheduleDto> getSchedulesByDate(String date) {
-        log.info("날짜별 러닝 스케줄 조회 요청: {}", date);
+    public RunningSchedulePageDto getSchedulePageByDateRange(String startDate, String endDate, String cursor, int limit,
+                                                             boolean includeWeather) {
+        log.info("날짜 범위별 러닝 스케줄 페이지 조회 요청: {} ~ {}, cursor={}, limit={}", startDate, endDate, cursor, limit);
         
-        List<RunningSchedule> schedules = runningScheduleRepository.findByDate(date);
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
         
-        return schedules.stream()
-                .map(RunningScheduleDto::from)
-                .collect(Collectors.toList());
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Query query = pageQuery(startDate, endDate, after != null ? after.date() : null, after != null ? after.id() : null, limit + 1);
+        List<RunningSchedule> schedules = mongoTemplate.find(query, RunningSchedule.class);
+        
+        boolean hasNext = schedules.size() > limit;
+        if (hasNext) {
+            schedules = schedules.subList(0, limit);
+        }
+        RunningSchedule last = schedules.isEmpty() ? null : schedules.get(schedules.size() - 1);
+        
+        return RunningSchedulePageDto.builder()
+                .items(toDtos(schedules, includeWeather))
+                .nextCursor(hasNext ? new PageCursor(last.getDate(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
     
     /**
-     * 날짜 범위별 러닝 스케줄 조회 (기상청 API 형식: YYYYMMDD)
+     * 날짜 범위별 러닝 스케줄을 MongoDB 커서에서 하나씩 읽는 스트림으로 조회합니다 (내보내기용).
+     * 결과 전체를 메모리에 올리지 않으며, 사용 후 반드시 스트림을 닫아야 합니다 (커서 반환).
+     * 범위는 findByDateBetween과 같이 시작일과 종료일을 제외합니다.
      */
-    public List<RunningScheduleDto> getSchedulesByDateRange(String startDate, String endDate) {
-        log.info("날짜 범위별 러닝 스케줄 조회 요청: {} ~ {}", startDate, endDate);
+    public Stream<RunningScheduleDto> streamSchedulesByDateRange(String startDate, String endDate) {
+        log.info("날짜 범위별 러닝 스케줄 내보내기 요청: {} ~ {}", startDate, endDate);
         
-        List<RunningSchedule> schedules = runningScheduleRepository.findByDateBetween(startDate, endDate);
+        Query query = exportQuery(startDate, endDate).cursorBatchSize(exportBatchSize);
         
-        return schedules.stream()
-                .map(RunningScheduleDto::from)
-                .collect(Collectors.toList());
+        return mongoTemplate.stream(query, RunningSchedule.class)
+                .map(RunningScheduleDto::from);
     }
     
     /**
-     * ID로 러닝 스케줄 조회 (날씨 정보 포함)
+     * 페이지 조회 쿼리 (/actuator/queryplans에서도 같은 쿼리로 실행 계획을 확인)
+     *
+     * @param afterDate 직전 페이지 마지막 스케줄의 날짜 (첫 페이지면 null)
+     * @param afterId 직전 페이지 마지막 스케줄의 ID (첫 페이지면 null)
+     * @param limit 조회할 최대 스케줄 수
      */
-    public RunningScheduleDto getScheduleById(String id) {
-        log.info("ID로 러닝 스케줄 조회 요청: {}", id);
-        
-        RunningSchedule schedule = runningScheduleRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 러닝 스케줄을 찾을 수 없습니다: " + id));
-        
-        RunningScheduleDto scheduleDto = RunningScheduleDto.from(schedule);
-        
-        // 날씨 정보 조회
-        try {
-            WeatherInfoDto weatherInfo = weatherService.getWeatherInfo(
-                    schedule.getDate(),
-                    schedule.getStartTime(),
-                    schedule.getX(),
-                    schedule.getY()
-            );
-            scheduleDto.setWeatherInfo(weatherInfo);
-            log.info("날씨 정보 조회 완료: 스케줄 ID={}", id);
-        } catch (Exception e) {
-            log.warn("날씨 정보 조회 실패: 스케줄 ID={}, 오류={}", id, e.getMessage());
-            // 날씨 정보 조회 실패 시 null로 설정
-            scheduleDto.setWeatherInfo(null);
+    public static Query pageQuery(String startDate, String endDate, String afterDate, String afterId, int limit) {
+        Criteria criteria = Criteria.where("date").gt(startDate).lt(endDate);
+        if (afterDate != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where("date").gt(afterDate),
+                    Criteria.where("date").is(afterDate).and("id").gt(new ObjectId(afterId))));
         }
-        
-        return scheduleDto;
+        return new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id")))
+                .limit(limit);
     }
     
+    /**
+     * 내보내기 쿼리 (/actuator/queryplans에서도 같은 쿼리로 실행 계획을 확인)
+     */
+    public static Query exportQuery(String startDate, String endDate) {
+        return new Query(Criteria.where("date").gt(startDate).lt(endDate))
+                .with(Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id")));
+    }
+    
+    /**
+     * 스케줄을 DTO로 변환하고, includeWeather가 true이면 날씨 정보를 채웁니다.
+     */
+    private List<RunningScheduleDto> toDtos(List<RunningSchedule> schedules, boolean includeWeather) {
+        List<RunningScheduleDto> scheduleDtos = schedules.stream()
+                .map(RunningScheduleDto::from)
+                .collect(Collectors.toList());
+        
+        if (includeWeather && !scheduleDtos.isEmpty()) {
+            scheduleWeatherEnricher.enrich(scheduleDtos).block();
+        }
+        return scheduleDtos;
+    }
     
     /**
      * 스케줄 시간 검증 (기상청 API 형식: HHMM)
@@ -123,4 +166,28 @@ public class RunningScheduleService {
             }
         }
     }
+    
+    /**
+     * 페이지 커서 (직전 페이지 마지막 스케줄의 날짜와 ID, URL-safe Base64로 인코딩)
+     */
+    private record PageCursor(String date, String id) {
+        
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((date + ":" + id).getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static PageCursor decode(String cursor) {
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + cursor);
+            }
+            if (parts.length != 2 || !parts[0].matches("^\\d{8}$") || !ObjectId.isValid(parts[1])) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + cursor);
+            }
+            return new PageCursor(parts[0], parts[1]);
+        }
+    }
 }
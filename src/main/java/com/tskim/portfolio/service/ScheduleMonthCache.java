@@ -0,0 +1,74 @@
+package com.tskim.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 년월별 러닝 스케줄(월간 보기) 캐시
+ * 달력 화면이 같은 달을 반복 조회하므로 년월별 스케줄 DTO 목록(날씨 정보 제외)을 메모리에 두고,
+ * 스케줄이 등록·수정·삭제되면 해당 년월만 무효화합니다. 동시에 들어온 같은 달의 캐시 미스는 한 번의 MongoDB 조회로 처리합니다.
+ * MongoDB를 직접 수정한 경우에 대비해 ttl이 지나면 다시 조회합니다.
+ */
+@Component
+@Slf4j
+public class ScheduleMonthCache {
+
+    private final AsyncCache<String, List<RunningScheduleDto>> cache;
+
+    public ScheduleMonthCache(MeterRegistry meterRegistry,
+                              @Value("${schedule.month-cache.max-size:120}") long maxSize,
+                              @Value("${schedule.month-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "schedule.month");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .tag("cache", "schedule.month")
+                .description("월간 스케줄 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 년월의 스케줄 목록을 캐시에서 조회하고, 없으면 loader로 조회합니다.
+     * 반환 목록과 DTO는 여러 요청이 공유하므로 수정하면 안 됩니다 (날씨 정보를 채울 때는 복사본 사용).
+     *
+     * @param yearMonth 년월 (YYYYMM)
+     * @param loader 캐시 미스 시 MongoDB에서 조회하는 함수
+     * @return 변경할 수 없는 스케줄 목록
+     */
+    public Mono<List<RunningScheduleDto>> get(String yearMonth, Function<String, Mono<List<RunningScheduleDto>>> loader) {
+        return Mono.fromFuture(() -> cache.get(yearMonth, (missingYearMonth, executor) -> {
+            log.debug("월간 스케줄 캐시 미스: {}", missingYearMonth);
+            return loader.apply(missingYearMonth).map(List::copyOf).toFuture();
+        }), true);
+    }
+
+    /**
+     * 스케줄 변경 시 영향을 받는 년월을 무효화합니다 (수정으로 날짜가 바뀌면 이전·이후 년월 모두 전달).
+     *
+     * @param yearMonths 년월 (YYYYMM, null은 무시)
+     */
+    public void invalidate(String... yearMonths) {
+        for (String yearMonth : yearMonths) {
+            if (yearMonth != null) {
+                cache.synchronous().invalidate(yearMonth);
+                log.debug("월간 스케줄 캐시 무효화: {}", yearMonth);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.weather.WeatherInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 러닝 스케줄 목록에 날씨 정보를 일괄로 채웁니다 (includeWeather=true).
+ * 스케줄을 (날짜, 발표시각, x, y)로 묶어 서로 다른 예보만 weather.batch.concurrency개씩 동시에 한 번 조회하고,
+ * 같은 묶음의 스케줄에 결과를 함께 채웁니다. weather.batch.deadline 안에 조회하지 못했거나 실패한 스케줄은 날씨가 null입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleWeatherEnricher {
+
+    private final WeatherService weatherService;
+
+    @Value("${weather.batch.deadline:2s}")
+    private Duration deadline;
+
+    @Value("${weather.batch.concurrency:8}")
+    private int concurrency;
+
+    /**
+     * 스케줄 목록에 날씨 정보를 채웁니다.
+     *
+     * @param schedules 러닝 스케줄 (weatherInfo를 채움)
+     * @return 날씨를 채운 같은 목록 (블로킹 없이 완료)
+     */
+    public Mono<List<RunningScheduleDto>> enrich(List<RunningScheduleDto> schedules) {
+        if (schedules.isEmpty()) {
+            return Mono.just(schedules);
+        }
+
+        Map<WeatherKey, List<RunningScheduleDto>> groups = new LinkedHashMap<>();
+        for (RunningScheduleDto schedule : schedules) {
+            if (schedule.getDate() == null || schedule.getStartTime() == null || schedule.getX() == null || schedule.getY() == null) {
+                continue;
+            }
+            groups.computeIfAbsent(new WeatherKey(schedule.getDate(), schedule.getStartTime(), schedule.getX(), schedule.getY()),
+                    key -> new ArrayList<>()).add(schedule);
+        }
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            // 제한 시간이 지나면 그때까지 받은 예보만 사용 (진행 중인 조회는 캐시에 채워져 다음 요청에서 사용됨)
+            return Flux.fromIterable(groups.keySet())
+                    .flatMap(key -> weatherService.fetchWeatherInfo(key.date(), key.baseTime(), key.x(), key.y())
+                            .map(weatherInfo -> Map.entry(key, weatherInfo))
+                            .onErrorResume(e -> {
+                                log.warn("날씨 정보 조회 실패: {}, 오류={}", key, e.getMessage());
+                                return Mono.empty();
+                            }), concurrency)
+                    .take(deadline)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .map(weathers -> {
+                        groups.forEach((key, groupSchedules) -> {
+                            WeatherInfoDto weatherInfo = weathers.get(key);
+                            groupSchedules.forEach(schedule -> schedule.setWeatherInfo(weatherInfo));
+                        });
+
+                        log.info("스케줄 날씨 정보 조회 완료: 스케줄 {}건, 예보 {}건 중 {}건 조회, {}ms",
+                                schedules.size(), groups.size(), weathers.size(),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                        return schedules;
+                    });
+        });
+    }
+
+    /**
+     * 날씨 조회 묶음 키 (같은 키의 스케줄은 같은 예보를 사용)
+     *
+     * @param date 날짜 (YYYYMMDD)
+     * @param baseTime 발표시각 (HHMM, 스케줄 시작시간)
+     */
+    private record WeatherKey(String date, String baseTime, Integer x, Integer y) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.tskim.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업스트림 장애 시 대신 응답할 마지막 정상 값 저장소
+ * 키별로 마지막으로 받은 값과 받은 시각을 보관하며, 조회할 때 max-age보다 오래된 값은 사용하지 않습니다.
+ * 재시작 시 스냅샷에서 복원한 값은 업스트림에서 새로 받을 때까지 복원 값으로 표시합니다.
+ */
+final class StaleValueStore<K, V> {
+
+    private final Cache<K, Stamped<V>> values;
+    private final Duration maxAge;
+
+    // 복원 값을 새로 받아오는 중인 키 (동시 요청이 같은 키를 중복 조회하지 않도록)
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param maxSize 보관할 최대 키 수
+     * @param maxAge 사용할 수 있는 최대 경과 시간
+     */
+    StaleValueStore(long maxSize, Duration maxAge) {
+        this.maxAge = maxAge;
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    void put(K key, V value) {
+        values.put(key, new Stamped<>(value, Instant.now(), false));
+        refreshing.remove(key);
+    }
+
+    /**
+     * @param key 키
+     * @return 마지막 정상 값 (없거나 max-age보다 오래되었으면 null)
+     */
+    Stamped<V> get(K key) {
+        Stamped<V> stamped = values.getIfPresent(key);
+        if (stamped == null || stamped.age().compareTo(maxAge) > 0) {
+            return null;
+        }
+        return stamped;
+    }
+
+    /**
+     * @param key 키
+     * @return 스냅샷에서 복원한 뒤 아직 새로 받지 못한 값 (없거나 max-age보다 오래되었으면 null)
+     */
+    Stamped<V> getRestored(K key) {
+        Stamped<V> stamped = get(key);
+        return stamped != null && stamped.restored() ? stamped : null;
+    }
+
+    /**
+     * 스냅샷의 값을 복원합니다. 이미 새로 받은 값이 있거나 max-age보다 오래된 값은 복원하지 않습니다.
+     *
+     * @return 복원 여부
+     */
+    boolean restore(K key, V value, Instant fetchedAt) {
+        Stamped<V> stamped = new Stamped<>(value, fetchedAt, true);
+        if (stamped.age().compareTo(maxAge) > 0) {
+            return false;
+        }
+        return values.asMap().putIfAbsent(key, stamped) == null;
+    }
+
+    /**
+     * 복원 값을 새로 받아오기 시작합니다.
+     *
+     * @param keys 새로 받을 키
+     * @return 다른 요청이 새로 받는 중이 아닌 키가 있으면 true (호출한 쪽이 조회)
+     */
+    boolean startRefresh(Collection<K> keys) {
+        boolean started = false;
+        for (K key : keys) {
+            started |= refreshing.add(key);
+        }
+        return started;
+    }
+
+    /**
+     * 새로 받기를 마칩니다. 실패했거나 응답에 없던 키는 다음 요청이 다시 조회합니다.
+     */
+    void endRefresh(Collection<K> keys) {
+        keys.forEach(refreshing::remove);
+    }
+
+    /**
+     * @return 현재 보관 중인 값 (스냅샷 저장용)
+     */
+    Map<K, Stamped<V>> entries() {
+        return Map.copyOf(values.asMap());
+    }
+
+    /**
+     * 받은 시각이 기록된 값
+     *
+     * @param value 값
+     * @param fetchedAt 업스트림에서 받은 시각
+     * @param restored 스냅샷에서 복원한 값 여부
+     */
+    record Stamped<V>(V value, Instant fetchedAt, boolean restored) {
+
+        Duration age() {
+            return Duration.between(fetchedAt, Instant.now());
+        }
+    }
+}
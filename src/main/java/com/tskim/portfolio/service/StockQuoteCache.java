@@ -0,0 +1,148 @@
+package com.tskim.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 종목 코드별 주식 시세 캐시
+ * 네이버 API가 알려주는 pollingInterval을 TTL로 사용하며, 동시에 들어온 같은 종목의 캐시 미스는 한 번의 업스트림 호출로 처리합니다.
+ */
+@Component
+@Slf4j
+public class StockQuoteCache {
+
+    private final AsyncCache<String, CachedStockQuote> cache;
+
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final Duration defaultTtl;
+    private final Duration errorTtl;
+
+    @Autowired
+    public StockQuoteCache(MeterRegistry meterRegistry,
+                           @Value("${stock.quote-cache.max-size:1000}") long maxSize,
+                           @Value("${stock.quote-cache.min-ttl:1s}") Duration minTtl,
+                           @Value("${stock.quote-cache.max-ttl:60s}") Duration maxTtl,
+                           @Value("${stock.quote-cache.default-ttl:5s}") Duration defaultTtl,
+                           @Value("${stock.quote-cache.error-ttl:1s}") Duration errorTtl) {
+        this(meterRegistry, maxSize, minTtl, maxTtl, defaultTtl, errorTtl, Ticker.systemTicker());
+    }
+
+    /**
+     * 만료 시각을 계산할 시계를 지정해 캐시를 만듭니다. (테스트에서 가짜 시계로 TTL을 검증할 때 사용)
+     */
+    StockQuoteCache(MeterRegistry meterRegistry, long maxSize, Duration minTtl, Duration maxTtl,
+                    Duration defaultTtl, Duration errorTtl, Ticker ticker) {
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.defaultTtl = defaultTtl;
+        this.errorTtl = errorTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PollingIntervalExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "stock.quote");
+    }
+
+    /**
+     * 여러 종목의 시세를 캐시에서 조회하고, 없는 종목만 loader로 한 번에 조회합니다.
+     * 다른 요청이 이미 조회 중인 종목은 그 결과를 함께 기다립니다.
+     *
+     * @param itemCodes 종목 코드 리스트
+     * @param loader 캐시 미스 종목들을 조회하는 함수
+     * @return 종목 코드별 캐시 값
+     */
+    public Mono<Map<String, CachedStockQuote>> getAll(List<String> itemCodes,
+                                                       Function<List<String>, Mono<Map<String, CachedStockQuote>>> loader) {
+        return Mono.fromFuture(() -> cache.getAll(itemCodes, (missingCodes, executor) -> {
+            log.debug("주식 시세 캐시 미스: {}", missingCodes);
+            return loader.apply(List.copyOf(missingCodes)).toFuture();
+        }), true);
+    }
+
+    /**
+     * 조회 성공 시세를 캐시 값으로 만듭니다. TTL은 네이버 API의 pollingInterval(ms)을 min/max 범위로 보정하여 사용합니다.
+     *
+     * @param quote 주식 시세
+     * @param pollingInterval 네이버 API pollingInterval (ms, 없으면 null)
+     * @return 캐시 값
+     */
+    public CachedStockQuote success(StockQuote quote, Integer pollingInterval) {
+        Duration ttl = pollingInterval != null && pollingInterval > 0
+                ? Duration.ofMillis(pollingInterval)
+                : defaultTtl;
+        if (ttl.compareTo(minTtl) < 0) {
+            ttl = minTtl;
+        } else if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+        return new CachedStockQuote(quote, null, ttl.toNanos(), null);
+    }
+
+    /**
+     * 조회 실패 결과를 캐시 값으로 만듭니다. 장애 시 요청이 몰려도 error-ttl 동안은 업스트림을 다시 호출하지 않습니다.
+     *
+     * @param error 실패 사유
+     * @return 캐시 값
+     */
+    public CachedStockQuote failure(String error) {
+        return new CachedStockQuote(null, error, errorTtl.toNanos(), null);
+    }
+
+    /**
+     * 조회 실패 시 대신 응답할 마지막 정상 시세를 캐시 값으로 만듭니다. 실패 결과와 같이 error-ttl 동안만 캐시합니다.
+     *
+     * @param quote 마지막 정상 시세
+     * @param fetchedAt 마지막 정상 시세를 받은 시각
+     * @return 캐시 값
+     */
+    public CachedStockQuote stale(StockQuote quote, Instant fetchedAt) {
+        return new CachedStockQuote(quote, null, errorTtl.toNanos(), fetchedAt);
+    }
+
+    /**
+     * 캐시된 종목 시세 (성공 시 quote, 실패 시 error, 마지막 정상 시세로 대신한 경우 quote와 staleFetchedAt)
+     */
+    public record CachedStockQuote(StockQuote quote, String error, long ttlNanos, Instant staleFetchedAt) {
+    }
+
+    /**
+     * 캐시 값마다 지정된 TTL로 만료시키는 정책
+     */
+    private static class PollingIntervalExpiry implements Expiry<String, CachedStockQuote> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedStockQuote value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedStockQuote value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedStockQuote value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,46 +1,254 @@
 package com.tskim.portfolio.service;
 
 import com.tskim.portfolio.constants.StockConstants;
+import com.tskim.portfolio.dto.notification.NotificationMessage;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
 import com.tskim.portfolio.dto.stock.StockInfoDto;
 import com.tskim.portfolio.dto.stock.StockResponseDto;
+import com.tskim.portfolio.entity.AlertRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StockService {
     
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient naverWebClient;
+    private final StockQuoteCache stockQuoteCache;
+    private final AlertRuleService alertRuleService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final QuoteTickRecorder quoteTickRecorder;
+    private final UpstreamGuard upstreamGuard;
+    private final LastKnownValues lastKnownValues;
     
-    private static final String NAVER_STOCK_API_BASE_URL = "https://polling.finance.naver.com/api/realtime/domestic/stock";
+    @Value("${stock.api.base-url:" + StockConstants.NAVER_STOCK_API_BASE_URL + "}")
+    private String naverBaseUrl;
     
+    @Value("${stock.fan-out.concurrency:4}")
+    private int fanOutConcurrency;
+    
+    @Value("${stock.fan-out.batch-size:10}")
+    private int fanOutBatchSize;
+    
+    @Value("${stock.fan-out.deadline:3s}")
+    private Duration fanOutDeadline;
     
     /**
      * 보유 주식들의 실시간 정보를 조회합니다.
      * 
-     * @return 보유 주식 정보 리스트
+     * @return 보유 주식 정보 및 종목별 오류
      */
-    public List<StockInfoDto> getHoldingStocksInfo() {
-        try {
-            log.info("보유 주식 정보 조회 요청");
-            
-            List<StockInfoDto> stockInfos = StockConstants.HOLDING_STOCKS.stream()
-                    .map(this::getStockInfo)
-                    .toList();
-            
-            log.info("보유 주식 정보 조회 완료: {} 종목", stockInfos.size());
-            return stockInfos;
-            
-        } catch (Exception e) {
-            log.error("보유 주식 정보 조회 중 오류 발생", e);
-            throw new RuntimeException("주식 정보 조회 중 오류가 발생했습니다.", e);
+    public StockBatchResultDto getHoldingStocksInfo() {
+        return getHoldingStocksInfoReactive().block();
+    }
+    
+    /**
+     * 보유 주식들의 실시간 정보를 논블로킹으로 조회합니다.
+     * 
+     * @return 보유 주식 정보 및 종목별 오류
+     */
+    public Mono<StockBatchResultDto> getHoldingStocksInfoReactive() {
+        return getStocksInfoReactive(StockConstants.HOLDING_STOCKS)
+                .doOnSubscribe(subscription -> log.info("보유 주식 정보 조회 요청"))
+                .doOnNext(result -> log.info("보유 주식 정보 조회 완료: 성공 {} 종목, 실패 {} 종목",
+                        result.getStocks().size(), result.getErrors().size()));
+    }
+    
+    /**
+     * 여러 종목의 실시간 정보를 조회합니다.
+     * 캐시에 있는 종목은 메모리에서 응답하고, 캐시 미스 종목만 네이버 API로 조회합니다.
+     * 전체 deadline 안에 응답하지 못한 종목과 실패한 종목은 오류 목록으로 반환합니다.
+     * 재시작 직후 스냅샷에서 복원한 시세가 있으면 네이버를 기다리지 않고 stale로 응답하고, 최신 시세는 백그라운드로 조회합니다.
+     * 
+     * @param itemCodes 종목 코드 리스트
+     * @return 조회에 성공한 주식 정보 및 종목별 오류
+     */
+    public Mono<StockBatchResultDto> getStocksInfoReactive(List<String> itemCodes) {
+        return Mono.defer(() -> {
+            StockBatchResultDto restoredResult = getRestoredStocksInfo(itemCodes);
+            return restoredResult != null ? Mono.just(restoredResult) : getCachedStocksInfo(itemCodes);
+        });
+    }
+    
+    /**
+     * 요청한 종목이 모두 스냅샷에서 복원한 뒤 아직 새로 받지 못한 시세이면 stale로 표시해 반환하고, 최신 시세를 백그라운드로 조회합니다.
+     * 
+     * @param itemCodes 종목 코드 리스트
+     * @return 주식 정보 (복원한 시세가 없는 종목이 있으면 null)
+     */
+    private StockBatchResultDto getRestoredStocksInfo(List<String> itemCodes) {
+        List<StockInfoDto> stocks = new ArrayList<>();
+        for (String itemCode : itemCodes) {
+            StaleValueStore.Stamped<StockQuote> restoredQuote = lastKnownValues.stockQuotes().getRestored(itemCode);
+            if (restoredQuote == null) {
+                return null;
+            }
+            StockInfoDto stockInfo = formatStockInfo(restoredQuote.value());
+            stockInfo.setStale(true);
+            stockInfo.setStaleAgeSeconds(restoredQuote.age().toSeconds());
+            stocks.add(stockInfo);
         }
+        
+        if (lastKnownValues.stockQuotes().startRefresh(itemCodes)) {
+            log.info("복원한 주식 시세로 응답, 최신 시세 백그라운드 조회: {}", itemCodes);
+            stockQuoteCache.getAll(itemCodes, this::fetchStocks)
+                    .doFinally(signal -> lastKnownValues.stockQuotes().endRefresh(itemCodes))
+                    .subscribe(quotes -> log.debug("복원한 주식 시세 갱신 완료: {}", itemCodes),
+                            e -> log.warn("복원한 주식 시세 갱신 실패: {}, 오류={}", itemCodes, e.getMessage()));
+        }
+        
+        return StockBatchResultDto.builder()
+                .stocks(stocks)
+                .errors(new ArrayList<>())
+                .build();
+    }
+    
+    /**
+     * 여러 종목의 실시간 정보를 캐시 또는 네이버 API로 조회합니다.
+     * 
+     * @param itemCodes 종목 코드 리스트
+     * @return 조회에 성공한 주식 정보 및 종목별 오류
+     */
+    private Mono<StockBatchResultDto> getCachedStocksInfo(List<String> itemCodes) {
+        return stockQuoteCache.getAll(itemCodes, this::fetchStocks)
+                .map(quotes -> {
+                    List<StockInfoDto> stocks = new ArrayList<>();
+                    List<StockBatchResultDto.ItemError> errors = new ArrayList<>();
+                    
+                    // 요청 종목 순서대로 결과 정리
+                    for (String itemCode : itemCodes) {
+                        StockQuoteCache.CachedStockQuote quote = quotes.get(itemCode);
+                        if (quote == null) {
+                            errors.add(new StockBatchResultDto.ItemError(itemCode, "응답 시간이 초과되었습니다"));
+                        } else if (quote.quote() != null) {
+                            // 응답 시점에만 문자열로 포맷
+                            StockInfoDto stockInfo = formatStockInfo(quote.quote());
+                            if (quote.staleFetchedAt() != null) {
+                                stockInfo.setStale(true);
+                                stockInfo.setStaleAgeSeconds(Duration.between(quote.staleFetchedAt(), Instant.now()).toSeconds());
+                            }
+                            stocks.add(stockInfo);
+                        } else {
+                            errors.add(new StockBatchResultDto.ItemError(itemCode, quote.error()));
+                        }
+                    }
+                    
+                    if (!errors.isEmpty()) {
+                        log.warn("주식 정보 일부 조회 실패: {}", errors);
+                    }
+                    
+                    return StockBatchResultDto.builder()
+                            .stocks(stocks)
+                            .errors(errors)
+                            .build();
+                });
+    }
+    
+    /**
+     * 여러 종목의 실시간 정보를 네이버 API로 동시에 조회합니다.
+     * 종목들을 batch-size 단위로 묶어 한 번의 네이버 API 호출로 조회하고, 묶음들은 최대 concurrency 개까지 병렬로 호출합니다.
+     * deadline 안에 응답하지 못한 종목은 결과에서 빠집니다.
+     * 
+     * @param itemCodes 종목 코드 리스트
+     * @return 종목 코드별 캐시 값
+     */
+    private Mono<Map<String, StockQuoteCache.CachedStockQuote>> fetchStocks(List<String> itemCodes) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < itemCodes.size(); i += fanOutBatchSize) {
+            batches.add(itemCodes.subList(i, Math.min(i + fanOutBatchSize, itemCodes.size())));
+        }
+        
+        return Flux.fromIterable(batches)
+                .flatMap(this::fetchStockBatch, fanOutConcurrency)
+                .take(fanOutDeadline)
+                .collectMap(StockFetchResult::itemCode, result -> {
+                    if (result.quote() == null) {
+                        return stockQuoteCache.failure(result.error());
+                    }
+                    return result.staleFetchedAt() != null
+                            ? stockQuoteCache.stale(result.quote(), result.staleFetchedAt())
+                            : stockQuoteCache.success(result.quote(), result.pollingInterval());
+                });
+    }
+    
+    /**
+     * 여러 종목을 한 번의 네이버 API 호출로 조회합니다.
+     * 묶음 호출이 실패하면 실패 종목을 가려내기 위해 종목별로 다시 조회합니다. (서킷이 열려 있으면 다시 조회하지 않음)
+     * 네이버 장애로 조회하지 못한 종목은 마지막 정상 시세로 대신합니다.
+     * 
+     * @param itemCodes 종목 코드 리스트
+     * @return 종목별 조회 결과
+     */
+    private Flux<StockFetchResult> fetchStockBatch(List<String> itemCodes) {
+        return callNaverStockApi(String.join(",", itemCodes))
+                .flatMapMany(response -> {
+                    // 수신 시점에 한 번만 파싱하여 내부 시세로 변환
+                    Map<String, StockQuote> quotes = new HashMap<>();
+                    if (response.getDatas() != null) {
+                        response.getDatas().forEach(stockData -> {
+                            StockQuote quote = StockQuote.from(stockData);
+                            quotes.put(stockData.getItemCode(), quote);
+                            lastKnownValues.stockQuotes().put(stockData.getItemCode(), quote);
+                            // 조회한 시세는 틱 이력으로 기록 (버퍼에 넣기만 함)
+                            quoteTickRecorder.record(quote);
+                        });
+                    }
+                    
+                    return Flux.fromIterable(itemCodes)
+                            .map(itemCode -> quotes.containsKey(itemCode)
+                                    ? StockFetchResult.success(itemCode, quotes.get(itemCode), response.getPollingInterval())
+                                    : StockFetchResult.failure(itemCode, "해당 종목 정보를 찾을 수 없습니다"));
+                })
+                .onErrorResume(e -> {
+                    if (itemCodes.size() > 1 && !(e instanceof UpstreamGuard.CircuitOpenException)) {
+                        log.warn("주식 정보 묶음 조회 실패, 종목별 재조회: itemCodes={}, 오류={}", itemCodes, e.getMessage());
+                        return Flux.fromIterable(itemCodes)
+                                .flatMap(itemCode -> fetchStockBatch(List.of(itemCode)), fanOutConcurrency);
+                    }
+                    
+                    return Flux.fromIterable(itemCodes)
+                            .map(itemCode -> fallback(itemCode, e));
+                });
+    }
+    
+    /**
+     * 조회하지 못한 종목의 결과를 만듭니다. 네이버 장애이면 마지막 정상 시세로 대신합니다.
+     * 
+     * @param itemCode 종목 코드
+     * @param e 조회 오류
+     * @return 종목별 조회 결과
+     */
+    private StockFetchResult fallback(String itemCode, Throwable e) {
+        StaleValueStore.Stamped<StockQuote> lastQuote = UpstreamGuard.isUpstreamFailure(e)
+                ? lastKnownValues.stockQuotes().get(itemCode)
+                : null;
+        if (lastQuote != null) {
+            log.warn("주식 정보 조회 실패, 마지막 정상 시세로 응답: itemCode={}, 경과 {}초, 오류={}",
+                    itemCode, lastQuote.age().toSeconds(), e.getMessage());
+            return StockFetchResult.stale(itemCode, lastQuote.value(), lastQuote.fetchedAt());
+        }
+        
+        if (e instanceof UpstreamGuard.CircuitOpenException) {
+            log.warn("주식 정보 조회 생략: itemCode={}, 오류={}", itemCode, e.getMessage());
+        } else {
+            log.error("주식 정보 조회 중 오류 발생: itemCode={}", itemCode, e);
+        }
+        return StockFetchResult.failure(itemCode, "주식 정보 조회 중 오류가 발생했습니다");
     }
     
     /**
@@ -50,77 +258,76 @@ public class StockService {
      * @return 주식 정보
      */
     public StockInfoDto getStockInfo(String itemCode) {
-        try {
-            log.info("주식 정보 조회 요청: itemCode={}", itemCode);
-            
-            // 네이버 주식 API 호출
-            StockResponseDto response = callNaverStockApi(itemCode);
-            
-            // 응답 데이터 파싱
-            StockInfoDto stockInfo = parseStockResponse(response);
-            
-            log.info("주식 정보 조회 완료: {}", stockInfo);
-            return stockInfo;
-            
-        } catch (Exception e) {
-            log.error("주식 정보 조회 중 오류 발생: itemCode={}", itemCode, e);
-            throw new RuntimeException("주식 정보 조회 중 오류가 발생했습니다: " + itemCode, e);
-        }
+        return getStockInfoReactive(itemCode).block();
     }
     
     /**
-     * 네이버 주식 API를 호출합니다.
+     * 특정 종목의 실시간 정보를 논블로킹으로 조회합니다.
+     * 네이버 주식 API 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     * 
+     * @param itemCode 종목 코드
+     * @return 주식 정보
+     */
+    public Mono<StockInfoDto> getStockInfoReactive(String itemCode) {
+        return getStocksInfoReactive(List.of(itemCode))
+                .doOnSubscribe(subscription -> log.info("주식 정보 조회 요청: itemCode={}", itemCode))
+                .map(result -> {
+                    if (result.getStocks().isEmpty()) {
+                        throw new RuntimeException(result.getErrors().get(0).getMessage());
+                    }
+                    return result.getStocks().get(0);
+                })
+                .doOnNext(stockInfo -> log.info("주식 정보 조회 완료: {}", stockInfo))
+                .onErrorMap(e -> {
+                    log.error("주식 정보 조회 중 오류 발생: itemCode={}", itemCode, e);
+                    return new RuntimeException("주식 정보 조회 중 오류가 발생했습니다: " + itemCode, e);
+                });
+    }
+    
+    /**
+     * 네이버 주식 API를 호출합니다. (서킷 브레이커, 헤지 요청 적용)
+     * 
+     * @param itemCodes 종목 코드 (쉼표로 구분하면 여러 종목을 한 번에 조회)
      */
-    private StockResponseDto callNaverStockApi(String itemCode) {
-        String url = NAVER_STOCK_API_BASE_URL + "/" + itemCode;
+    private Mono<StockResponseDto> callNaverStockApi(String itemCodes) {
+        String url = naverBaseUrl + "/" + itemCodes;
         
         log.debug("네이버 주식 API 호출 URL: {}", url);
         
-        WebClient webClient = webClientBuilder.build();
-        
-        return webClient.get()
+        return upstreamGuard.call(UpstreamMetrics.NAVER, () -> naverWebClient.get()
                 .uri(url)
                 .retrieve()
-                .bodyToMono(StockResponseDto.class)
-                .timeout(Duration.ofSeconds(10))
-                .block();
+                .bodyToMono(StockResponseDto.class));
     }
     
     /**
-     * 네이버 주식 API 응답을 파싱하여 StockInfoDto로 변환합니다.
+     * 시세를 응답용 StockInfoDto로 포맷합니다. 가격과 거래량은 네이버 표기와 같이 천 단위 쉼표를 넣습니다.
      */
-    private StockInfoDto parseStockResponse(StockResponseDto response) {
-        if (response == null || response.getDatas() == null || response.getDatas().isEmpty()) {
-            throw new RuntimeException("네이버 주식 API 응답이 올바르지 않습니다.");
-        }
-        
-        StockResponseDto.StockData stockData = response.getDatas().get(0);
-        
+    private StockInfoDto formatStockInfo(StockQuote quote) {
+        // 목표가는 알림 규칙(alert_rules)에서 조회
+        AlertRule rule = alertRuleService.getDisplayRule(quote.itemCode(), quote.closePrice());
         return StockInfoDto.builder()
-                .itemCode(stockData.getItemCode())
-                .stockName(stockData.getStockName())
-                .closePrice(stockData.getClosePrice())
-                .compareToPreviousClosePrice(stockData.getCompareToPreviousClosePrice())
-                .fluctuationsRatio(stockData.getFluctuationsRatio())
-                .compareDirection(stockData.getCompareToPreviousPrice() != null ? 
-                    stockData.getCompareToPreviousPrice().getName() : null)
-                .openPrice(stockData.getOpenPrice())
-                .highPrice(stockData.getHighPrice())
-                .lowPrice(stockData.getLowPrice())
-                .accumulatedTradingVolume(stockData.getAccumulatedTradingVolume())
-                .accumulatedTradingValue(stockData.getAccumulatedTradingValue())
-                .marketStatus(stockData.getMarketStatus())
-                .localTradedAt(stockData.getLocalTradedAt())
-                .currencyType(stockData.getCurrencyType() != null ? 
-                    stockData.getCurrencyType().getCode() : null)
-                .targetPrice(StockConstants.getTargetPrice(stockData.getItemCode()))
-                .targetPriceDirection(StockConstants.getTargetPriceDirection(stockData.getItemCode()) != null ? 
-                    StockConstants.getTargetPriceDirection(stockData.getItemCode()).name() : null)
+                .itemCode(quote.itemCode())
+                .stockName(quote.stockName())
+                .closePrice(FixedPoint.formatGrouped(quote.closePrice(), FixedPoint.PRICE_SCALE))
+                .compareToPreviousClosePrice(FixedPoint.formatGrouped(quote.compareToPreviousClosePrice(), FixedPoint.PRICE_SCALE))
+                .fluctuationsRatio(FixedPoint.formatFixed(FixedPoint.rescale(quote.fluctuationsRatio(), FixedPoint.RATE_SCALE, 2), 2))
+                .compareDirection(quote.compareDirection())
+                .openPrice(FixedPoint.formatGrouped(quote.openPrice(), FixedPoint.PRICE_SCALE))
+                .highPrice(FixedPoint.formatGrouped(quote.highPrice(), FixedPoint.PRICE_SCALE))
+                .lowPrice(FixedPoint.formatGrouped(quote.lowPrice(), FixedPoint.PRICE_SCALE))
+                .accumulatedTradingVolume(FixedPoint.formatGrouped(quote.accumulatedTradingVolume(), FixedPoint.VOLUME_SCALE))
+                .accumulatedTradingValue(quote.accumulatedTradingValue())
+                .marketStatus(quote.marketStatus())
+                .localTradedAt(quote.localTradedAt())
+                .currencyType(quote.currencyType())
+                .targetPrice(rule != null ? rule.getTargetPrice() : null)
+                .targetPriceDirection(rule != null ? rule.getDirection().name() : null)
                 .build();
     }
     
     /**
-     * 보유 주식들의 목표가 알림을 체크합니다.
+     * 알림 규칙이 있는 주식들의 목표가 알림을 체크합니다.
      * Git Action에서 5분마다 호출하여 목표가 도달 시 카카오톡 알림을 보냅니다.
      * 
      * @return 알림이 발송된 주식 목록
@@ -129,9 +336,28 @@ public class StockService {
         try {
             log.info("목표가 알림 체크 시작");
             
-            List<String> notifiedStocks = StockConstants.HOLDING_STOCKS.stream()
-                    .filter(this::checkAndSendNotification)
-                    .toList();
+            List<String> alertStocks = List.copyOf(alertRuleService.getSymbols(AlertRule.AssetType.STOCK));
+            if (alertStocks.isEmpty()) {
+                log.debug("목표가 알림 규칙이 있는 주식 없음");
+                return List.of();
+            }
+            
+            Map<String, StockQuoteCache.CachedStockQuote> quotes =
+                    stockQuoteCache.getAll(alertStocks, this::fetchStocks).block();
+            
+            List<String> notifiedStocks = new ArrayList<>();
+            for (String itemCode : alertStocks) {
+                StockQuoteCache.CachedStockQuote quote = quotes.get(itemCode);
+                if (quote == null || quote.quote() == null) {
+                    log.error("주식 {} 목표가 알림 체크 중 오류 발생: {}", itemCode,
+                            quote != null ? quote.error() : "응답 시간이 초과되었습니다");
+                } else if (quote.staleFetchedAt() != null) {
+                    // 마지막 정상 시세는 이미 체크한 가격이므로 건너뜀
+                    log.warn("주식 {} 목표가 알림 체크 생략: 네이버 장애로 최신 시세 없음", itemCode);
+                } else if (checkAndSendNotification(quote.quote())) {
+                    notifiedStocks.add(itemCode);
+                }
+            }
             
             if (!notifiedStocks.isEmpty()) {
                 log.info("목표가 알림 발송 완료: {} 종목", notifiedStocks);
@@ -149,40 +375,41 @@ public class StockService {
     
     /**
      * 특정 주식의 목표가 알림을 체크하고 필요시 알림을 발송합니다.
+     * 직전 가격 이후 목표가를 교차한 규칙만 발송하며, 알림을 보낼 때만 문자열로 포맷합니다.
      * 
-     * @param itemCode 종목 코드
+     * @param stockQuote 주식 시세
      * @return 알림 발송 여부
      */
-    private boolean checkAndSendNotification(String itemCode) {
+    private boolean checkAndSendNotification(StockQuote stockQuote) {
         try {
-            StockInfoDto stockInfo = getStockInfo(itemCode);
-            
-            // 목표가 알림 조건 체크
-            if (StockConstants.shouldSendNotification(itemCode, stockInfo.getClosePrice())) {
-                sendKakaoNotification(stockInfo);
-                return true;
+            // 목표가를 교차한 알림 규칙 조회
+            List<AlertRule> firedRules = alertRuleService.evaluate(stockQuote.itemCode(), stockQuote.closePrice());
+            if (firedRules.isEmpty()) {
+                return false;
             }
             
-            return false;
+            StockInfoDto stockInfo = formatStockInfo(stockQuote);
+            firedRules.forEach(rule -> sendKakaoNotification(stockInfo, rule));
+            return true;
             
         } catch (Exception e) {
-            log.error("주식 {} 목표가 알림 체크 중 오류 발생", itemCode, e);
+            log.error("주식 {} 목표가 알림 체크 중 오류 발생", stockQuote.itemCode(), e);
             return false;
         }
     }
     
     /**
-     * 카카오톡 알림을 발송합니다.
-     * TODO: 카카오톡 API 연동 구현 필요
+     * 카카오톡 알림을 발송 큐에 넣습니다. 실제 발송은 NotificationDispatcher가 별도 스레드에서 처리합니다.
      * 
      * @param stockInfo 주식 정보
+     * @param rule 목표가를 교차한 알림 규칙
      */
-    private void sendKakaoNotification(StockInfoDto stockInfo) {
+    private void sendKakaoNotification(StockInfoDto stockInfo, AlertRule rule) {
         try {
             String stockName = StockConstants.getStockName(stockInfo.getItemCode());
-            String targetPrice = stockInfo.getTargetPrice();
+            String targetPrice = rule.getTargetPrice();
             String currentPrice = stockInfo.getClosePrice();
-            String direction = StockConstants.getTargetPriceDirection(stockInfo.getItemCode()).name();
+            String direction = rule.getDirection().name();
             
             // 알림 메시지 생성 (방향에 따라 다른 메시지)
             String directionKorean = direction.equals("UP") ? "이상" : "이하";
@@ -198,20 +425,30 @@ public class StockService {
                 currentPrice, targetPrice, directionKorean
             );
             
-            log.info("카카오톡 알림 발송: {}", message);
-            
-            // TODO: 카카오톡 API 연동 구현
-            // 1. 카카오톡 API 토큰 발급
-            // 2. 메시지 전송 API 호출
-            // 3. 발송 결과 로깅 및 예외 처리
-            
-            // 임시로 로그만 출력 (실제 구현 시 제거)
-            log.info("=== 카카오톡 알림 메시지 ===");
-            log.info("{}", message);
-            log.info("==========================");
+            log.info("카카오톡 알림 발송 요청: {}", message);
+            notificationDispatcher.enqueue(NotificationMessage.builder().text(message).build());
             
         } catch (Exception e) {
             log.error("카카오톡 알림 발송 중 오류 발생", e);
         }
     }
+    
+    /**
+     * 종목별 조회 결과 (성공 시 quote와 pollingInterval, 실패 시 error, 마지막 정상 시세로 대신한 경우 quote와 staleFetchedAt)
+     */
+    private record StockFetchResult(String itemCode, StockQuote quote, Integer pollingInterval, String error,
+                                    Instant staleFetchedAt) {
+        
+        static StockFetchResult success(String itemCode, StockQuote quote, Integer pollingInterval) {
+            return new StockFetchResult(itemCode, quote, pollingInterval, null, null);
+        }
+        
+        static StockFetchResult failure(String itemCode, String error) {
+            return new StockFetchResult(itemCode, null, null, error, null);
+        }
+        
+        static StockFetchResult stale(String itemCode, StockQuote quote, Instant fetchedAt) {
+            return new StockFetchResult(itemCode, quote, null, null, fetchedAt);
+        }
+    }
 }
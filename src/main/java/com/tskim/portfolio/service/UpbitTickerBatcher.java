@@ -0,0 +1,179 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 업비트 시세(ticker) 요청 묶음 처리기
+ * batch window 동안 들어온 요청들의 마켓을 합쳐 한 번의 업비트 API 호출로 조회한 뒤 요청별로 나눠 돌려줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpbitTickerBatcher {
+
+    private final WebClient upbitWebClient;
+    private final UpstreamGuard upstreamGuard;
+
+    @Value("${crypto.api.ticker-url:" + CryptoConstants.UPBIT_TICKER_URL + "}")
+    private String tickerUrl;
+
+    @Value("${crypto.batch.window:20ms}")
+    private Duration window;
+
+    @Value("${crypto.batch.max-markets:100}")
+    private int maxMarkets;
+
+    private final Object lock = new Object();
+
+    private PendingBatch pending;
+
+    /**
+     * 마켓들의 시세를 조회합니다. 같은 window 안의 다른 요청과 합쳐서 업비트 API를 호출합니다.
+     *
+     * @param markets 조회할 마켓 코드들 (순서 무관)
+     * @return 요청한 마켓 순서대로 정렬된 시세 리스트 (업비트에 없는 마켓은 제외)
+     */
+    public Mono<List<CryptoQuote>> fetch(Collection<String> markets) {
+        Set<String> requestedMarkets = new LinkedHashSet<>(markets);
+
+        if (window.isZero()) {
+            return callUpbitApi(new TreeSet<>(requestedMarkets))
+                    .map(tickers -> pick(tickers, requestedMarkets));
+        }
+
+        return Mono.defer(() -> {
+            PendingBatch batch = join(requestedMarkets);
+            return batch.result.asMono()
+                    .map(tickers -> pick(tickers, requestedMarkets))
+                    .onErrorResume(e -> {
+                        // 서킷이 열려 있으면 단독 재조회도 바로 실패하므로 생략
+                        if (batch.callers == 1 || e instanceof UpstreamGuard.CircuitOpenException) {
+                            return Mono.error(e);
+                        }
+                        // 다른 요청의 잘못된 마켓 때문에 묶음 호출이 실패했을 수 있으므로 단독으로 재조회
+                        log.debug("업비트 시세 묶음 조회 실패, 단독 재조회: markets={}, 오류={}", requestedMarkets, e.getMessage());
+                        return callUpbitApi(new TreeSet<>(requestedMarkets))
+                                .map(tickers -> pick(tickers, requestedMarkets));
+                    });
+        });
+    }
+
+    /**
+     * 현재 대기 중인 묶음에 마켓을 추가합니다. 대기 중인 묶음이 없으면 새로 만들고 window 후 호출을 예약합니다.
+     */
+    private PendingBatch join(Set<String> markets) {
+        PendingBatch batch;
+        boolean flushNow = false;
+
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new PendingBatch();
+                PendingBatch scheduled = pending;
+                Mono.delay(window).subscribe(tick -> flush(scheduled));
+            }
+            batch = pending;
+            batch.markets.addAll(markets);
+            batch.callers++;
+
+            if (batch.markets.size() >= maxMarkets) {
+                pending = null;
+                flushNow = true;
+            }
+        }
+
+        if (flushNow) {
+            flush(batch);
+        }
+        return batch;
+    }
+
+    /**
+     * 묶음을 닫고 합쳐진 마켓들로 업비트 API를 한 번 호출합니다.
+     */
+    private void flush(PendingBatch batch) {
+        synchronized (lock) {
+            if (batch.flushed) {
+                return;
+            }
+            batch.flushed = true;
+            if (pending == batch) {
+                pending = null;
+            }
+        }
+
+        log.debug("업비트 시세 묶음 조회: 요청 {}건, 마켓 {}", batch.callers, batch.markets);
+
+        callUpbitApi(batch.markets).subscribe(
+                tickers -> batch.result.tryEmitValue(tickers),
+                e -> batch.result.tryEmitError(e));
+    }
+
+    /**
+     * 업비트 API를 호출합니다. (서킷 브레이커, 헤지 요청 적용)
+     *
+     * @param markets 조회할 마켓 코드들 (정렬된 집합이므로 같은 마켓 조합은 항상 같은 URL로 호출)
+     * @return 시세 리스트
+     */
+    private Mono<List<CryptoQuote>> callUpbitApi(TreeSet<String> markets) {
+        String url = tickerUrl + "?markets=" + String.join(",", markets);
+
+        log.debug("업비트 API 호출 URL: {}", url);
+
+        return upstreamGuard.call(UpstreamMetrics.UPBIT, () -> upbitWebClient.get()
+                .uri(url)
+                .header("accept", "application/json")
+                .retrieve()
+                .bodyToFlux(CryptoResponseDto.class)
+                // 수신 시점에 한 번만 파싱하여 내부 시세로 변환
+                .map(CryptoQuote::from)
+                .collectList());
+    }
+
+    /**
+     * 묶음 조회 결과에서 요청한 마켓만 요청 순서대로 골라냅니다.
+     */
+    private List<CryptoQuote> pick(List<CryptoQuote> tickers, Set<String> markets) {
+        Map<String, CryptoQuote> byMarket = new HashMap<>();
+        for (CryptoQuote ticker : tickers) {
+            byMarket.put(ticker.market(), ticker);
+        }
+
+        List<CryptoQuote> picked = new ArrayList<>(markets.size());
+        for (String market : markets) {
+            CryptoQuote ticker = byMarket.get(market);
+            if (ticker != null) {
+                picked.add(ticker);
+            }
+        }
+        return picked;
+    }
+
+    /**
+     * window 동안 모이는 요청 묶음
+     */
+    private static class PendingBatch {
+        private final TreeSet<String> markets = new TreeSet<>();
+        private final Sinks.One<List<CryptoQuote>> result = Sinks.one();
+        private int callers;
+        private boolean flushed;
+    }
+}
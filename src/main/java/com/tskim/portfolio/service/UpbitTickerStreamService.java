@@ -0,0 +1,200 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tskim.portfolio.constants.CryptoConstants;
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업비트 웹소켓 시세(ticker) 스트림을 구독하여 CryptoTickerStore를 갱신합니다.
+ * 연결이 끊기면 지수 백오프로 재연결 후 다시 구독하며, 스트림이 끊긴 동안에는 CryptoScheduler의 REST 폴링이 대신 동작합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpbitTickerStreamService {
+
+    private final WebSocketClient upbitWebSocketClient;
+    private final CryptoTickerStore cryptoTickerStore;
+    private final CryptoService cryptoService;
+    private final AlertRuleService alertRuleService;
+    private final QuoteTickRecorder quoteTickRecorder;
+    private final ObjectMapper objectMapper;
+
+    @Value("${crypto.websocket.enabled:true}")
+    private boolean enabled;
+
+    @Value("${crypto.websocket.url:wss://api.upbit.com/websocket/v1}")
+    private String url;
+
+    @Value("${crypto.websocket.stale-after:30s}")
+    private Duration staleAfter;
+
+    @Value("${crypto.websocket.ping-interval:60s}")
+    private Duration pingInterval;
+
+    @Value("${crypto.websocket.reconnect.min-backoff:1s}")
+    private Duration minBackoff;
+
+    @Value("${crypto.websocket.reconnect.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    // 마지막 연결 성공 이후 연속 재연결 시도 횟수 (백오프 계산용)
+    private final AtomicInteger reconnectAttempts = new AtomicInteger();
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("업비트 웹소켓 시세 스트림 비활성화 - REST 폴링으로 동작");
+            return;
+        }
+
+        log.info("업비트 웹소켓 시세 스트림 구독 시작: {}", getSubscribeMarkets());
+
+        // 재연결할 때마다 구독 마켓을 다시 구성 (그 사이 추가된 알림 규칙 마켓 포함)
+        subscription = Mono.defer(() -> connect(getSubscribeMarkets()))
+                // 정상 종료도 재연결 대상이므로 오류로 변환
+                .then(Mono.<Void>error(new IllegalStateException("업비트 웹소켓 연결이 종료되었습니다")))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Duration delay = nextBackoff();
+                    log.warn("업비트 웹소켓 재연결 예정: {}ms 후, 오류={}", delay.toMillis(), signal.failure().getMessage());
+                    return Mono.delay(delay);
+                })))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        cryptoTickerStore.setStreamConnected(false);
+    }
+
+    /**
+     * 웹소켓에 연결하여 시세를 구독합니다. 연결이 끊기거나 stale-after 동안 시세가 없으면 종료됩니다.
+     */
+    private Mono<Void> connect(List<String> markets) {
+        return upbitWebSocketClient.execute(URI.create(url), session -> {
+                    Mono<Void> send = session.send(Flux.concat(
+                            Mono.just(session.textMessage(createSubscribeMessage(markets))),
+                            Flux.interval(pingInterval)
+                                    .map(i -> session.pingMessage(factory -> factory.wrap(new byte[0])))
+                    ));
+
+                    Mono<Void> receive = session.receive()
+                            .timeout(staleAfter)
+                            .map(WebSocketMessage::getPayloadAsText)
+                            .doOnNext(payload -> onMessage(session, payload))
+                            .then();
+
+                    return Mono.firstWithSignal(send, receive);
+                })
+                .doFinally(signal -> cryptoTickerStore.setStreamConnected(false));
+    }
+
+    /**
+     * 수신한 시세를 저장하고 목표가 알림을 체크합니다.
+     */
+    private void onMessage(WebSocketSession session, String payload) {
+        CryptoResponseDto response;
+        try {
+            response = objectMapper.readValue(payload, CryptoResponseDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("업비트 웹소켓 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (response.getMarket() == null) {
+            // 구독 상태 응답 등 시세가 아닌 메시지
+            return;
+        }
+
+        // 수신 시점에 한 번만 파싱하여 내부 시세로 변환
+        CryptoQuote ticker = CryptoQuote.from(response);
+
+        if (!cryptoTickerStore.isStreamAlive()) {
+            log.info("업비트 웹소켓 시세 수신 시작: session={}", session.getId());
+            reconnectAttempts.set(0);
+        }
+        CryptoQuote previous = cryptoTickerStore.get(ticker.market());
+        cryptoTickerStore.update(ticker);
+        cryptoTickerStore.setStreamConnected(true);
+        quoteTickRecorder.record(ticker);
+
+        checkTargetPrice(previous, ticker);
+    }
+
+    /**
+     * 가격이 바뀐 경우에만 목표가 알림을 체크합니다. 알림 규칙이 없는 마켓은 인덱스 조회만 하고 끝납니다.
+     */
+    private void checkTargetPrice(CryptoQuote previous, CryptoQuote ticker) {
+        if (ticker.tradePrice() != FixedPoint.NaN && (previous == null || previous.tradePrice() != ticker.tradePrice())) {
+            cryptoService.checkTargetPriceNotification(ticker);
+        }
+    }
+
+    /**
+     * 관심 암호화폐와 알림 규칙이 있는 암호화폐를 합친 구독 마켓 목록
+     */
+    private List<String> getSubscribeMarkets() {
+        Set<String> markets = new LinkedHashSet<>(List.of(CryptoConstants.INTERESTED_CRYPTOS.split(",")));
+        markets.addAll(alertRuleService.getSymbols(AlertRule.AssetType.CRYPTO));
+        return List.copyOf(markets);
+    }
+
+    /**
+     * 업비트 웹소켓 구독 요청 메시지를 생성합니다.
+     * 형식: [{"ticket":"..."},{"type":"ticker","codes":[...]},{"format":"DEFAULT"}]
+     */
+    private String createSubscribeMessage(List<String> markets) {
+        try {
+            return objectMapper.writeValueAsString(List.of(
+                    Map.of("ticket", UUID.randomUUID().toString()),
+                    Map.of("type", "ticker", "codes", markets),
+                    Map.of("format", "DEFAULT")
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업비트 웹소켓 구독 메시지 생성 실패", e);
+        }
+    }
+
+    /**
+     * 지터를 포함한 지수 백오프 재연결 대기 시간을 계산합니다.
+     */
+    private Duration nextBackoff() {
+        int attempt = Math.min(reconnectAttempts.getAndIncrement(), 16);
+        long delay = Math.min(maxBackoff.toMillis(), minBackoff.toMillis() << attempt);
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 4 + 1);
+        return Duration.ofMillis(delay + jitter);
+    }
+}
@@ -0,0 +1,377 @@
+package com.tskim.portfolio.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 업스트림(업비트, 네이버, 기상청) 호출 보호
+ * 업스트림마다 서킷 브레이커를 두어 최근 호출의 실패 비율이 기준을 넘으면 open-duration 동안 호출하지 않고 바로 실패시키고,
+ * 이후 한 건만 시험 호출하여 성공하면 다시 닫습니다.
+ * 응답이 최근 성공 호출 지연의 p95를 넘기면 같은 요청을 한 번 더 보내(헤지 요청) 먼저 도착한 응답을 사용합니다.
+ * 실패한 호출은 각 서비스가 마지막 정상 응답(StaleValueStore)으로 대신 응답합니다.
+ */
+@Component
+@Slf4j
+public class UpstreamGuard {
+
+    // 헤지 기준 지연을 계산할 최근 성공 호출 수
+    private static final int LATENCY_SAMPLES = 100;
+
+    private final UpstreamMetrics upstreamMetrics;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Guard> guards;
+
+    private final int window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final int hedgeMinSamples;
+    private final long hedgeMinDelayNanos;
+    private final long hedgeMaxDelayNanos;
+
+    public UpstreamGuard(UpstreamMetrics upstreamMetrics,
+                         MeterRegistry meterRegistry,
+                         @Value("${upstream.timeout.upbit:3s}") Duration upbitTimeout,
+                         @Value("${upstream.timeout.naver:3s}") Duration naverTimeout,
+                         @Value("${upstream.timeout.kma:2s}") Duration kmaTimeout,
+                         @Value("${upstream.circuit-breaker.window:20}") int window,
+                         @Value("${upstream.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                         @Value("${upstream.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                         @Value("${upstream.circuit-breaker.open-duration:30s}") Duration openDuration,
+                         @Value("${upstream.hedge.enabled:true}") boolean hedgeEnabled,
+                         @Value("${upstream.hedge.percentile:0.95}") double hedgePercentile,
+                         @Value("${upstream.hedge.min-samples:20}") int hedgeMinSamples,
+                         @Value("${upstream.hedge.min-delay:50ms}") Duration hedgeMinDelay,
+                         @Value("${upstream.hedge.max-delay:1s}") Duration hedgeMaxDelay) {
+        this.upstreamMetrics = upstreamMetrics;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.minimumCalls = Math.min(minimumCalls, window);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeMinSamples = Math.min(hedgeMinSamples, LATENCY_SAMPLES);
+        this.hedgeMinDelayNanos = hedgeMinDelay.toNanos();
+        this.hedgeMaxDelayNanos = hedgeMaxDelay.toNanos();
+        this.guards = Map.of(
+                UpstreamMetrics.UPBIT, new Guard(UpstreamMetrics.UPBIT, upbitTimeout),
+                UpstreamMetrics.NAVER, new Guard(UpstreamMetrics.NAVER, naverTimeout),
+                UpstreamMetrics.KMA, new Guard(UpstreamMetrics.KMA, kmaTimeout));
+    }
+
+    /**
+     * 업스트림을 호출합니다. 서킷이 열려 있으면 호출하지 않고 CircuitOpenException으로 바로 실패합니다.
+     * 호출(헤지 요청 포함)마다 업스트림별 제한 시간을 적용하고 upstream.requests 타이머로 기록합니다.
+     *
+     * @param upstream 업스트림 이름 (upbit, naver, kma)
+     * @param call 업스트림 호출 (응답 파싱 포함, 구독할 때마다 새로 요청하며 같은 요청을 두 번 보내도 안전해야 함)
+     * @return 보호된 호출
+     */
+    public <T> Mono<T> call(String upstream, Supplier<Mono<T>> call) {
+        Guard guard = guards.get(upstream);
+        return Mono.defer(() -> {
+            Permit permit = guard.tryAcquire();
+            if (permit == Permit.REJECTED) {
+                guard.rejected.increment();
+                return Mono.error(new CircuitOpenException(upstream));
+            }
+
+            boolean probe = permit == Permit.PROBE;
+            // 시험 호출은 헤지하지 않음
+            return (probe ? guard.attempt(call) : guard.hedged(call))
+                    .doOnSuccess(value -> guard.onResult(false, probe))
+                    .doOnError(e -> guard.onResult(isUpstreamFailure(e), probe))
+                    .doOnCancel(() -> guard.onCancel(probe));
+        });
+    }
+
+    /**
+     * 업스트림 장애로 볼 오류인지 판단합니다. (서킷 브레이커 실패 집계와 stale 응답 대체 기준)
+     * 업스트림이 요청 자체를 거절한 4xx(잘못된 마켓 코드 등)는 장애가 아니며, 429는 장애로 봅니다.
+     *
+     * @param e 업스트림 호출 오류
+     * @return 장애 여부
+     */
+    public static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return !responseException.getStatusCode().is4xxClientError()
+                    || responseException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    /**
+     * 서킷 브레이커 상태
+     */
+    enum State {
+        CLOSED,     // 정상 호출
+        HALF_OPEN,  // 시험 호출 한 건만 허용
+        OPEN        // 호출 중단
+    }
+
+    private enum Permit {
+        CALL,
+        PROBE,
+        REJECTED
+    }
+
+    /**
+     * 서킷이 열려 업스트림을 호출하지 않은 경우
+     */
+    public static class CircuitOpenException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String upstream) {
+            super(upstream + " 서킷 브레이커가 열려 있어 호출하지 않았습니다");
+        }
+    }
+
+    /**
+     * 업스트림 하나의 서킷 브레이커 상태와 최근 성공 호출 지연
+     */
+    private final class Guard {
+
+        private final String upstream;
+        private final Duration timeout;
+        private final Counter hedges;
+        private final Counter rejected;
+
+        // 최근 window개 호출 결과 (true: 실패)
+        private final boolean[] outcomes = new boolean[window];
+        private int outcomeCount;
+        private int outcomeHead;
+        private int failures;
+
+        private State state = State.CLOSED;
+        private long openedAt;
+        private boolean probing;
+
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private int latencyCount;
+        private int latencyHead;
+
+        // 헤지 요청을 보낼 지연 (음수이면 헤지하지 않음)
+        private volatile long hedgeDelayNanos = -1;
+
+        private Guard(String upstream, Duration timeout) {
+            this.upstream = upstream;
+            this.timeout = timeout;
+            this.hedges = Counter.builder("upstream.hedges")
+                    .description("응답 지연으로 한 번 더 보낸 업스트림 요청 수")
+                    .tag("upstream", upstream)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("upstream.circuit.rejected")
+                    .description("서킷이 열려 있어 보내지 않은 업스트림 호출 수")
+                    .tag("upstream", upstream)
+                    .register(meterRegistry);
+            Gauge.builder("upstream.circuit.state", this, guard -> guard.state().ordinal())
+                    .description("서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                    .tag("upstream", upstream)
+                    .register(meterRegistry);
+        }
+
+        private synchronized State state() {
+            return state;
+        }
+
+        private synchronized Permit tryAcquire() {
+            switch (state) {
+                case CLOSED:
+                    return Permit.CALL;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openDurationNanos) {
+                        return Permit.REJECTED;
+                    }
+                    state = State.HALF_OPEN;
+                    log.info("{} 서킷 브레이커 시험 호출", upstream);
+                    probing = true;
+                    return Permit.PROBE;
+                default:
+                    if (probing) {
+                        return Permit.REJECTED;
+                    }
+                    probing = true;
+                    return Permit.PROBE;
+            }
+        }
+
+        private synchronized void onResult(boolean failure, boolean probe) {
+            if (state == State.HALF_OPEN) {
+                if (probe) {
+                    probing = false;
+                    if (failure) {
+                        open();
+                    } else {
+                        log.info("{} 서킷 브레이커 닫힘: 시험 호출 성공", upstream);
+                        state = State.CLOSED;
+                    }
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                // 서킷이 열리기 전에 보낸 호출의 결과
+                return;
+            }
+
+            if (outcomeCount == window) {
+                if (outcomes[outcomeHead]) {
+                    failures--;
+                }
+            } else {
+                outcomeCount++;
+            }
+            outcomes[outcomeHead] = failure;
+            if (failure) {
+                failures++;
+            }
+            outcomeHead = (outcomeHead + 1) % window;
+
+            if (outcomeCount >= minimumCalls && failures * 100 >= failureRateThreshold * outcomeCount) {
+                open();
+            }
+        }
+
+        private synchronized void onCancel(boolean probe) {
+            // 결과 없이 취소된 시험 호출은 다음 호출이 대신 시험
+            if (probe && state == State.HALF_OPEN) {
+                probing = false;
+            }
+        }
+
+        private void open() {
+            log.warn("{} 서킷 브레이커 열림: 최근 {}건 중 실패 {}건, {}ms 동안 호출 중단",
+                    upstream, outcomeCount, failures, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            Arrays.fill(outcomes, false);
+            outcomeCount = 0;
+            outcomeHead = 0;
+            failures = 0;
+        }
+
+        /**
+         * 성공 호출의 지연을 기록하고 헤지 기준 지연(p95)을 다시 계산합니다.
+         */
+        private synchronized void recordLatency(long latencyNanos) {
+            latencies[latencyHead] = latencyNanos;
+            latencyHead = (latencyHead + 1) % LATENCY_SAMPLES;
+            if (latencyCount < LATENCY_SAMPLES) {
+                latencyCount++;
+            }
+            if (!hedgeEnabled || latencyCount < hedgeMinSamples) {
+                return;
+            }
+
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            long percentile = sorted[Math.max(0, (int) Math.ceil(hedgePercentile * latencyCount) - 1)];
+            hedgeDelayNanos = Math.max(hedgeMinDelayNanos, Math.min(percentile, hedgeMaxDelayNanos));
+        }
+
+        /**
+         * 한 번 호출합니다. (제한 시간 적용, 지연 기록)
+         */
+        private <T> Mono<T> attempt(Supplier<Mono<T>> call) {
+            return upstreamMetrics.timed(upstream, Mono.defer(() -> {
+                long startedAt = System.nanoTime();
+                return call.get()
+                        .timeout(timeout)
+                        .doOnSuccess(value -> recordLatency(System.nanoTime() - startedAt));
+            }));
+        }
+
+        /**
+         * 호출하고, 헤지 기준 지연 안에 응답이 없으면 같은 요청을 한 번 더 보냅니다.
+         */
+        private <T> Mono<T> hedged(Supplier<Mono<T>> call) {
+            long delayNanos = hedgeDelayNanos;
+            if (delayNanos < 0 || delayNanos >= timeout.toNanos()) {
+                return attempt(call);
+            }
+            return Mono.create(sink -> new HedgedCall<>(this, call, sink).start(delayNanos));
+        }
+    }
+
+    /**
+     * 헤지 요청을 포함한 호출 하나
+     * 먼저 도착한 응답을 사용하고 나머지 요청은 취소하며, 모든 요청이 실패하면 마지막 오류로 실패합니다.
+     * 첫 요청이 헤지 전에 실패하면 헤지 요청 없이 바로 실패합니다.
+     */
+    private static final class HedgedCall<T> {
+
+        private final Guard guard;
+        private final Supplier<Mono<T>> call;
+        private final MonoSink<T> sink;
+        private final AtomicInteger inFlight = new AtomicInteger(1);
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final Disposable.Composite subscriptions = Disposables.composite();
+
+        private HedgedCall(Guard guard, Supplier<Mono<T>> call, MonoSink<T> sink) {
+            this.guard = guard;
+            this.call = call;
+            this.sink = sink;
+        }
+
+        private void start(long hedgeDelayNanos) {
+            sink.onDispose(subscriptions);
+            send();
+            subscriptions.add(Mono.delay(Duration.ofNanos(hedgeDelayNanos)).subscribe(tick -> hedge()));
+        }
+
+        private void hedge() {
+            // 이미 응답을 받았거나 모든 요청이 실패했으면 보내지 않음
+            if (finished.get() || inFlight.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                return;
+            }
+            log.debug("{} 응답 지연, 헤지 요청", guard.upstream);
+            guard.hedges.increment();
+            send();
+        }
+
+        private void send() {
+            subscriptions.add(guard.attempt(call).subscribe(this::onValue, this::onError, this::onComplete));
+        }
+
+        private void onValue(T value) {
+            if (finished.compareAndSet(false, true)) {
+                sink.success(value);
+            }
+        }
+
+        private void onComplete() {
+            // 값 없이 끝난 응답 (값이 있으면 onValue에서 이미 끝남)
+            if (finished.compareAndSet(false, true)) {
+                sink.success();
+            }
+        }
+
+        private void onError(Throwable e) {
+            // 다른 요청이 아직 진행 중이면 그 응답을 기다림
+            if (inFlight.decrementAndGet() == 0 && finished.compareAndSet(false, true)) {
+                sink.error(e);
+            }
+        }
+    }
+}
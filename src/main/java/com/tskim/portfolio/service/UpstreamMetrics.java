@@ -0,0 +1,97 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 업스트림(업비트, 네이버, 기상청) 호출 지표
+ * 호출마다 구독부터 완료까지를 upstream.requests 타이머(upstream, outcome 태그)로 기록하고,
+ * 응답 본문을 읽지 못한 호출은 upstream.parse.failures 카운터로도 셉니다.
+ * 타이머의 백분위 히스토그램은 management.metrics.distribution 설정으로 켭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetrics {
+
+    static final String UPBIT = "upbit";
+    static final String NAVER = "naver";
+    static final String KMA = "kma";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업스트림 호출 결과
+     */
+    enum Outcome {
+        SUCCESS,        // 정상 응답
+        CLIENT_ERROR,   // 4xx
+        SERVER_ERROR,   // 5xx
+        TIMEOUT,        // 응답 제한 시간 초과
+        PARSE_ERROR,    // 응답 본문 파싱 실패
+        IO_ERROR,       // 연결 실패, 연결 끊김
+        ERROR,          // 그 밖의 오류 (업스트림 오류 코드 등)
+        CANCELLED       // 응답 전에 구독 취소 (deadline 초과, 묶음 조회 중단 등)
+    }
+
+    /**
+     * 업스트림 호출을 타이머로 감쌉니다. (구독할 때마다 측정)
+     *
+     * @param upstream 업스트림 이름 (upbit, naver, kma)
+     * @param call 업스트림 호출 (응답 파싱 포함)
+     * @return 측정하는 호출
+     */
+    public <T> Mono<T> timed(String upstream, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(value -> record(sample, upstream, Outcome.SUCCESS))
+                    .doOnError(e -> record(sample, upstream, outcomeOf(e)))
+                    .doOnCancel(() -> record(sample, upstream, Outcome.CANCELLED));
+        });
+    }
+
+    private void record(Timer.Sample sample, String upstream, Outcome outcome) {
+        sample.stop(Timer.builder("upstream.requests")
+                .description("업스트림 API 호출 시간")
+                .tag("upstream", upstream)
+                .tag("outcome", outcome.name())
+                .register(meterRegistry));
+
+        if (outcome == Outcome.PARSE_ERROR) {
+            Counter.builder("upstream.parse.failures")
+                    .description("응답 본문을 읽지 못한 업스트림 호출 수")
+                    .tag("upstream", upstream)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    static Outcome outcomeOf(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is4xxClientError() ? Outcome.CLIENT_ERROR : Outcome.SERVER_ERROR;
+        }
+        if (e instanceof TimeoutException) {
+            return Outcome.TIMEOUT;
+        }
+        if (e instanceof WebClientRequestException) {
+            return Outcome.IO_ERROR;
+        }
+        // WebClient 디코딩 실패, KmaForecast 파싱 실패 (원인이 Jackson 예외)
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DecodingException || cause instanceof JacksonException) {
+                return Outcome.PARSE_ERROR;
+            }
+        }
+        return Outcome.ERROR;
+    }
+}
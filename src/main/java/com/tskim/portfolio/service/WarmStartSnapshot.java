@@ -0,0 +1,190 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 워밍 스타트 스냅샷
+ * 마켓별 암호화폐 시세, 종목별 주식 시세, 격자별 기상청 예보의 마지막 정상 값(LastKnownValues)을 gzip JSON 파일로 저장하고,
+ * 기동 시 웹 서버가 요청을 받기 전에 복원합니다. 복원한 값은 재시작 직후 첫 요청에 stale로 바로 응답하는 데 쓰이고
+ * 최신 값은 백그라운드로 조회됩니다. save-interval마다, 그리고 종료 시 저장합니다.
+ */
+@Component
+@Slf4j
+public class WarmStartSnapshot {
+
+    static final int VERSION = 1;
+
+    private final LastKnownValues lastKnownValues;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path path;
+
+    public WarmStartSnapshot(LastKnownValues lastKnownValues,
+                             ObjectMapper objectMapper,
+                             @Value("${snapshot.enabled:true}") boolean enabled,
+                             @Value("${snapshot.path:data/warm-start-snapshot.json.gz}") Path path) {
+        this.lastKnownValues = lastKnownValues;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.path = path;
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 마지막 정상 값을 복원합니다. 파일이 없거나 읽을 수 없으면 빈 상태로 시작합니다.
+     */
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("워밍 스타트 스냅샷 비활성화");
+            return;
+        }
+        if (!Files.exists(path)) {
+            log.info("워밍 스타트 스냅샷 없음: {}", path);
+            return;
+        }
+
+        Snapshot snapshot;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            snapshot = objectMapper.readValue(in, Snapshot.class);
+        } catch (IOException e) {
+            log.warn("워밍 스타트 스냅샷 읽기 실패, 빈 상태로 시작: {}, 오류={}", path, e.getMessage());
+            return;
+        }
+        if (snapshot.version() != VERSION) {
+            log.warn("워밍 스타트 스냅샷 버전 불일치, 빈 상태로 시작: {} (지원 버전 {})", snapshot.version(), VERSION);
+            return;
+        }
+
+        int cryptoQuotes = 0;
+        for (QuoteEntry<CryptoQuote> entry : snapshot.cryptoQuotes()) {
+            if (lastKnownValues.cryptoQuotes().restore(entry.symbol(), entry.quote(), entry.fetchedAt())) {
+                cryptoQuotes++;
+            }
+        }
+        int stockQuotes = 0;
+        for (QuoteEntry<StockQuote> entry : snapshot.stockQuotes()) {
+            if (lastKnownValues.stockQuotes().restore(entry.symbol(), entry.quote(), entry.fetchedAt())) {
+                stockQuotes++;
+            }
+        }
+        int forecasts = 0;
+        for (ForecastEntry entry : snapshot.forecasts()) {
+            KmaForecast forecast = KmaForecast.of(entry.fcstDate(), entry.fcstTime(), entry.values());
+            if (lastKnownValues.forecasts().restore(entry.key(), forecast, entry.fetchedAt())) {
+                forecasts++;
+            }
+        }
+
+        // max-age가 지난 값은 복원하지 않음
+        log.info("워밍 스타트 스냅샷 복원: 저장 시각 {}, 암호화폐 {}/{}건, 주식 {}/{}건, 예보 {}/{}건",
+                snapshot.savedAt(), cryptoQuotes, snapshot.cryptoQuotes().size(),
+                stockQuotes, snapshot.stockQuotes().size(), forecasts, snapshot.forecasts().size());
+    }
+
+    @Scheduled(fixedDelayString = "${snapshot.save-interval:PT5M}", initialDelayString = "${snapshot.save-interval:PT5M}")
+    public void savePeriodically() {
+        save();
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+
+    /**
+     * 마지막 정상 값을 스냅샷 파일로 저장합니다. 임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 이전 스냅샷은 유지됩니다.
+     */
+    void save() {
+        if (!enabled) {
+            return;
+        }
+
+        List<QuoteEntry<CryptoQuote>> cryptoQuotes = new ArrayList<>();
+        lastKnownValues.cryptoQuotes().entries().forEach((symbol, stamped) ->
+                cryptoQuotes.add(new QuoteEntry<>(symbol, stamped.value(), stamped.fetchedAt())));
+        List<QuoteEntry<StockQuote>> stockQuotes = new ArrayList<>();
+        lastKnownValues.stockQuotes().entries().forEach((symbol, stamped) ->
+                stockQuotes.add(new QuoteEntry<>(symbol, stamped.value(), stamped.fetchedAt())));
+        List<ForecastEntry> forecasts = new ArrayList<>();
+        lastKnownValues.forecasts().entries().forEach((key, stamped) ->
+                forecasts.add(new ForecastEntry(key, stamped.value().getFcstDate(), stamped.value().getFcstTime(),
+                        stamped.value().values(), stamped.fetchedAt())));
+
+        if (cryptoQuotes.isEmpty() && stockQuotes.isEmpty() && forecasts.isEmpty()) {
+            log.debug("워밍 스타트 스냅샷 저장 생략: 저장할 값 없음");
+            return;
+        }
+
+        Snapshot snapshot = new Snapshot(VERSION, Instant.now(), cryptoQuotes, stockQuotes, forecasts);
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                    objectMapper.writeValue(out, snapshot);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("워밍 스타트 스냅샷 저장: {} (암호화폐 {}건, 주식 {}건, 예보 {}건)",
+                    path, cryptoQuotes.size(), stockQuotes.size(), forecasts.size());
+        } catch (IOException e) {
+            log.warn("워밍 스타트 스냅샷 저장 실패: {}, 오류={}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 파일 내용
+     *
+     * @param version 파일 형식 버전 (다르면 복원하지 않음)
+     * @param savedAt 저장 시각
+     */
+    record Snapshot(int version,
+                    Instant savedAt,
+                    List<QuoteEntry<CryptoQuote>> cryptoQuotes,
+                    List<QuoteEntry<StockQuote>> stockQuotes,
+                    List<ForecastEntry> forecasts) {
+    }
+
+    /**
+     * @param symbol 마켓 코드 또는 종목 코드
+     * @param fetchedAt 업스트림에서 받은 시각
+     */
+    record QuoteEntry<Q>(String symbol, Q quote, Instant fetchedAt) {
+    }
+
+    /**
+     * @param key 발표일자, 발표시각, 격자 좌표
+     * @param values 예보 항목과 값
+     * @param fetchedAt 기상청에서 받은 시각
+     */
+    record ForecastEntry(WeatherForecastCache.ForecastKey key,
+                         String fcstDate,
+                         String fcstTime,
+                         Map<KmaForecast.Category, String> values,
+                         Instant fetchedAt) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.tskim.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+/**
+ * 기상청 초단기예보 캐시
+ * 격자 응답에서 읽은 예보(KmaForecast)를 (base_date, base_time, nx, ny)별로 캐시하며, 예보가 바뀌는 다음 발표 시각(매시 45분,
+ * WeatherService.calculateBaseTime과 같은 기준)에 정확히 만료시킵니다.
+ * 같은 키의 동시 캐시 미스는 한 번의 기상청 호출로 처리하고, 실패한 조회는 캐시하지 않습니다.
+ */
+@Component
+@Slf4j
+public class WeatherForecastCache {
+
+    // 기상청 초단기예보 발표 기준 (매시 30분 발표, 45분 이후 조회 가능)
+    static final int RELEASE_MINUTE = 45;
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AsyncCache<ForecastKey, KmaForecast> cache;
+
+    public WeatherForecastCache(MeterRegistry meterRegistry,
+                                @Value("${weather.forecast-cache.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new NextReleaseExpiry())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "weather.forecast");
+    }
+
+    /**
+     * 격자 예보를 캐시에서 조회하고, 없으면 loader로 조회합니다.
+     * 다른 요청이 이미 같은 키를 조회 중이면 그 결과를 함께 기다립니다.
+     *
+     * @param key 발표일자, 발표시각, 격자 좌표
+     * @param loader 캐시 미스 시 기상청 API를 호출하는 함수
+     * @return 예보
+     */
+    public Mono<KmaForecast> get(ForecastKey key, Function<ForecastKey, Mono<KmaForecast>> loader) {
+        return Mono.fromFuture(() -> cache.get(key, (missingKey, executor) -> {
+            log.debug("기상청 예보 캐시 미스: {}", missingKey);
+            return loader.apply(missingKey).toFuture();
+        }), true);
+    }
+
+    /**
+     * 주어진 시각 이후 다음 발표 시각(매시 45분)까지 남은 시간을 계산합니다.
+     *
+     * @param now 기준 시각
+     * @return 다음 발표 시각까지 남은 시간 (45분 정각이면 1시간)
+     */
+    static Duration untilNextRelease(ZonedDateTime now) {
+        ZonedDateTime kst = now.withZoneSameInstant(KST);
+        ZonedDateTime release = kst.truncatedTo(ChronoUnit.HOURS).plusMinutes(RELEASE_MINUTE);
+        if (!release.isAfter(kst)) {
+            release = release.plusHours(1);
+        }
+        return Duration.between(kst, release);
+    }
+
+    /**
+     * 기상청 예보 캐시 키
+     *
+     * @param baseDate 발표일자 (YYYYMMDD)
+     * @param baseTime 발표시각 (HHMM)
+     * @param nx 격자 X 좌표
+     * @param ny 격자 Y 좌표
+     */
+    public record ForecastKey(String baseDate, String baseTime, Integer nx, Integer ny) {
+    }
+
+    /**
+     * 캐시 값을 적재 시점 기준 다음 발표 시각에 만료시키는 정책
+     */
+    private static class NextReleaseExpiry implements Expiry<ForecastKey, KmaForecast> {
+
+        @Override
+        public long expireAfterCreate(ForecastKey key, KmaForecast value, long currentTime) {
+            return untilNextRelease(ZonedDateTime.now(KST)).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ForecastKey key, KmaForecast value, long currentTime, long currentDuration) {
+            return untilNextRelease(ZonedDateTime.now(KST)).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(ForecastKey key, KmaForecast value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,27 +1,27 @@
 package com.tskim.portfolio.service;
 
 import com.tskim.portfolio.dto.weather.WeatherInfoDto;
-import com.tskim.portfolio.dto.weather.WeatherResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WeatherService {
     
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient weatherWebClient;
+    private final WeatherForecastCache weatherForecastCache;
+    private final UpstreamGuard upstreamGuard;
+    private final LastKnownValues lastKnownValues;
     
     @Value("${weather.api.base-url}")
     private String baseUrl;
@@ -51,11 +51,7 @@ public class WeatherService {
         try {
             log.info("날씨 정보 조회 요청: date={}, time={}, nx={}, ny={}", date, time, nx, ny);
             
-            // 기상청 API 호출
-            WeatherResponseDto response = callWeatherApi(date, time, nx, ny);
-            
-            // 응답 데이터 파싱
-            WeatherInfoDto weatherInfo = parseWeatherResponse(response, date, time);
+            WeatherInfoDto weatherInfo = fetchWeatherInfo(date, time, nx, ny).block();
             
             log.info("날씨 정보 조회 완료: {}", weatherInfo);
             return weatherInfo;
@@ -68,73 +64,97 @@ public class WeatherService {
     }
     
     /**
-     * 기상청 API를 호출합니다.
+     * 특정 날짜, 시간, 좌표에 대한 날씨 정보를 블로킹 없이 조회합니다.
+     * 같은 발표 시각·격자의 예보는 다음 발표 시각까지 캐시되며, 여러 건을 동시에 조회할 때 사용합니다.
+     * 기상청 장애로 조회하지 못하면 같은 발표 시각·격자의 마지막 정상 예보를 stale로 표시해 응답합니다.
+     * 재시작 직후 스냅샷에서 복원한 예보가 있으면 기상청을 기다리지 않고 stale로 응답하고, 최신 예보는 백그라운드로 조회합니다.
+     * 
+     * @param date 날짜 (YYYYMMDD)
+     * @param time 시간 (HHMM)
+     * @param nx X 좌표
+     * @param ny Y 좌표
+     * @return 날씨 정보
+     */
+    public Mono<WeatherInfoDto> fetchWeatherInfo(String date, String time, Integer nx, Integer ny) {
+        WeatherForecastCache.ForecastKey key = new WeatherForecastCache.ForecastKey(date, time, nx, ny);
+        return Mono.defer(() -> {
+                    StaleValueStore.Stamped<KmaForecast> restoredForecast = lastKnownValues.forecasts().getRestored(key);
+                    if (restoredForecast == null) {
+                        return weatherForecastCache.get(key, this::callWeatherApi).map(this::toWeatherInfo);
+                    }
+                    
+                    List<WeatherForecastCache.ForecastKey> keys = List.of(key);
+                    if (lastKnownValues.forecasts().startRefresh(keys)) {
+                        log.debug("복원한 예보로 응답, 최신 예보 백그라운드 조회: {}", key);
+                        weatherForecastCache.get(key, this::callWeatherApi)
+                                .doFinally(signal -> lastKnownValues.forecasts().endRefresh(keys))
+                                .subscribe(forecast -> log.debug("복원한 예보 갱신 완료: {}", key),
+                                        e -> log.warn("복원한 예보 갱신 실패: {}, 오류={}", key, e.getMessage()));
+                    }
+                    return Mono.just(toStaleWeatherInfo(restoredForecast));
+                })
+                .onErrorResume(UpstreamGuard::isUpstreamFailure, e -> {
+                    StaleValueStore.Stamped<KmaForecast> lastForecast = lastKnownValues.forecasts().get(key);
+                    if (lastForecast == null) {
+                        return Mono.error(e);
+                    }
+                    log.warn("기상청 API 조회 실패, 마지막 정상 예보로 응답: {}, 경과 {}초, 오류={}",
+                            key, lastForecast.age().toSeconds(), e.getMessage());
+                    return Mono.just(toStaleWeatherInfo(lastForecast));
+                });
+    }
+    
+    /**
+     * 기상청 API를 호출하고 응답 본문에서 요청한 예보 시각(발표일자·시각과 같은 시각)의 항목만 읽습니다.
+     * 예보 항목이 없는 응답(오류 코드 등)은 캐시되지 않도록 실패로 처리하고, 정상 예보는 장애 대비용으로 따로 보관합니다.
      */
-    private WeatherResponseDto callWeatherApi(String date, String time, Integer nx, Integer ny) {
+    private Mono<KmaForecast> callWeatherApi(WeatherForecastCache.ForecastKey key) {
         String url = UriComponentsBuilder.fromUriString(baseUrl)
                 .queryParam("serviceKey", serviceKey)
                 .queryParam("numOfRows", numOfRows)
                 .queryParam("pageNo", pageNo)
                 .queryParam("dataType", dataType)
-                .queryParam("base_date", date)
-                .queryParam("base_time", time)
-                .queryParam("nx", nx)
-                .queryParam("ny", ny)
+                .queryParam("base_date", key.baseDate())
+                .queryParam("base_time", key.baseTime())
+                .queryParam("nx", key.nx())
+                .queryParam("ny", key.ny())
                 .build()
                 .toUriString();
         
         log.debug("기상청 API 호출 URL: {}", url);
         
-        WebClient webClient = webClientBuilder.build();
-        
-        return webClient.get()
+        return upstreamGuard.call(UpstreamMetrics.KMA, () -> weatherWebClient.get()
                 .uri(url)
                 .retrieve()
-                .bodyToMono(WeatherResponseDto.class)
-                .timeout(Duration.ofSeconds(2))
-                .block();
+                .bodyToMono(byte[].class)
+                .map(body -> KmaForecast.parse(body, key.baseDate(), key.baseTime())))
+                .doOnNext(forecast -> lastKnownValues.forecasts().put(key, forecast));
     }
     
     /**
-     * 기상청 API 응답을 파싱하여 WeatherInfoDto로 변환합니다.
+     * 예보를 WeatherInfoDto로 변환합니다.
      */
-    private WeatherInfoDto parseWeatherResponse(WeatherResponseDto response, String date, String time) {
-        if (response == null || response.getResponse() == null || 
-            response.getResponse().getBody() == null || 
-            response.getResponse().getBody().getItems() == null) {
-            throw new RuntimeException("기상청 API 응답이 올바르지 않습니다.");
-        }
-        
-        List<WeatherResponseDto.WeatherItem> items = response.getResponse().getBody().getItems().getItem();
-        
-        if (items == null || items.isEmpty()) {
-            throw new RuntimeException("날씨 데이터가 없습니다.");
-        }
-        
-        // 요청한 날짜와 시간에 맞는 데이터만 필터링
-        List<WeatherResponseDto.WeatherItem> filteredItems = items.stream()
-                .filter(item -> date.equals(item.getFcstDate()) && time.equals(item.getFcstTime()))
-                .collect(Collectors.toList());
-        
-        // 카테고리별로 데이터 매핑
-        Map<String, String> weatherData = filteredItems.stream()
-                .collect(Collectors.toMap(
-                        WeatherResponseDto.WeatherItem::getCategory,
-                        WeatherResponseDto.WeatherItem::getFcstValue,
-                        (existing, replacement) -> existing
-                ));
-        
-        // WeatherInfoDto 생성
+    private WeatherInfoDto toWeatherInfo(KmaForecast forecast) {
         return WeatherInfoDto.builder()
-                .temperature(parseTemperature(weatherData.get("T1H")))
-                .precipitation(weatherData.get("RN1"))
-                .skyCondition(weatherData.get("SKY"))
-                .precipitationType(weatherData.get("PTY"))
-                .forecastDate(date)
-                .forecastTime(time)
+                .temperature(parseTemperature(forecast.get(KmaForecast.Category.T1H)))
+                .precipitation(forecast.get(KmaForecast.Category.RN1))
+                .skyCondition(forecast.get(KmaForecast.Category.SKY))
+                .precipitationType(forecast.get(KmaForecast.Category.PTY))
+                .forecastDate(forecast.getFcstDate())
+                .forecastTime(forecast.getFcstTime())
                 .build();
     }
     
+    /**
+     * 마지막 정상 예보를 stale로 표시한 WeatherInfoDto로 변환합니다.
+     */
+    private WeatherInfoDto toStaleWeatherInfo(StaleValueStore.Stamped<KmaForecast> lastForecast) {
+        WeatherInfoDto weatherInfo = toWeatherInfo(lastForecast.value());
+        weatherInfo.setStale(true);
+        weatherInfo.setStaleAgeSeconds(lastForecast.age().toSeconds());
+        return weatherInfo;
+    }
+    
     /**
      * 기온 문자열을 Double로 변환합니다.
      */
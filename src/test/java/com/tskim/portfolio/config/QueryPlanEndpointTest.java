@@ -0,0 +1,62 @@
+package com.tskim.portfolio.config;
+
+import com.mongodb.client.MongoClients;
+import com.tskim.portfolio.repository.ReactiveRunningScheduleRepository;
+import com.tskim.portfolio.repository.RunningScheduleRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 메서드 이름으로 만든 쿼리가 조회 코드와 같은지, explain 결과의 실행 계획 트리에서 단계와 인덱스를 찾는지 검증합니다.
+ */
+class QueryPlanEndpointTest {
+
+    @Test
+    void derivesQueriesFromRepositoryMethods() {
+        // 클라이언트는 첫 명령 실행 시 연결하므로 쿼리 생성에는 MongoDB가 필요 없음
+        MongoTemplate mongoTemplate = new MongoTemplate(MongoClients.create("mongodb://localhost:1"), "test");
+        ReactiveMongoTemplate reactiveMongoTemplate = new ReactiveMongoTemplate(
+                com.mongodb.reactivestreams.client.MongoClients.create("mongodb://localhost:1"), "test");
+        QueryPlanEndpoint endpoint = new QueryPlanEndpoint(mongoTemplate, reactiveMongoTemplate);
+
+        Query byMonth = endpoint.derivedQuery(ReactiveRunningScheduleRepository.class, "findByYearMonthOrderByDateAsc", "202510");
+        assertThat(byMonth.getQueryObject()).isEqualTo(new Document("yearMonth", "202510"));
+        assertThat(byMonth.getSortObject()).isEqualTo(new Document("date", 1));
+
+        Query byRange = endpoint.derivedQuery(ReactiveRunningScheduleRepository.class, "findByDateBetween", "20251001", "20251031");
+        assertThat(byRange.getQueryObject()).isEqualTo(new Document("date", new Document("$gt", "20251001").append("$lt", "20251031")));
+
+        Query byDate = endpoint.derivedQuery(RunningScheduleRepository.class, "findByDate", "20251017");
+        assertThat(byDate.getQueryObject()).isEqualTo(new Document("date", "20251017"));
+    }
+
+    @Test
+    void collectsStagesFromClassicAndSlotBasedPlans() {
+        Document indexed = Document.parse("""
+                {"stage": "FETCH", "inputStage": {"stage": "IXSCAN", "indexName": "yearMonth_date", "keyPattern": {"yearMonth": 1, "date": 1}}}
+                """);
+        Document collectionScan = Document.parse("""
+                {"queryPlan": {"stage": "SORT", "inputStage": {"stage": "COLLSCAN", "direction": "forward"}}, "slotBasedPlan": {"stages": "..."}}
+                """);
+
+        List<String> stages = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        QueryPlanEndpoint.collectStages(indexed, stages, indexes);
+        assertThat(stages).containsExactly("FETCH", "IXSCAN");
+        assertThat(indexes).containsExactly("yearMonth_date");
+
+        stages.clear();
+        indexes.clear();
+        QueryPlanEndpoint.collectStages(collectionScan, stages, indexes);
+        assertThat(stages).containsExactly("SORT", "COLLSCAN");
+        assertThat(indexes).isEmpty();
+    }
+}
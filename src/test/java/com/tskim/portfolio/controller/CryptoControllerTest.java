@@ -0,0 +1,59 @@
+package com.tskim.portfolio.controller;
+
+import com.tskim.portfolio.service.CryptoService;
+import com.tskim.portfolio.service.QuoteStreamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 비동기 요청 타임아웃이 엔드포인트별로 적용되는지 검증합니다.
+ * 시세 스트림만 연결을 오래 유지하고(max-duration까지), 일반 조회는 async-request-timeout을 그대로 따릅니다.
+ */
+class CryptoControllerTest {
+
+    private static final long ASYNC_REQUEST_TIMEOUT_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    private final CryptoService cryptoService = mock(CryptoService.class);
+    private final QuoteStreamService quoteStreamService = mock(QuoteStreamService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CryptoController(cryptoService, quoteStreamService))
+            .setAsyncRequestTimeout(ASYNC_REQUEST_TIMEOUT_MILLIS)
+            .build();
+
+    @Test
+    void streamIsNotCutByAsyncRequestTimeout() throws Exception {
+        when(quoteStreamService.streamCrypto()).thenReturn(Flux.never());
+
+        MvcResult result = mockMvc.perform(get("/api/crypto/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 스트림은 컨테이너 타임아웃 없이 QuoteStreamService의 max-duration에 종료
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(-1L);
+    }
+
+    @Test
+    void quoteLookupKeepsAsyncRequestTimeout() throws Exception {
+        when(cryptoService.getCryptoInfosReactive(anyString())).thenReturn(Mono.never());
+
+        MvcResult result = mockMvc.perform(get("/api/crypto"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 업스트림 응답이 멈춰도 일반 조회는 async-request-timeout에 종료
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(ASYNC_REQUEST_TIMEOUT_MILLIS);
+    }
+}
@@ -0,0 +1,31 @@
+package com.tskim.portfolio.dto.quote;
+
+import com.tskim.portfolio.dto.crypto.CryptoResponseDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업비트 시세 응답의 내부 표현 변환을 검증합니다.
+ */
+class CryptoQuoteTest {
+
+    @Test
+    void keepsAccumulatedVolumeOfHighSupplyMarkets() {
+        // SHIB처럼 발행량이 많은 마켓의 24시간 누적 거래량은 VOLUME_SCALE 고정소수점 범위를 넘음
+        CryptoResponseDto response = new CryptoResponseDto();
+        response.setMarket("KRW-SHIB");
+        response.setTradePrice("0.0183");
+        response.setTradeVolume("1250000.5");
+        response.setAccTradeVolume24h("1234567890123.45678901");
+        response.setAccTradePrice24h("22592592.38926");
+
+        CryptoQuote quote = CryptoQuote.from(response);
+
+        assertThat(FixedPoint.parse("1234567890123.45678901", FixedPoint.VOLUME_SCALE)).isEqualTo(FixedPoint.NaN);
+        assertThat(quote.accTradeVolume24h()).isEqualTo("1234567890123.45678901");
+        assertThat(quote.accTradePrice24h()).isEqualTo("22592592.38926");
+        assertThat(quote.tradePrice()).isEqualTo(183L);
+        assertThat(quote.tradeVolume()).isEqualTo(125_000_050_000_000L);
+    }
+}
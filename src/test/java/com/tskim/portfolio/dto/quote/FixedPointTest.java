@@ -0,0 +1,42 @@
+package com.tskim.portfolio.dto.quote;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업스트림 시세 문자열의 고정소수점 변환과 응답 포맷을 검증합니다.
+ */
+class FixedPointTest {
+
+    @Test
+    void parsesUpstreamNumberFormats() {
+        assertThat(FixedPoint.parse("155,000,000", 4)).isEqualTo(1_550_000_000_000L);
+        assertThat(FixedPoint.parse("151000000.0", 4)).isEqualTo(1_510_000_000_000L);
+        assertThat(FixedPoint.parse("1.0E11", 4)).isEqualTo(1_000_000_000_000_000L);
+        assertThat(FixedPoint.parse("0.0067", 8)).isEqualTo(670_000L);
+        assertThat(FixedPoint.parse("-1.23", 8)).isEqualTo(-123_000_000L);
+        assertThat(FixedPoint.parse("0.00012345", 4)).isEqualTo(1L);
+        assertThat(FixedPoint.parse("0.00015", 4)).isEqualTo(2L);
+    }
+
+    @Test
+    void returnsNaNForInvalidOrOverflowingValues() {
+        assertThat(FixedPoint.parse(null, 4)).isEqualTo(FixedPoint.NaN);
+        assertThat(FixedPoint.parse("", 4)).isEqualTo(FixedPoint.NaN);
+        assertThat(FixedPoint.parse("1,234,567백만", 4)).isEqualTo(FixedPoint.NaN);
+        assertThat(FixedPoint.parse("1e", 4)).isEqualTo(FixedPoint.NaN);
+        assertThat(FixedPoint.parse("1E20", 4)).isEqualTo(FixedPoint.NaN);
+    }
+
+    @Test
+    void formatsAtResponseBoundary() {
+        assertThat(FixedPoint.format(1_510_000_000_000L, 4)).isEqualTo("151000000");
+        assertThat(FixedPoint.format(123_400L, 4)).isEqualTo("12.34");
+        assertThat(FixedPoint.formatGrouped(980_000_000L, 4)).isEqualTo("98,000");
+        assertThat(FixedPoint.formatGrouped(-12_000_000L, 4)).isEqualTo("-1,200");
+        assertThat(FixedPoint.formatFixed(FixedPoint.rescale(670_000L, 6, 2), 2)).isEqualTo("0.67");
+        assertThat(FixedPoint.formatFixed(0L, 2)).isEqualTo("0.00");
+        assertThat(FixedPoint.format(FixedPoint.NaN, 4)).isNull();
+    }
+}
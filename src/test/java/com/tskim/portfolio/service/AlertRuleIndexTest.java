@@ -0,0 +1,124 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.entity.AlertRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목표가 알림 규칙 인덱스의 교차 판정(에지 트리거), 재무장 히스테리시스, 재적재 중 상태 유지를 검증합니다.
+ */
+class AlertRuleIndexTest {
+
+    // 재무장 히스테리시스 1% (100bps)
+    private final AlertRuleIndex index = new AlertRuleIndex(100);
+
+    @Test
+    void firesOnceWhenCrossedAndRearmsAfterHysteresis() {
+        index.load(List.of(rule("1", AlertRule.Direction.UP, "100,000"), rule("2", AlertRule.Direction.UP, "120,000")));
+
+        assertThat(fired("005930", "95,000")).isEmpty();
+        assertThat(fired("005930", "100,000")).containsExactly("1");
+
+        // 목표가 위에 머무르거나 재무장 기준가(99,000)까지 내려오지 않으면 다시 발송하지 않음
+        assertThat(fired("005930", "101,000")).isEmpty();
+        assertThat(fired("005930", "99,500")).isEmpty();
+        assertThat(fired("005930", "100,500")).isEmpty();
+
+        // 재무장 후 다시 교차하면 발송, 한 번에 여러 목표가를 넘으면 모두 발송
+        assertThat(index.evaluate("005930", price("99,000"))).extracting(AlertRuleIndex.Transition::armed).containsExactly(true);
+        assertThat(fired("005930", "125,000")).containsExactly("1", "2");
+    }
+
+    @Test
+    void downRuleFiresOnFallAndKeepsStateAcrossReload() {
+        AlertRule btc = rule("3", AlertRule.Direction.DOWN, "155,000,000");
+        btc.setSymbol("KRW-BTC");
+        index.load(List.of(btc));
+
+        assertThat(fired("KRW-BTC", "156,000,000")).isEmpty();
+        assertThat(fired("KRW-BTC", "154,000,000")).containsExactly("3");
+
+        // 규칙을 다시 적재해도 무장 해제 상태 유지
+        index.load(List.of(btc));
+        assertThat(fired("KRW-BTC", "153,000,000")).isEmpty();
+        assertThat(fired("KRW-BTC", "157,000,000")).isEmpty();
+        assertThat(fired("KRW-BTC", "154,900,000")).containsExactly("3");
+        assertThat(fired("005930", "100,000")).isEmpty();
+    }
+
+    @Test
+    void displaysNearestArmedRule() {
+        index.load(List.of(rule("1", AlertRule.Direction.UP, "100,000"), rule("2", AlertRule.Direction.UP, "120,000"),
+                rule("3", AlertRule.Direction.DOWN, "80,000")));
+
+        assertThat(index.nearestRule("005930", price("95,000")).getId()).isEqualTo("1");
+        assertThat(index.nearestRule("005930", price("85,000")).getId()).isEqualTo("3");
+
+        // 발송되어 무장 해제된 규칙보다 무장된 규칙을 표시
+        assertThat(fired("005930", "101,000")).containsExactly("1");
+        assertThat(index.nearestRule("005930", price("101,000")).getId()).isEqualTo("2");
+        assertThat(index.nearestRule("KRW-BTC", price("101,000"))).isNull();
+    }
+
+    @Test
+    void keepsTransitionsMadeOnPreviousRulesDuringReload() {
+        index.load(List.of(rule("1", AlertRule.Direction.UP, "100,000")));
+        assertThat(fired("005930", "95,000")).isEmpty();
+
+        AtomicBoolean crossDuringReload = new AtomicBoolean(true);
+        List<String> firedDuringReload = new CopyOnWriteArrayList<>();
+        AlertRule reloaded = new AlertRule() {
+            @Override
+            public String getId() {
+                if (crossDuringReload.compareAndSet(true, false)) {
+                    // 새 규칙이 이전 상태를 복사한 뒤, 게시 전에 다른 스레드가 교체 전 인덱스로 목표가를 교차
+                    firedDuringReload.addAll(CompletableFuture.supplyAsync(() -> fired("005930", "101,000"))
+                            .orTimeout(2, TimeUnit.SECONDS)
+                            .join());
+                }
+                return super.getId();
+            }
+        };
+        reloaded.setId("1");
+        reloaded.setSymbol("005930");
+        reloaded.setAssetType(AlertRule.AssetType.STOCK);
+        reloaded.setTargetPrice("100,000");
+        reloaded.setDirection(AlertRule.Direction.UP);
+        index.load(List.of(reloaded));
+
+        // 교체 중 발송된 상태와 가격을 새 규칙이 넘겨받아 다시 발송하지 않음
+        assertThat(firedDuringReload).containsExactly("1");
+        assertThat(fired("005930", "102,000")).isEmpty();
+        assertThat(index.nearestRule("005930", price("102,000")).getId()).isEqualTo("1");
+        assertThat(index.evaluate("005930", price("99,000"))).extracting(AlertRuleIndex.Transition::armed).containsExactly(true);
+    }
+
+    private List<String> fired(String symbol, String price) {
+        return index.evaluate(symbol, price(price)).stream()
+                .filter(transition -> !transition.armed())
+                .map(transition -> transition.rule().getId())
+                .toList();
+    }
+
+    private static long price(String price) {
+        return FixedPoint.parse(price, FixedPoint.PRICE_SCALE);
+    }
+
+    private static AlertRule rule(String id, AlertRule.Direction direction, String targetPrice) {
+        AlertRule rule = new AlertRule();
+        rule.setId(id);
+        rule.setSymbol("005930");
+        rule.setAssetType(AlertRule.AssetType.STOCK);
+        rule.setTargetPrice(targetPrice);
+        rule.setDirection(direction);
+        return rule;
+    }
+}
@@ -0,0 +1,73 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import com.tskim.portfolio.dto.dashboard.DashboardDto;
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.weather.WeatherInfoDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대시보드가 전체 제한 시간 안에 끝난 섹션만 응답하는지 검증합니다.
+ */
+class DashboardServiceTest {
+
+    @Test
+    void returnsFinishedSectionsWithinDeadline() {
+        StockService stockService = mock(StockService.class);
+        CryptoService cryptoService = mock(CryptoService.class);
+        RunningScheduleService runningScheduleService = mock(RunningScheduleService.class);
+        WeatherService weatherService = mock(WeatherService.class);
+
+        RunningScheduleDto morningRun = schedule("1", "0700");
+        RunningScheduleDto eveningRun = schedule("2", "1900");
+
+        when(weatherService.getCurrentDate()).thenReturn("20251017");
+        when(stockService.getHoldingStocksInfo()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+        when(cryptoService.getCryptoInfos(anyString())).thenReturn(List.of(CryptoInfoDto.builder().cryptoCode("KRW-BTC").build()));
+        when(runningScheduleService.getSchedulesByDate("20251017")).thenReturn(List.of(morningRun, eveningRun));
+        when(weatherService.getWeatherInfo(anyString(), eq("0700"), any(), any())).thenReturn(WeatherInfoDto.builder().temperature(12.5).build());
+        when(weatherService.getWeatherInfo(anyString(), eq("1900"), any(), any())).thenThrow(new RuntimeException("기상청 API 오류"));
+
+        DashboardService dashboardService = new DashboardService(stockService, cryptoService, runningScheduleService, weatherService);
+        ReflectionTestUtils.setField(dashboardService, "deadline", Duration.ofMillis(300));
+
+        long startedAt = System.nanoTime();
+        DashboardDto dashboard = dashboardService.getDashboard();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(dashboard.isPartial()).isTrue();
+        assertThat(dashboard.getSections()).containsOnlyKeys("stocks", "cryptos", "schedules", "weather");
+        assertThat(dashboard.getSections().get("stocks").getStatus()).isEqualTo(DashboardDto.Status.TIMEOUT);
+        assertThat(dashboard.getSections().get("cryptos").getStatus()).isEqualTo(DashboardDto.Status.OK);
+        assertThat(dashboard.getSections().get("schedules").getStatus()).isEqualTo(DashboardDto.Status.OK);
+        assertThat(dashboard.getSections().get("weather").getStatus()).isEqualTo(DashboardDto.Status.PARTIAL);
+        assertThat(dashboard.getStocks()).isNull();
+        assertThat(dashboard.getCryptos()).hasSize(1);
+        assertThat(dashboard.getSchedules()).extracting(RunningScheduleDto::getWeatherInfo)
+                .containsExactly(WeatherInfoDto.builder().temperature(12.5).build(), null);
+    }
+
+    private static RunningScheduleDto schedule(String id, String startTime) {
+        RunningScheduleDto schedule = new RunningScheduleDto();
+        schedule.setId(id);
+        schedule.setDate("20251017");
+        schedule.setStartTime(startTime);
+        schedule.setX(60);
+        schedule.setY(127);
+        return schedule;
+    }
+}
@@ -0,0 +1,53 @@
+package com.tskim.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기상청 응답 스트리밍 파서가 요청한 예보 시각의 필요한 항목만 읽는지 검증합니다.
+ */
+class KmaForecastTest {
+
+    @Test
+    void readsOnlyMatchingForecastSlots() {
+        String body = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                 "body":{"dataType":"JSON","items":{"item":[
+                   {"baseDate":"20251017","baseTime":"0630","category":"T1H","fcstDate":"20251017","fcstTime":"0700","fcstValue":"12","nx":60,"ny":127},
+                   {"baseDate":"20251017","baseTime":"0630","category":"T1H","fcstDate":"20251017","fcstTime":"0800","fcstValue":"14","nx":60,"ny":127},
+                   {"baseDate":"20251017","baseTime":"0630","category":"LGT","fcstDate":"20251017","fcstTime":"0700","fcstValue":"0","nx":60,"ny":127},
+                   {"baseDate":"20251017","baseTime":"0630","category":"RN1","fcstDate":"20251017","fcstTime":"0700","fcstValue":"강수없음","nx":60,"ny":127},
+                   {"fcstValue":"4","category":"SKY","fcstTime":"0700","fcstDate":"20251017"},
+                   {"baseDate":"20251017","baseTime":"0630","category":"T1H","fcstDate":"20251017","fcstTime":"0700","fcstValue":"99","nx":60,"ny":127}
+                 ]},"pageNo":1,"numOfRows":1000,"totalCount":6}}}
+                """;
+
+        KmaForecast forecast = KmaForecast.parse(body.getBytes(StandardCharsets.UTF_8), "20251017", "0700");
+
+        assertThat(forecast.get(KmaForecast.Category.T1H)).isEqualTo("12");
+        assertThat(forecast.get(KmaForecast.Category.RN1)).isEqualTo("강수없음");
+        // 필드 순서가 달라도 읽음
+        assertThat(forecast.get(KmaForecast.Category.SKY)).isEqualTo("4");
+        assertThat(forecast.get(KmaForecast.Category.PTY)).isNull();
+        assertThat(forecast.getFcstTime()).isEqualTo("0700");
+    }
+
+    @Test
+    void rejectsErrorAndEmptyResponses() {
+        String error = """
+                {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"}}}
+                """;
+        String empty = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},"body":{"items":{"item":[]}}}}
+                """;
+
+        assertThatThrownBy(() -> KmaForecast.parse(error.getBytes(StandardCharsets.UTF_8), "20251017", "0700"))
+                .hasMessageContaining("NO_DATA");
+        assertThatThrownBy(() -> KmaForecast.parse(empty.getBytes(StandardCharsets.UTF_8), "20251017", "0700"))
+                .hasMessage("날씨 데이터가 없습니다.");
+    }
+}
@@ -0,0 +1,167 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tskim.portfolio.dto.notification.NotificationMessage;
+import com.tskim.portfolio.entity.NotificationDeadLetter;
+import com.tskim.portfolio.repository.NotificationDeadLetterRepository;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 메시지 서버를 카카오톡 API 대신 띄워 요약 발송, 긴 요약 분할, 재시도, dead letter 저장(종료 시 미발송 알림 포함)을 검증합니다.
+ */
+class NotificationDispatcherTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> deliveredTexts = new CopyOnWriteArrayList<>();
+    private final NotificationDeadLetterRepository deadLetterRepository = mock(NotificationDeadLetterRepository.class);
+
+    private DisposableServer kakaoStub;
+    private NotificationDispatcher notificationDispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.stop();
+        kakaoStub.disposeNow();
+    }
+
+    @Test
+    void coalescesAlertsIntoOneDigestAndRetriesServerErrors() {
+        // 첫 요청은 500, 이후 요청은 성공
+        startDispatcher(request -> request == 1 ? HttpResponseStatus.INTERNAL_SERVER_ERROR : HttpResponseStatus.OK);
+
+        long startedAt = System.nanoTime();
+        List.of("삼성전자 목표가 도달", "SK하이닉스 목표가 도달", "비트코인 목표가 도달")
+                .forEach(text -> notificationDispatcher.enqueue(NotificationMessage.builder().text(text).build()));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(100));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(deliveredTexts).hasSize(1));
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(deliveredTexts.get(0))
+                .contains("목표가 알림 3건")
+                .contains("삼성전자", "SK하이닉스", "비트코인");
+    }
+
+    @Test
+    void splitsLongDigestIntoMessagesWithinKakaoTextLimit() {
+        startDispatcher(request -> HttpResponseStatus.OK);
+
+        List<String> names = List.of("삼성전자", "SK하이닉스", "비트코인", "이더리움");
+        names.forEach(name -> notificationDispatcher.enqueue(NotificationMessage.builder()
+                .text("🔔 " + name + " 목표가 도달\n현재가가 설정한 목표가에 도달했습니다. 목표가와 현재가, 등락률을 확인하세요. " + "-".repeat(30))
+                .build()));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(String.join("", deliveredTexts)).contains(names.toArray(String[]::new)));
+        List<String> texts = deliveredTexts.stream().map(NotificationDispatcherTest::templateText).toList();
+        assertThat(texts).hasSizeGreaterThan(1)
+                .allSatisfy(text -> assertThat(text)
+                        .hasSizeLessThanOrEqualTo(KakaoMessageClient.MAX_TEXT_LENGTH)
+                        .contains("목표가 알림 4건")
+                        .doesNotEndWith("…"));
+    }
+
+    @Test
+    void storesDeadLetterWithoutRetryingClientErrors() {
+        startDispatcher(request -> HttpResponseStatus.UNAUTHORIZED);
+
+        notificationDispatcher.enqueue(NotificationMessage.builder().text("현대차 목표가 도달").build());
+
+        verify(deadLetterRepository, timeout(5000)).save(argThat((NotificationDeadLetter deadLetter) ->
+                deadLetter.getAttempts() == 1 && deadLetter.getText().contains("현대차")));
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void storesUnsentAlertsAsDeadLettersOnStop() throws InterruptedException {
+        startDispatcher(request -> HttpResponseStatus.INTERNAL_SERVER_ERROR);
+        // 첫 발송 실패 후 재시도 대기 중에 종료
+        ReflectionTestUtils.setField(notificationDispatcher, "minBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(notificationDispatcher, "maxBackoff", Duration.ofSeconds(30));
+
+        notificationDispatcher.enqueue(NotificationMessage.builder().text("삼성전자 목표가 도달").build());
+        await().atMost(Duration.ofSeconds(5)).until(() -> requests.get() == 1);
+        notificationDispatcher.enqueue(NotificationMessage.builder().text("비트코인 목표가 도달").build());
+
+        long startedAt = System.nanoTime();
+        notificationDispatcher.stop();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+
+        // 종료 후 들어온 알림도 버리지 않음
+        assertThat(notificationDispatcher.enqueue(NotificationMessage.builder().text("현대차 목표가 도달").build())).isFalse();
+
+        ArgumentCaptor<NotificationDeadLetter> deadLetters = ArgumentCaptor.forClass(NotificationDeadLetter.class);
+        verify(deadLetterRepository, times(3)).save(deadLetters.capture());
+        assertThat(deadLetters.getAllValues())
+                .extracting(NotificationDeadLetter::getText, NotificationDeadLetter::getAttempts)
+                .containsExactly(
+                        tuple("삼성전자 목표가 도달", 1),
+                        tuple("비트코인 목표가 도달", 0),
+                        tuple("현대차 목표가 도달", 0));
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    private static String templateText(String formBody) {
+        try {
+            String template = formBody.substring(formBody.indexOf('=') + 1);
+            return OBJECT_MAPPER.readTree(template).get("text").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void startDispatcher(IntFunction<HttpResponseStatus> statusByRequest) {
+        kakaoStub = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/v2/api/talk/memo/default/send", (request, response) ->
+                        request.receive().aggregate().asString(StandardCharsets.UTF_8).flatMap(body -> {
+                            HttpResponseStatus status = statusByRequest.apply(requests.incrementAndGet());
+                            if (status == HttpResponseStatus.OK) {
+                                deliveredTexts.add(URLDecoder.decode(body, StandardCharsets.UTF_8));
+                            }
+                            return response.status(status).sendString(Mono.just("{\"result_code\":0}")).then();
+                        })))
+                .bindNow();
+
+        KakaoMessageClient kakaoMessageClient = new KakaoMessageClient(WebClient.create(),
+                OBJECT_MAPPER, "http://localhost:" + kakaoStub.port(), "test-token", "https://example.com");
+
+        notificationDispatcher = new NotificationDispatcher(kakaoMessageClient, deadLetterRepository);
+        ReflectionTestUtils.setField(notificationDispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(notificationDispatcher, "digestWindow", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(notificationDispatcher, "maxPerMinute", 6000);
+        ReflectionTestUtils.setField(notificationDispatcher, "sendTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(notificationDispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(notificationDispatcher, "minBackoff", Duration.ofMillis(20));
+        ReflectionTestUtils.setField(notificationDispatcher, "maxBackoff", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(notificationDispatcher, "shutdownTimeout", Duration.ofSeconds(2));
+        notificationDispatcher.start();
+    }
+}
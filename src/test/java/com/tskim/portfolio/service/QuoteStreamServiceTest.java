@@ -0,0 +1,103 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.crypto.CryptoInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시세 스트림의 구독자 간 업스트림 조회 공유와 느린 구독자 conflation을 검증합니다.
+ */
+class QuoteStreamServiceTest {
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private QuoteStreamService createService(Duration refreshInterval) {
+        CryptoService cryptoService = mock(CryptoService.class);
+        when(cryptoService.getCryptoInfosReactive(anyString())).thenReturn(Mono.fromCallable(() -> List.of(
+                CryptoInfoDto.builder()
+                        .cryptoCode("KRW-BTC")
+                        .tradePrice(String.valueOf(fetches.incrementAndGet()))
+                        .build())));
+
+        return new QuoteStreamService(cryptoService, mock(StockService.class), meterRegistry,
+                refreshInterval, Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    @Test
+    void sharesOneUpstreamFetchAcrossSubscribers() {
+        QuoteStreamService quoteStreamService = createService(Duration.ofHours(1));
+
+        List<CollectingSubscriber> subscribers = List.of(new CollectingSubscriber(), new CollectingSubscriber(), new CollectingSubscriber());
+        subscribers.forEach(subscriber -> quoteStreamService.streamCrypto().subscribe(subscriber));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(subscribers).allSatisfy(subscriber -> assertThat(subscriber.prices).containsExactly("1")));
+        assertThat(fetches.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("quote.stream.subscribers").tag("stream", "crypto").gauge().value()).isEqualTo(3.0);
+
+        subscribers.forEach(BaseSubscriber::dispose);
+        assertThat(meterRegistry.get("quote.stream.subscribers").tag("stream", "crypto").gauge().value()).isZero();
+    }
+
+    @Test
+    void slowSubscriberReceivesOnlyLatestQuote() {
+        QuoteStreamService quoteStreamService = createService(Duration.ofMillis(10));
+
+        CollectingSubscriber slow = new CollectingSubscriber(1);
+        quoteStreamService.streamCrypto().subscribe(slow);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> fetches.get() > 20);
+        slow.request(2);
+
+        // 전송 대기 중이던 1건 이후에는 중간 시세를 건너뛰고 최신 시세를 받음
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(slow.prices).hasSize(3));
+        assertThat(Integer.parseInt(slow.prices.get(2))).isGreaterThan(10);
+        assertThat(meterRegistry.get("quote.stream.conflated").tag("stream", "crypto").counter().count()).isPositive();
+        slow.dispose();
+    }
+
+    /**
+     * 처음에 지정한 개수만 요청하는 구독자 (기본은 제한 없음)
+     */
+    private static class CollectingSubscriber extends BaseSubscriber<ServerSentEvent<List<CryptoInfoDto>>> {
+
+        private final List<String> prices = new CopyOnWriteArrayList<>();
+        private final long initialRequest;
+
+        CollectingSubscriber() {
+            this(Long.MAX_VALUE);
+        }
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(initialRequest);
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<List<CryptoInfoDto>> event) {
+            if (event.data() != null) {
+                prices.add(event.data().get(0).getTradePrice());
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.tskim.portfolio.service;
+
+import com.mongodb.client.MongoDatabase;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import com.tskim.portfolio.entity.QuoteTick;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시세 틱의 중복 제외(동시 기록 포함), 누적 거래량 차분, 일괄 저장(write-behind)을 검증합니다.
+ */
+class QuoteTickRecorderTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+    private final QuoteAnalyticsService quoteAnalyticsService = mock(QuoteAnalyticsService.class);
+    private final QuoteTickRecorder quoteTickRecorder = new QuoteTickRecorder(mongoTemplate, quoteAnalyticsService);
+
+    @AfterEach
+    void tearDown() {
+        quoteTickRecorder.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesDeduplicatedTicksInOneUnorderedBatch() {
+        when(mongoTemplate.collectionExists("quote_ticks")).thenReturn(true);
+        when(mongoTemplate.getDb()).thenReturn(mock(MongoDatabase.class));
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(QuoteTick.class), eq("quote_ticks"))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        ReflectionTestUtils.setField(quoteTickRecorder, "enabled", true);
+        ReflectionTestUtils.setField(quoteTickRecorder, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(quoteTickRecorder, "batchSize", 100);
+        ReflectionTestUtils.setField(quoteTickRecorder, "flushInterval", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(quoteTickRecorder, "retention", Duration.ofDays(7));
+        quoteTickRecorder.start();
+
+        quoteTickRecorder.record(quote("97,000", "1,000", "2025-10-17T10:00:00+09:00"));
+        // 거래 시각과 누적 거래량이 같은 시세는 기록하지 않음
+        quoteTickRecorder.record(quote("97,000", "1,000", "2025-10-17T10:00:00+09:00"));
+        quoteTickRecorder.record(quote("97,500", "1,250", "2025-10-17T10:00:05+09:00"));
+
+        ArgumentCaptor<List<QuoteTick>> batch = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations, timeout(5000)).insert(batch.capture());
+        verify(bulkOperations, timeout(5000)).execute();
+
+        assertThat(batch.getValue()).extracting(QuoteTick::getPrice)
+                .containsExactly(97_000_0000L, 97_500_0000L);
+        // 첫 틱은 증가분을 알 수 없으므로 0, 이후는 누적 거래량 증가분
+        assertThat(batch.getValue()).extracting(QuoteTick::getVolume)
+                .containsExactly(0L, FixedPoint.parse("250", FixedPoint.VOLUME_SCALE));
+        verify(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(QuoteTick.class), eq("quote_ticks"));
+    }
+
+    @Test
+    void recordsTradeOnceWhenThreadsRaceOnSameQuote() throws Exception {
+        int trades = 2000;
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // 같은 체결을 여러 스레드가 동시에 기록 (배치 조회 결과와 웹소켓 스트림이 겹치는 경우)
+                    for (int trade = 1; trade <= trades; trade++) {
+                        quoteTickRecorder.record(cryptoQuote(trade));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 체결마다 정확히 한 번만 분석에 반영 (거래량 중복 집계 없음)
+        verify(quoteAnalyticsService, times(trades)).onTick(eq("KRW-BTC"), anyLong(), anyLong());
+    }
+
+    private static CryptoQuote cryptoQuote(long tradeTimestamp) {
+        return new CryptoQuote("KRW-BTC", FixedPoint.parse("97000000", FixedPoint.PRICE_SCALE), 0, 0, "RISE", 0, 0, 0,
+                FixedPoint.parse("0.01", FixedPoint.VOLUME_SCALE), 0, "0", "0", 0, 0, "100000", tradeTimestamp);
+    }
+
+    private static StockQuote quote(String closePrice, String accumulatedVolume, String localTradedAt) {
+        return new StockQuote("005930", "삼성전자",
+                FixedPoint.parse(closePrice, FixedPoint.PRICE_SCALE), 0, 0, "RISING", 0, 0, 0,
+                FixedPoint.parse(accumulatedVolume, FixedPoint.VOLUME_SCALE), null, "OPEN", localTradedAt, "KRW");
+    }
+}
@@ -0,0 +1,143 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.weather.WeatherInfoDto;
+import com.tskim.portfolio.entity.RunningSchedule;
+import com.tskim.portfolio.repository.ReactiveRunningScheduleRepository;
+import com.tskim.portfolio.repository.RunningScheduleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회 API가 사용하는 리액티브 스케줄 조회를 검증합니다.
+ * 스케줄 목록의 날씨 일괄 조회(같은 예보는 한 번만 조회, 제한 시간 초과 시 날씨 없이 응답), 월간 캐시와 등록 시 무효화,
+ * MongoDB 조회 뒤 날씨 조회를 이어서 처리하고 날씨 실패 시 날씨 없이 응답하는지 확인합니다.
+ */
+class ReactiveRunningScheduleServiceTest {
+
+    private final ReactiveRunningScheduleRepository reactiveRunningScheduleRepository = mock(ReactiveRunningScheduleRepository.class);
+    private final RunningScheduleRepository runningScheduleRepository = mock(RunningScheduleRepository.class);
+    private final WeatherService weatherService = mock(WeatherService.class);
+    private final ScheduleWeatherEnricher scheduleWeatherEnricher = new ScheduleWeatherEnricher(weatherService);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduleMonthCache scheduleMonthCache = new ScheduleMonthCache(meterRegistry, 10, Duration.ofMinutes(10));
+    private final ReactiveRunningScheduleService reactiveRunningScheduleService = new ReactiveRunningScheduleService(
+            reactiveRunningScheduleRepository, weatherService, scheduleWeatherEnricher, scheduleMonthCache);
+    // 등록은 블로킹 서비스에서 처리하고 같은 월간 캐시를 무효화
+    private final RunningScheduleService runningScheduleService = new RunningScheduleService(
+            runningScheduleRepository, scheduleWeatherEnricher, scheduleMonthCache, mock(MongoTemplate.class));
+
+    @Test
+    void fetchesEachDistinctForecastOnceWithinDeadline() {
+        ReflectionTestUtils.setField(scheduleWeatherEnricher, "deadline", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(scheduleWeatherEnricher, "concurrency", 8);
+
+        when(reactiveRunningScheduleRepository.findByYearMonthOrderByDateAsc("202510")).thenReturn(Flux.just(
+                schedule("1", "20251017", "0700", 60, 127),
+                schedule("2", "20251017", "0700", 60, 127),
+                schedule("3", "20251018", "0700", 60, 127),
+                schedule("4", "20251019", "0700", 55, 124)));
+        WeatherInfoDto clear = WeatherInfoDto.builder().temperature(12.5).skyCondition("1").build();
+        when(weatherService.fetchWeatherInfo("20251017", "0700", 60, 127)).thenReturn(Mono.just(clear));
+        when(weatherService.fetchWeatherInfo("20251018", "0700", 60, 127)).thenReturn(Mono.error(new RuntimeException("기상청 API 오류")));
+        when(weatherService.fetchWeatherInfo("20251019", "0700", 55, 124)).thenReturn(Mono.never());
+
+        long startedAt = System.nanoTime();
+        List<RunningScheduleDto> schedules = reactiveRunningScheduleService.getSchedulesByMonth("202510", true).block();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(schedules).extracting(RunningScheduleDto::getWeatherInfo).containsExactly(clear, clear, null, null);
+        verify(weatherService, times(1)).fetchWeatherInfo("20251017", "0700", 60, 127);
+        verify(weatherService, times(3)).fetchWeatherInfo(anyString(), anyString(), any(), any());
+
+        // 날씨는 캐시된 목록의 복사본에만 채움
+        assertThat(reactiveRunningScheduleService.getSchedulesByMonth("202510", false).block())
+                .extracting(RunningScheduleDto::getWeatherInfo).containsOnlyNulls();
+    }
+
+    @Test
+    void servesMonthFromCacheUntilCreateInvalidatesIt() {
+        when(reactiveRunningScheduleRepository.findByYearMonthOrderByDateAsc("202510"))
+                .thenAnswer(invocation -> Flux.just(schedule("1", "20251017", "0700", 60, 127)));
+        when(runningScheduleRepository.save(any(RunningSchedule.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        reactiveRunningScheduleService.getSchedulesByMonth("202510", false).block();
+        reactiveRunningScheduleService.getSchedulesByMonth("202510", false).block();
+        verify(reactiveRunningScheduleRepository, times(1)).findByYearMonthOrderByDateAsc("202510");
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "schedule.month").gauge().value()).isEqualTo(0.5);
+
+        // 다른 달의 등록은 캐시에 영향 없음, 같은 달의 등록은 해당 달만 무효화
+        runningScheduleService.createSchedule(newSchedule("20251101"));
+        reactiveRunningScheduleService.getSchedulesByMonth("202510", false).block();
+        verify(reactiveRunningScheduleRepository, times(1)).findByYearMonthOrderByDateAsc("202510");
+
+        runningScheduleService.createSchedule(newSchedule("20251020"));
+        reactiveRunningScheduleService.getSchedulesByMonth("202510", false).block();
+        verify(reactiveRunningScheduleRepository, times(2)).findByYearMonthOrderByDateAsc("202510");
+    }
+
+    @Test
+    void skipsWeatherUnlessRequested() {
+        when(reactiveRunningScheduleRepository.findByDate("20251017")).thenReturn(Flux.just(schedule("1", "20251017", "0700", 60, 127)));
+
+        List<RunningScheduleDto> schedules = reactiveRunningScheduleService.getSchedulesByDate("20251017", false).block();
+
+        assertThat(schedules).extracting(RunningScheduleDto::getWeatherInfo).containsOnlyNulls();
+        verify(weatherService, never()).fetchWeatherInfo(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void composesWeatherWithScheduleAndDegradesOnFailure() {
+        WeatherInfoDto clear = WeatherInfoDto.builder().temperature(12.5).skyCondition("1").build();
+        when(reactiveRunningScheduleRepository.findById("1")).thenReturn(Mono.just(schedule("1", "20251017", "0700", 60, 127)));
+        when(reactiveRunningScheduleRepository.findById("2")).thenReturn(Mono.just(schedule("2", "20251017", "1900", 60, 127)));
+        when(reactiveRunningScheduleRepository.findById("3")).thenReturn(Mono.empty());
+        when(weatherService.fetchWeatherInfo("20251017", "0700", 60, 127)).thenReturn(Mono.just(clear));
+        when(weatherService.fetchWeatherInfo("20251017", "1900", 60, 127)).thenReturn(Mono.error(new RuntimeException("기상청 API 오류")));
+
+        RunningScheduleDto morningRun = reactiveRunningScheduleService.getScheduleById("1").block();
+        RunningScheduleDto eveningRun = reactiveRunningScheduleService.getScheduleById("2").block();
+
+        assertThat(morningRun.getWeatherInfo()).isEqualTo(clear);
+        assertThat(eveningRun.getId()).isEqualTo("2");
+        assertThat(eveningRun.getWeatherInfo()).isNull();
+        assertThatThrownBy(() -> reactiveRunningScheduleService.getScheduleById("3").block())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RunningScheduleDto newSchedule(String date) {
+        RunningScheduleDto schedule = new RunningScheduleDto();
+        schedule.setTitle("저녁 러닝");
+        schedule.setDate(date);
+        schedule.setStartTime("1900");
+        schedule.setEndTime("2000");
+        return schedule;
+    }
+
+    private static RunningSchedule schedule(String id, String date, String startTime, int x, int y) {
+        RunningSchedule schedule = new RunningSchedule();
+        schedule.setId(id);
+        schedule.setDate(date);
+        schedule.setStartTime(startTime);
+        schedule.setX(x);
+        schedule.setY(y);
+        return schedule;
+    }
+}
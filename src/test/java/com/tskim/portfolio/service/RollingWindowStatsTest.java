@@ -0,0 +1,68 @@
+package com.tskim.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 링 버퍼 증분 집계가 구간을 직접 다시 계산한 값과 같은지 검증합니다 (버퍼가 여러 바퀴 돈 뒤 포함).
+ */
+class RollingWindowStatsTest {
+
+    @Test
+    void incrementalAggregatesMatchRecomputedWindow() {
+        int[] windows = {5, 20};
+        RollingWindowStats stats = new RollingWindowStats(windows);
+
+        Random random = new Random(42);
+        double[] prices = new double[137];
+        double[] volumes = new double[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 150_000_000 + random.nextInt(2_000_000);
+            volumes[i] = random.nextDouble();
+            stats.add(prices[i], volumes[i]);
+        }
+
+        RollingWindowStats.Snapshot snapshot = stats.snapshot();
+        assertThat(snapshot.ticks()).isEqualTo(prices.length);
+        assertThat(snapshot.lastPrice()).isEqualTo(prices[prices.length - 1]);
+
+        for (RollingWindowStats.WindowSnapshot window : snapshot.windows()) {
+            double[] recent = Arrays.copyOfRange(prices, prices.length - window.window(), prices.length);
+            double[] recentVolumes = Arrays.copyOfRange(volumes, prices.length - window.window(), prices.length);
+
+            double mean = Arrays.stream(recent).average().orElseThrow();
+            double variance = Arrays.stream(recent).map(price -> (price - mean) * (price - mean)).sum() / recent.length;
+            double priceVolume = 0;
+            double volume = 0;
+            for (int i = 0; i < recent.length; i++) {
+                priceVolume += recent[i] * recentVolumes[i];
+                volume += recentVolumes[i];
+            }
+
+            assertThat(window.size()).isEqualTo(window.window());
+            assertThat(window.sma()).isCloseTo(mean, within(1e-3));
+            assertThat(window.stddev()).isCloseTo(Math.sqrt(variance), within(1e-3));
+            assertThat(window.vwap()).isCloseTo(priceVolume / volume, within(1e-3));
+            assertThat(window.change()).isEqualTo(recent[recent.length - 1] - recent[0]);
+        }
+    }
+
+    @Test
+    void partialWindowUsesAvailableTicks() {
+        RollingWindowStats stats = new RollingWindowStats(new int[]{3, 10});
+        stats.add(100, 0);
+        stats.add(110, 0);
+
+        RollingWindowStats.WindowSnapshot longWindow = stats.snapshot().windows()[1];
+        assertThat(longWindow.size()).isEqualTo(2);
+        assertThat(longWindow.sma()).isEqualTo(105);
+        assertThat(longWindow.ema()).isCloseTo(100 + 2.0 / 11 * 10, within(1e-9));
+        assertThat(longWindow.vwap()).isNaN();
+        assertThat(longWindow.changeRate()).isCloseTo(0.1, within(1e-9));
+    }
+}
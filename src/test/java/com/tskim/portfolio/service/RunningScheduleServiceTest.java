@@ -0,0 +1,71 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.running.RunningScheduleDto;
+import com.tskim.portfolio.dto.running.RunningSchedulePageDto;
+import com.tskim.portfolio.entity.RunningSchedule;
+import com.tskim.portfolio.repository.RunningScheduleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * keyset 페이지 조회를 검증합니다. (년월, 날짜, ID 조회는 ReactiveRunningScheduleServiceTest)
+ */
+class RunningScheduleServiceTest {
+
+    private final RunningScheduleRepository runningScheduleRepository = mock(RunningScheduleRepository.class);
+    private final WeatherService weatherService = mock(WeatherService.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final RunningScheduleService runningScheduleService = new RunningScheduleService(
+            runningScheduleRepository, new ScheduleWeatherEnricher(weatherService),
+            new ScheduleMonthCache(new SimpleMeterRegistry(), 10, Duration.ofMinutes(10)), mongoTemplate);
+
+    @Test
+    void pagesByDateAndIdCursor() {
+        String firstId = "652e1f77bcf86cd799439011";
+        String secondId = "652e1f77bcf86cd799439012";
+        when(mongoTemplate.find(any(Query.class), eq(RunningSchedule.class))).thenReturn(List.of(
+                schedule(firstId, "20251017", "0700", 60, 127),
+                schedule(secondId, "20251017", "1900", 60, 127)));
+
+        RunningSchedulePageDto page = runningScheduleService.getSchedulePageByDateRange("20251001", "20251031", null, 1, false);
+
+        assertThat(page.getItems()).extracting(RunningScheduleDto::getId).containsExactly(firstId);
+        assertThat(page.isHasNext()).isTrue();
+
+        runningScheduleService.getSchedulePageByDateRange("20251001", "20251031", page.getNextCursor(), 1, false);
+
+        // 다음 페이지는 직전 페이지 마지막 (날짜, ID) 이후부터 하나 더(limit + 1) 조회
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(query.capture(), eq(RunningSchedule.class));
+        Query nextQuery = query.getAllValues().get(1);
+        assertThat(nextQuery.getLimit()).isEqualTo(2);
+        assertThat(nextQuery.getQueryObject().toJson()).contains("20251017").contains(firstId);
+        assertThatThrownBy(() -> runningScheduleService.getSchedulePageByDateRange("20251001", "20251031", "not-a-cursor", 1, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RunningSchedule schedule(String id, String date, String startTime, int x, int y) {
+        RunningSchedule schedule = new RunningSchedule();
+        schedule.setId(id);
+        schedule.setDate(date);
+        schedule.setStartTime(startTime);
+        schedule.setX(x);
+        schedule.setY(y);
+        return schedule;
+    }
+}
@@ -0,0 +1,116 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.StockQuote;
+import com.tskim.portfolio.dto.stock.StockResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주식 시세 캐시의 동시 캐시 미스 단일 조회와 값 종류별 TTL(pollingInterval, min/max/default TTL, error-ttl)을
+ * 가짜 시계로 검증합니다.
+ */
+class StockQuoteCacheTest {
+
+    private static final String ITEM_CODE = "005930";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final StockQuoteCache stockQuoteCache = new StockQuoteCache(new SimpleMeterRegistry(),
+            1000, Duration.ofSeconds(1), Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofSeconds(1), nanos::get);
+
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+
+    @Test
+    void sharesOneLoadAmongConcurrentMisses() {
+        Function<List<String>, Mono<Map<String, StockQuoteCache.CachedStockQuote>>> slowLoader = itemCodes -> {
+            loaderCalls.incrementAndGet();
+            return Mono.just(itemCodes.stream()
+                            .collect(Collectors.toMap(Function.identity(), itemCode -> stockQuoteCache.success(quote(itemCode), 3000))))
+                    .delayElement(Duration.ofMillis(100));
+        };
+
+        Map<String, StockQuoteCache.CachedStockQuote> first = stockQuoteCache.getAll(List.of(ITEM_CODE, "000660"), slowLoader)
+                .zipWith(stockQuoteCache.getAll(List.of(ITEM_CODE), slowLoader), (a, b) -> a)
+                .block(Duration.ofSeconds(2));
+
+        // 조회 중인 종목을 다시 요청하면 진행 중인 조회 결과를 함께 기다림
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(first).containsOnlyKeys(ITEM_CODE, "000660");
+    }
+
+    @Test
+    void expiresSuccessAfterPollingInterval() {
+        load(stockQuoteCache.success(quote(ITEM_CODE), 3000));
+
+        assertThat(loadsAfter(Duration.ofMillis(2999))).isEqualTo(1);
+        assertThat(loadsAfter(Duration.ofMillis(1))).isEqualTo(2);
+    }
+
+    @Test
+    void clampsPollingIntervalToTtlRange() {
+        assertThat(stockQuoteCache.success(quote(ITEM_CODE), 100).ttlNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(stockQuoteCache.success(quote(ITEM_CODE), 600_000).ttlNanos()).isEqualTo(Duration.ofSeconds(60).toNanos());
+        assertThat(stockQuoteCache.success(quote(ITEM_CODE), null).ttlNanos()).isEqualTo(Duration.ofSeconds(5).toNanos());
+        assertThat(stockQuoteCache.success(quote(ITEM_CODE), 0).ttlNanos()).isEqualTo(Duration.ofSeconds(5).toNanos());
+
+        // pollingInterval이 없으면 default-ttl 동안 캐시
+        load(stockQuoteCache.success(quote(ITEM_CODE), null));
+
+        assertThat(loadsAfter(Duration.ofMillis(4999))).isEqualTo(1);
+        assertThat(loadsAfter(Duration.ofMillis(1))).isEqualTo(2);
+    }
+
+    @Test
+    void cachesFailureForErrorTtl() {
+        load(stockQuoteCache.failure("주식 정보 조회 중 오류가 발생했습니다"));
+
+        // 장애 중에도 error-ttl 동안은 업스트림을 다시 호출하지 않음
+        assertThat(loadsAfter(Duration.ofMillis(999))).isEqualTo(1);
+        assertThat(loadsAfter(Duration.ofMillis(1))).isEqualTo(2);
+    }
+
+    @Test
+    void cachesStaleQuoteForErrorTtl() {
+        Instant fetchedAt = Instant.now().minusSeconds(30);
+        Map<String, StockQuoteCache.CachedStockQuote> cached = load(stockQuoteCache.stale(quote(ITEM_CODE), fetchedAt));
+
+        assertThat(cached.get(ITEM_CODE).staleFetchedAt()).isEqualTo(fetchedAt);
+        assertThat(loadsAfter(Duration.ofMillis(999))).isEqualTo(1);
+        assertThat(loadsAfter(Duration.ofMillis(1))).isEqualTo(2);
+    }
+
+    /**
+     * 가짜 시계를 elapsed만큼 진행한 뒤 다시 조회하고, 지금까지의 loader 호출 수를 반환합니다.
+     */
+    private int loadsAfter(Duration elapsed) {
+        nanos.addAndGet(elapsed.toNanos());
+        load(stockQuoteCache.success(quote(ITEM_CODE), 3000));
+        return loaderCalls.get();
+    }
+
+    private Map<String, StockQuoteCache.CachedStockQuote> load(StockQuoteCache.CachedStockQuote value) {
+        return stockQuoteCache.getAll(List.of(ITEM_CODE), itemCodes -> {
+            loaderCalls.incrementAndGet();
+            return Mono.just(Map.of(ITEM_CODE, value));
+        }).block(Duration.ofSeconds(2));
+    }
+
+    private static StockQuote quote(String itemCode) {
+        StockResponseDto.StockData stockData = new StockResponseDto.StockData();
+        stockData.setItemCode(itemCode);
+        stockData.setStockName("삼성전자");
+        stockData.setClosePrice("71,500");
+        return StockQuote.from(stockData);
+    }
+}
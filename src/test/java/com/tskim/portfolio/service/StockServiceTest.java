@@ -0,0 +1,132 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.stock.StockBatchResultDto;
+import com.tskim.portfolio.dto.stock.StockInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주식 시세 fan-out 조회(batch-size 단위 묶음 호출, deadline 이후 응답 제외, 묶음 실패 시 종목별 재조회, 종목별 오류 목록)를
+ * 네이버 API 대신 요청을 기록하는 ExchangeFunction으로 검증합니다.
+ */
+class StockServiceTest {
+
+    private static final String NAVER_BASE_URL = "https://polling.finance.naver.com/api/realtime/domestic/stock";
+
+    // 네이버에 없는 종목 (묶음에 포함되면 네이버가 500으로 전체 요청을 실패)
+    private static final String INVALID_CODE = "999999";
+
+    // 네이버 응답에서 빠지는 종목
+    private static final String MISSING_CODE = "000000";
+
+    // 응답이 늦는 종목
+    private static final String SLOW_CODE = "000660";
+
+    private final List<String> requestedCodes = new CopyOnWriteArrayList<>();
+
+    @Test
+    void batchesCodesByBatchSize() {
+        StockService stockService = newStockService(2, Duration.ofSeconds(2));
+
+        StockBatchResultDto result = stockService.getStocksInfoReactive(List.of("005930", "035420", "005380"))
+                .block(Duration.ofSeconds(2));
+
+        // 캐시 미스 종목 3개를 2개 + 1개 묶음으로 호출 (묶음 안의 종목 순서는 캐시가 정함)
+        assertThat(requestedCodes).extracting(codes -> codes.split(",").length).containsExactlyInAnyOrder(2, 1);
+        assertThat(requestedCodes.stream().flatMap(codes -> Arrays.stream(codes.split(","))))
+                .containsExactlyInAnyOrder("005930", "035420", "005380");
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getStocks()).extracting(StockInfoDto::getItemCode).containsExactly("005930", "035420", "005380");
+        assertThat(result.getStocks().get(0).getClosePrice()).isEqualTo("71,500");
+    }
+
+    @Test
+    void reportsCodesPastDeadlineAsErrors() {
+        StockService stockService = newStockService(1, Duration.ofMillis(300));
+
+        long startedAt = System.nanoTime();
+        StockBatchResultDto result = stockService.getStocksInfoReactive(List.of("005930", SLOW_CODE, "035420"))
+                .block(Duration.ofSeconds(2));
+
+        // 늦는 종목을 기다리지 않고 deadline에 응답
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getStocks()).extracting(StockInfoDto::getItemCode).containsExactly("005930", "035420");
+        assertThat(result.getErrors()).containsExactly(new StockBatchResultDto.ItemError(SLOW_CODE, "응답 시간이 초과되었습니다"));
+    }
+
+    @Test
+    void retriesEachCodeAloneWhenBatchCallFails() {
+        StockService stockService = newStockService(10, Duration.ofSeconds(2));
+
+        StockBatchResultDto result = stockService.getStocksInfoReactive(List.of("005930", INVALID_CODE, MISSING_CODE))
+                .block(Duration.ofSeconds(2));
+
+        // 묶음 호출 1번 + 종목별 단독 재조회 3번
+        assertThat(requestedCodes).hasSize(4);
+        assertThat(requestedCodes.get(0).split(",")).containsExactlyInAnyOrder("005930", INVALID_CODE, MISSING_CODE);
+        assertThat(requestedCodes.subList(1, 4)).containsExactlyInAnyOrder("005930", INVALID_CODE, MISSING_CODE);
+
+        // 잘못된 종목이 섞인 묶음이 실패해도 정상 종목은 응답하고, 실패 종목만 오류 목록으로
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getStocks()).extracting(StockInfoDto::getItemCode).containsExactly("005930");
+        assertThat(result.getErrors()).containsExactly(
+                new StockBatchResultDto.ItemError(INVALID_CODE, "주식 정보 조회 중 오류가 발생했습니다"),
+                new StockBatchResultDto.ItemError(MISSING_CODE, "해당 종목 정보를 찾을 수 없습니다"));
+    }
+
+    private StockService newStockService(int batchSize, Duration deadline) {
+        WebClient naverWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    String codes = path.substring(path.lastIndexOf('/') + 1);
+                    requestedCodes.add(codes);
+                    if (codes.contains(INVALID_CODE)) {
+                        return Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                    }
+                    String datas = Arrays.stream(codes.split(","))
+                            .filter(code -> !code.equals(MISSING_CODE))
+                            .map(code -> "{\"itemCode\":\"" + code + "\",\"stockName\":\"종목" + code + "\",\"closePrice\":\"71,500\"}")
+                            .collect(Collectors.joining(","));
+                    Mono<ClientResponse> response = Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"pollingInterval\":7000,\"datas\":[" + datas + "]}")
+                            .build());
+                    return codes.contains(SLOW_CODE) ? response.delayElement(Duration.ofSeconds(1)) : response;
+                })
+                .build();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UpstreamGuard upstreamGuard = new UpstreamGuard(new UpstreamMetrics(meterRegistry), meterRegistry,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2),
+                20, 10, 50, Duration.ofSeconds(30),
+                false, 0.95, 20, Duration.ofMillis(50), Duration.ofSeconds(1));
+        StockQuoteCache stockQuoteCache = new StockQuoteCache(meterRegistry,
+                1000, Duration.ofSeconds(1), Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        StockService stockService = new StockService(naverWebClient, stockQuoteCache,
+                mock(AlertRuleService.class), mock(NotificationDispatcher.class), mock(QuoteTickRecorder.class),
+                upstreamGuard, new LastKnownValues(Duration.ofHours(1)));
+        ReflectionTestUtils.setField(stockService, "naverBaseUrl", NAVER_BASE_URL);
+        ReflectionTestUtils.setField(stockService, "fanOutConcurrency", 4);
+        ReflectionTestUtils.setField(stockService, "fanOutBatchSize", batchSize);
+        ReflectionTestUtils.setField(stockService, "fanOutDeadline", deadline);
+        return stockService;
+    }
+}
@@ -0,0 +1,125 @@
+package com.tskim.portfolio.service;
+
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업비트 시세 요청 묶음 처리(window 안의 요청은 한 번의 호출로 조회, max-markets에서 분리, 묶음 실패 시 요청별 재조회)를
+ * 업비트 API 대신 요청을 기록하는 ExchangeFunction으로 검증합니다.
+ */
+class UpbitTickerBatcherTest {
+
+    // 업비트에 없는 마켓 (묶음에 포함되면 업비트가 404로 전체 요청을 거절)
+    private static final String UNKNOWN_MARKET = "KRW-UNKNOWN";
+
+    private final List<String> requestedMarkets = new CopyOnWriteArrayList<>();
+
+    @Test
+    void sharesOneCallWithinWindow() {
+        UpbitTickerBatcher batcher = newBatcher(Duration.ofMillis(100), 100);
+
+        Mono<List<CryptoQuote>> btc = batcher.fetch(List.of("KRW-BTC"));
+        Mono<List<CryptoQuote>> ethAndBtc = batcher.fetch(List.of("KRW-ETH", "KRW-BTC"));
+        Mono<List<CryptoQuote>> xrp = batcher.fetch(List.of("KRW-XRP"));
+
+        List<List<CryptoQuote>> results = Mono.zip(btc, ethAndBtc, xrp)
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(Duration.ofSeconds(2));
+
+        assertThat(requestedMarkets).containsExactly("KRW-BTC,KRW-ETH,KRW-XRP");
+        assertThat(results.get(0)).extracting(CryptoQuote::market).containsExactly("KRW-BTC");
+        assertThat(results.get(1)).extracting(CryptoQuote::market).containsExactly("KRW-ETH", "KRW-BTC");
+        assertThat(results.get(2)).extracting(CryptoQuote::market).containsExactly("KRW-XRP");
+    }
+
+    @Test
+    void flushesWhenBatchReachesMaxMarkets() {
+        UpbitTickerBatcher batcher = newBatcher(Duration.ofMillis(100), 2);
+
+        Mono<List<CryptoQuote>> first = batcher.fetch(List.of("KRW-BTC"));
+        Mono<List<CryptoQuote>> second = batcher.fetch(List.of("KRW-ETH"));
+        Mono<List<CryptoQuote>> third = batcher.fetch(List.of("KRW-XRP"));
+
+        Mono.zip(first, second, third).block(Duration.ofSeconds(2));
+
+        // 마켓 2개가 모이면 바로 호출하고, 이후 요청은 다음 묶음으로
+        assertThat(requestedMarkets).containsExactlyInAnyOrder("KRW-BTC,KRW-ETH", "KRW-XRP");
+    }
+
+    @Test
+    void retriesEachCallerAloneWhenSharedCallFails() {
+        UpbitTickerBatcher batcher = newBatcher(Duration.ofMillis(100), 100);
+
+        Mono<List<CryptoQuote>> btc = batcher.fetch(List.of("KRW-BTC"));
+        Mono<List<CryptoQuote>> unknown = batcher.fetch(List.of(UNKNOWN_MARKET));
+
+        AtomicReference<Throwable> unknownError = new AtomicReference<>();
+        List<CryptoQuote> btcResult = Mono.zip(btc, unknown.onErrorResume(e -> {
+                    unknownError.set(e);
+                    return Mono.just(List.of());
+                }))
+                .map(Tuple2::getT1)
+                .block(Duration.ofSeconds(2));
+
+        // 잘못된 마켓이 섞인 묶음이 실패해도 정상 마켓 요청은 단독 재조회로 응답
+        assertThat(btcResult).extracting(CryptoQuote::market).containsExactly("KRW-BTC");
+        assertThat(unknownError.get()).isInstanceOf(WebClientResponseException.NotFound.class);
+
+        // 묶음 호출 1번 + 요청별 단독 재조회 2번
+        assertThat(requestedMarkets).containsExactlyInAnyOrder("KRW-BTC," + UNKNOWN_MARKET, "KRW-BTC", UNKNOWN_MARKET);
+    }
+
+    private UpbitTickerBatcher newBatcher(Duration window, int maxMarkets) {
+        WebClient upbitWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String markets = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().getFirst("markets");
+                    requestedMarkets.add(markets);
+                    if (markets.contains(UNKNOWN_MARKET)) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("{\"error\":{\"name\":404,\"message\":\"Code not found\"}}")
+                                .build());
+                    }
+                    String body = Arrays.stream(markets.split(","))
+                            .map(market -> "{\"market\":\"" + market + "\",\"trade_price\":1000.0}")
+                            .collect(Collectors.joining(",", "[", "]"));
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UpstreamGuard upstreamGuard = new UpstreamGuard(new UpstreamMetrics(meterRegistry), meterRegistry,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2),
+                20, 10, 50, Duration.ofSeconds(30),
+                false, 0.95, 20, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        UpbitTickerBatcher batcher = new UpbitTickerBatcher(upbitWebClient, upstreamGuard);
+        ReflectionTestUtils.setField(batcher, "tickerUrl", "https://api.upbit.com/v1/ticker");
+        ReflectionTestUtils.setField(batcher, "window", window);
+        ReflectionTestUtils.setField(batcher, "maxMarkets", maxMarkets);
+        return batcher;
+    }
+}
@@ -0,0 +1,124 @@
+package com.tskim.portfolio.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 웹소켓 서버를 업비트 대신 띄워 시세 수신, 재연결, 재구독을 검증합니다.
+ */
+class UpbitTickerStreamServiceTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<String> subscribeMessages = new CopyOnWriteArrayList<>();
+
+    private DisposableServer upbitStub;
+    private CryptoTickerStore cryptoTickerStore;
+    private CryptoService cryptoService;
+    private UpbitTickerStreamService upbitTickerStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // 첫 번째 연결은 시세 1건 전송 후 종료, 이후 연결은 시세 1건 전송 후 유지
+        upbitStub = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.ws("/websocket/v1", (in, out) -> {
+                    int connection = connections.incrementAndGet();
+                    String price = connection == 1 ? "150000000.0" : "151000000.0";
+
+                    // 첫 프레임(구독 요청)을 받으면 시세 1건 전송
+                    Flux<String> replies = in.receiveFrames()
+                            .map(frame -> frame.content().toString(StandardCharsets.UTF_8))
+                            .index()
+                            .concatMap(indexed -> {
+                                if (indexed.getT1() > 0) {
+                                    return Mono.<String>empty();
+                                }
+                                subscribeMessages.add(indexed.getT2());
+                                return out.sendByteArray(Mono.just(ticker("KRW-BTC", price).getBytes(StandardCharsets.UTF_8)))
+                                        .then()
+                                        .thenReturn(price);
+                            });
+
+                    return connection == 1 ? replies.take(1).then(out.sendClose()) : replies.then();
+                }))
+                .bindNow();
+
+        cryptoTickerStore = new CryptoTickerStore();
+        ReflectionTestUtils.setField(cryptoTickerStore, "staleAfter", Duration.ofSeconds(30));
+
+        cryptoService = mock(CryptoService.class);
+
+        upbitTickerStreamService = new UpbitTickerStreamService(
+                new ReactorNettyWebSocketClient(),
+                cryptoTickerStore,
+                cryptoService,
+                mock(AlertRuleService.class),
+                mock(QuoteTickRecorder.class),
+                Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(upbitTickerStreamService, "enabled", true);
+        ReflectionTestUtils.setField(upbitTickerStreamService, "url", "ws://localhost:" + upbitStub.port() + "/websocket/v1");
+        ReflectionTestUtils.setField(upbitTickerStreamService, "staleAfter", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(upbitTickerStreamService, "pingInterval", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(upbitTickerStreamService, "minBackoff", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(upbitTickerStreamService, "maxBackoff", Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        upbitTickerStreamService.stop();
+        upbitStub.disposeNow();
+    }
+
+    @Test
+    void storesLatestTickerAndResubscribesAfterDisconnect() {
+        upbitTickerStreamService.start();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(connections.get()).isEqualTo(2);
+            assertThat(cryptoTickerStore.get("KRW-BTC")).isNotNull();
+            assertThat(cryptoTickerStore.get("KRW-BTC").tradePrice()).isEqualTo(151_000_000_0000L);
+        });
+
+        assertThat(cryptoTickerStore.isStreamAlive()).isTrue();
+        assertThat(cryptoTickerStore.get("KRW-BTC").tradeTimeKst()).isNotNull();
+        assertThat(subscribeMessages).hasSize(2)
+                .allSatisfy(message -> assertThat(message).contains("\"type\":\"ticker\"").contains("KRW-BTC"));
+        verify(cryptoService, times(2)).checkTargetPriceNotification(argThat(ticker -> "KRW-BTC".equals(ticker.market())));
+    }
+
+    @Test
+    void servesNothingFromStoreWhenStreamIsDown() {
+        assertThat(cryptoTickerStore.isStreamAlive()).isFalse();
+        assertThat(cryptoTickerStore.getAllIfAvailable(List.of("KRW-BTC"))).isNull();
+    }
+
+    private static String ticker(String market, String tradePrice) {
+        return """
+                {"type":"ticker","code":"%s","trade_price":%s,"change":"RISE","change_price":1000000.0,
+                 "change_rate":0.0067,"opening_price":149000000.0,"high_price":152000000.0,"low_price":148000000.0,
+                 "trade_volume":0.01,"acc_trade_price_24h":1.0E11,"acc_trade_volume_24h":700.0,
+                 "trade_timestamp":1760000000000,"timestamp":1760000000100,"stream_type":"REALTIME"}
+                """.formatted(market, tradePrice);
+    }
+}
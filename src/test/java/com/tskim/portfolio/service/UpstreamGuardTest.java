@@ -0,0 +1,94 @@
+package com.tskim.portfolio.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 업스트림 서킷 브레이커와 헤지 요청을 검증합니다.
+ */
+class UpstreamGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void opensAfterFailuresAndClosesAfterProbe() throws InterruptedException {
+        // 최근 4건 중 50% 이상 실패하면 100ms 동안 열림, 헤지 없음
+        UpstreamGuard guard = newGuard(Duration.ofMillis(100), false);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.error(new RuntimeException("503"));
+        Mono<String> notFound = Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "not found", null, null, null));
+
+        // 4xx는 실패로 집계하지 않음
+        for (int i = 0; i < 4; i++) {
+            callIgnoringError(guard, notFound);
+        }
+        assertThat(state()).isEqualTo(UpstreamGuard.State.CLOSED.ordinal());
+
+        // 최근 4건 중 2건 실패
+        callIgnoringError(guard, failing);
+        assertThat(state()).isEqualTo(UpstreamGuard.State.CLOSED.ordinal());
+        callIgnoringError(guard, failing);
+        assertThat(state()).isEqualTo(UpstreamGuard.State.OPEN.ordinal());
+
+        // 열려 있는 동안에는 호출하지 않고 바로 실패
+        assertThatThrownBy(() -> guard.call(UpstreamMetrics.UPBIT, () -> {
+            calls.incrementAndGet();
+            return Mono.just("ok");
+        }).block()).isInstanceOf(UpstreamGuard.CircuitOpenException.class);
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("upstream.circuit.rejected").tag("upstream", UpstreamMetrics.UPBIT).counter().count()).isEqualTo(1);
+
+        // open-duration 후 시험 호출이 성공하면 닫힘
+        Thread.sleep(150);
+        assertThat(guard.call(UpstreamMetrics.UPBIT, () -> Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(state()).isEqualTo(UpstreamGuard.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void hedgesSlowCallAndUsesFirstResponse() {
+        UpstreamGuard guard = newGuard(Duration.ofSeconds(30), true);
+
+        // 빠른 성공 호출로 헤지 기준 지연을 min-delay(20ms)로 맞춤
+        assertThat(guard.call(UpstreamMetrics.UPBIT, () -> Mono.just("warm")).block()).isEqualTo("warm");
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = guard.call(UpstreamMetrics.UPBIT, () -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofSeconds(1)).thenReturn("primary")
+                        : Mono.just("hedged"))
+                .block(Duration.ofMillis(500));
+
+        assertThat(result).isEqualTo("hedged");
+        assertThat(attempts).hasValue(2);
+        assertThat(meterRegistry.get("upstream.hedges").tag("upstream", UpstreamMetrics.UPBIT).counter().count()).isEqualTo(1);
+        // 늦은 첫 요청은 취소 (응답을 받은 스레드에서 이어서 취소되므로 기다림)
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> assertThat(meterRegistry.find("upstream.requests")
+                .tag("upstream", UpstreamMetrics.UPBIT).tag("outcome", "CANCELLED").timer())
+                .isNotNull()
+                .extracting(timer -> timer.count()).isEqualTo(1L));
+    }
+
+    private UpstreamGuard newGuard(Duration openDuration, boolean hedgeEnabled) {
+        return new UpstreamGuard(new UpstreamMetrics(meterRegistry), meterRegistry,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2),
+                4, 4, 50, openDuration,
+                hedgeEnabled, 0.95, 1, Duration.ofMillis(20), Duration.ofMillis(200));
+    }
+
+    private void callIgnoringError(UpstreamGuard guard, Mono<String> call) {
+        guard.call(UpstreamMetrics.UPBIT, () -> call).onErrorResume(e -> Mono.empty()).block();
+    }
+
+    private double state() {
+        return meterRegistry.get("upstream.circuit.state").tag("upstream", UpstreamMetrics.UPBIT).gauge().value();
+    }
+}
@@ -0,0 +1,66 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업스트림 호출 타이머의 결과(outcome) 태그와 파싱 실패 카운터를 검증합니다.
+ */
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamMetrics upstreamMetrics = new UpstreamMetrics(meterRegistry);
+
+    @Test
+    void recordsOutcomePerCall() {
+        assertThat(upstreamMetrics.timed(UpstreamMetrics.UPBIT, Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(upstreamMetrics.timed(UpstreamMetrics.UPBIT, Mono.just("ok")).block()).isEqualTo("ok");
+
+        assertThatThrownBy(() -> upstreamMetrics.timed(UpstreamMetrics.UPBIT, Mono.never().timeout(Duration.ofMillis(10))).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> upstreamMetrics.timed(UpstreamMetrics.NAVER,
+                Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "unavailable", null, null, null))).block())
+                .isInstanceOf(WebClientResponseException.class);
+
+        assertThat(count(UpstreamMetrics.UPBIT, "SUCCESS")).isEqualTo(2);
+        assertThat(count(UpstreamMetrics.UPBIT, "TIMEOUT")).isEqualTo(1);
+        assertThat(count(UpstreamMetrics.NAVER, "SERVER_ERROR")).isEqualTo(1);
+        assertThat(meterRegistry.find("upstream.parse.failures").counter()).isNull();
+    }
+
+    @Test
+    void countsParseFailures() {
+        // WebClient 디코딩 실패와 KmaForecast 파싱 실패(Jackson 예외를 감싼 RuntimeException)
+        Mono<Object> decodingFailure = Mono.error(new DecodingException("JSON decoding error", new JsonParseException(null, "Unexpected character")));
+        Mono<Object> kmaParseFailure = Mono.error(new RuntimeException("기상청 API 응답 파싱 실패", new JsonParseException(null, "Unexpected end-of-input")));
+        Mono<Object> kmaApiError = Mono.error(new RuntimeException("기상청 API 오류: 03 NO_DATA"));
+
+        assertThatThrownBy(() -> upstreamMetrics.timed(UpstreamMetrics.UPBIT, decodingFailure).block()).isInstanceOf(DecodingException.class);
+        assertThatThrownBy(() -> upstreamMetrics.timed(UpstreamMetrics.KMA, kmaParseFailure).block()).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> upstreamMetrics.timed(UpstreamMetrics.KMA, kmaApiError).block()).isInstanceOf(RuntimeException.class);
+
+        assertThat(count(UpstreamMetrics.UPBIT, "PARSE_ERROR")).isEqualTo(1);
+        assertThat(count(UpstreamMetrics.KMA, "PARSE_ERROR")).isEqualTo(1);
+        assertThat(count(UpstreamMetrics.KMA, "ERROR")).isEqualTo(1);
+        assertThat(meterRegistry.get("upstream.parse.failures").tag("upstream", UpstreamMetrics.KMA).counter().count()).isEqualTo(1);
+    }
+
+    private long count(String upstream, String outcome) {
+        return meterRegistry.get("upstream.requests")
+                .tag("upstream", upstream)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tskim.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tskim.portfolio.dto.quote.CryptoQuote;
+import com.tskim.portfolio.dto.quote.FixedPoint;
+import com.tskim.portfolio.dto.quote.StockQuote;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워밍 스타트 스냅샷 저장과 복원을 검증합니다.
+ */
+class WarmStartSnapshotTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void restoresLastKnownValuesAcrossRestart() {
+        Path path = tempDir.resolve("snapshot/warm-start-snapshot.json.gz");
+        WeatherForecastCache.ForecastKey key = new WeatherForecastCache.ForecastKey("20261017", "0600", 60, 127);
+
+        LastKnownValues before = new LastKnownValues(Duration.ofHours(1));
+        before.cryptoQuotes().put("KRW-BTC", cryptoQuote("KRW-BTC", 95_000_000));
+        before.stockQuotes().put("005930", stockQuote("005930", 71_500));
+        before.forecasts().put(key, KmaForecast.of("20261017", "0600",
+                Map.of(KmaForecast.Category.T1H, "12.5", KmaForecast.Category.SKY, "1")));
+        new WarmStartSnapshot(before, objectMapper, true, path).saveOnShutdown();
+        assertThat(path).exists();
+
+        LastKnownValues after = new LastKnownValues(Duration.ofHours(1));
+        new WarmStartSnapshot(after, objectMapper, true, path).load();
+
+        StaleValueStore.Stamped<CryptoQuote> crypto = after.cryptoQuotes().getRestored("KRW-BTC");
+        assertThat(crypto.value()).isEqualTo(cryptoQuote("KRW-BTC", 95_000_000));
+        assertThat(crypto.fetchedAt()).isEqualTo(before.cryptoQuotes().get("KRW-BTC").fetchedAt());
+        assertThat(after.stockQuotes().getRestored("005930").value()).isEqualTo(stockQuote("005930", 71_500));
+
+        KmaForecast forecast = after.forecasts().getRestored(key).value();
+        assertThat(forecast.getFcstTime()).isEqualTo("0600");
+        assertThat(forecast.get(KmaForecast.Category.T1H)).isEqualTo("12.5");
+        assertThat(forecast.get(KmaForecast.Category.RN1)).isNull();
+
+        // 새로 받으면 복원 값이 아님
+        after.cryptoQuotes().put("KRW-BTC", cryptoQuote("KRW-BTC", 96_000_000));
+        assertThat(after.cryptoQuotes().getRestored("KRW-BTC")).isNull();
+        assertThat(after.cryptoQuotes().get("KRW-BTC").restored()).isFalse();
+    }
+
+    @Test
+    void skipsValuesOlderThanMaxAgeAndUnreadableFiles() throws Exception {
+        Path path = tempDir.resolve("warm-start-snapshot.json.gz");
+        Instant now = Instant.now();
+        WarmStartSnapshot.Snapshot snapshot = new WarmStartSnapshot.Snapshot(WarmStartSnapshot.VERSION, now,
+                List.of(new WarmStartSnapshot.QuoteEntry<>("KRW-BTC", cryptoQuote("KRW-BTC", 1), now.minus(Duration.ofHours(2))),
+                        new WarmStartSnapshot.QuoteEntry<>("KRW-ETH", cryptoQuote("KRW-ETH", 2), now.minus(Duration.ofMinutes(10)))),
+                List.of(), List.of());
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            objectMapper.writeValue(out, snapshot);
+        }
+
+        LastKnownValues lastKnownValues = new LastKnownValues(Duration.ofHours(1));
+        new WarmStartSnapshot(lastKnownValues, objectMapper, true, path).load();
+        assertThat(lastKnownValues.cryptoQuotes().getRestored("KRW-BTC")).isNull();
+        assertThat(lastKnownValues.cryptoQuotes().getRestored("KRW-ETH").age()).isGreaterThanOrEqualTo(Duration.ofMinutes(10));
+
+        // 깨진 파일은 무시하고 빈 상태로 시작
+        Files.writeString(path, "not gzip");
+        LastKnownValues empty = new LastKnownValues(Duration.ofHours(1));
+        new WarmStartSnapshot(empty, objectMapper, true, path).load();
+        assertThat(empty.cryptoQuotes().entries()).isEmpty();
+    }
+
+    private static CryptoQuote cryptoQuote(String market, long tradePrice) {
+        long price = FixedPoint.parse(String.valueOf(tradePrice), FixedPoint.PRICE_SCALE);
+        return new CryptoQuote(market, price, 0, 0, "EVEN", price, price, price, 0, 0, "0", "0",
+                FixedPoint.NaN, FixedPoint.NaN, "093000", 1_760_000_000_000L);
+    }
+
+    private static StockQuote stockQuote(String itemCode, long closePrice) {
+        long price = FixedPoint.parse(String.valueOf(closePrice), FixedPoint.PRICE_SCALE);
+        return new StockQuote(itemCode, "삼성전자", price, 0, 0, "UNCHANGED", price, price, price, 0,
+                "1,000백만", "OPEN", "2026-10-17T09:30:00+09:00", "KRW");
+    }
+}
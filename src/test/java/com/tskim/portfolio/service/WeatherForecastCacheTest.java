@@ -0,0 +1,69 @@
+package com.tskim.portfolio.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기상청 예보 캐시의 발표 시각 기준 만료와 단일 조회(single-flight)를 검증합니다.
+ */
+class WeatherForecastCacheTest {
+
+    private final WeatherForecastCache weatherForecastCache = new WeatherForecastCache(new SimpleMeterRegistry(), 100);
+
+    @Test
+    void expiresAtNextReleaseBoundary() {
+        assertThat(WeatherForecastCache.untilNextRelease(at("2025-10-17T10:44:30+09:00"))).isEqualTo(Duration.ofSeconds(30));
+        assertThat(WeatherForecastCache.untilNextRelease(at("2025-10-17T10:45:00+09:00"))).isEqualTo(Duration.ofHours(1));
+        assertThat(WeatherForecastCache.untilNextRelease(at("2025-10-17T23:50:00+09:00"))).isEqualTo(Duration.ofMinutes(55));
+        // 다른 시간대의 시각도 KST 발표 시각 기준으로 계산
+        assertThat(WeatherForecastCache.untilNextRelease(at("2025-10-17T01:40:00Z"))).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void loadsEachKeyOnceAndDoesNotCacheFailures() {
+        WeatherForecastCache.ForecastKey key = new WeatherForecastCache.ForecastKey("20251017", "1030", 60, 127);
+        AtomicInteger calls = new AtomicInteger();
+        KmaForecast response = forecast();
+
+        Mono<KmaForecast> first = weatherForecastCache.get(key, missingKey -> {
+            calls.incrementAndGet();
+            return Mono.just(response).delayElement(Duration.ofMillis(200));
+        });
+        Mono<KmaForecast> second = weatherForecastCache.get(key, missingKey -> {
+            calls.incrementAndGet();
+            return Mono.just(forecast());
+        });
+
+        Tuple2<KmaForecast, KmaForecast> results = Mono.zip(first, second).block();
+        assertThat(results.getT1()).isSameAs(response);
+        assertThat(results.getT2()).isSameAs(response);
+        assertThat(calls).hasValue(1);
+
+        WeatherForecastCache.ForecastKey failingKey = new WeatherForecastCache.ForecastKey("20251017", "1130", 60, 127);
+        assertThatThrownBy(() -> weatherForecastCache.get(failingKey, missingKey -> Mono.error(new RuntimeException("기상청 API 오류"))).block())
+                .hasMessage("기상청 API 오류");
+        assertThat(weatherForecastCache.get(failingKey, missingKey -> Mono.just(response)).block()).isSameAs(response);
+    }
+
+    private static KmaForecast forecast() {
+        String body = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                 "body":{"items":{"item":[{"category":"T1H","fcstDate":"20251017","fcstTime":"1030","fcstValue":"18"}]}}}}
+                """;
+        return KmaForecast.parse(body.getBytes(StandardCharsets.UTF_8), "20251017", "1030");
+    }
+
+    private static ZonedDateTime at(String dateTime) {
+        return ZonedDateTime.parse(dateTime);
+    }
+}